@@ -0,0 +1,41 @@
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.adapters.input.protocols.TaskResponse;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+
+/**
+ * Cost of mapping a domain task to the wire record, paid once per task in every response.
+ */
+@State(Scope.Benchmark)
+public class TaskControllerBenchmark {
+    private TaskController controller;
+    private Task task;
+    private TaskView view;
+
+    @Setup
+    public void setUp() {
+        // toResponse touches no collaborators
+        controller = new TaskController(null, null, null, null, null, null, null, null, null, null, null, null);
+        Instant now = Instant.parse("2025-01-01T12:00:00Z");
+        task = new Task(42L, "Benchmark task", "Mapped on every response", TaskStatus.PENDING, now, now, 3L);
+        view = TaskView.of(task);
+    }
+
+    @Benchmark
+    public TaskResponse toResponse() {
+        return controller.toResponse(task);
+    }
+
+    @Benchmark
+    public TaskResponse toResponseFromView() {
+        return controller.toResponse(view);
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.TasklistApplication;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskResponse;
+import br.com.jtech.tasklist.adapters.output.repositories.TaskRepositoryAdapter;
+import br.com.jtech.tasklist.adapters.output.repositories.TaskSpringDataRepository;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * One GET /tasks page read from H2 in a read-only transaction: managed TaskEntity rows through
+ * {@code findAll} → Task → TaskResponse against the TaskView projection of {@code findViews} →
+ * TaskResponse, both with the production mappers. {@code gc.alloc.rate.norm} gives the bytes per
+ * page, including Hibernate's entity materialization on the first path.
+ */
+@State(Scope.Benchmark)
+public class TaskListMappingBenchmark {
+    private static final int ROWS = 1_000;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskSpringDataRepository repository;
+    private TaskRepositoryAdapter adapter;
+    private TaskController controller;
+    private TransactionTemplate readOnly;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TasklistApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:list_mapping_benchmark;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run();
+        repository = context.getBean(TaskSpringDataRepository.class);
+        adapter = context.getBean(TaskRepositoryAdapter.class);
+        controller = context.getBean(TaskController.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        Instant now = Instant.parse("2025-01-01T12:00:00Z");
+        adapter.insertAll(LongStream.rangeClosed(1, ROWS)
+                .mapToObj(i -> new Task(null, "List task " + i, "Benchmark row with a moderately long description",
+                        TaskStatus.PENDING, now.plusSeconds(i), now.plusSeconds(i), 0L))
+                .toList());
+        pageable = PageRequest.of(0, pageSize, Sort.by("id"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponse> entityPath() {
+        return readOnly.execute(status -> repository.findAll(pageable).getContent().stream()
+                .map(adapter::toDomain)
+                .map(controller::toResponse)
+                .toList());
+    }
+
+    @Benchmark
+    public List<TaskResponse> viewPath() {
+        return readOnly.execute(status -> adapter.findAll(pageable).getContent().stream()
+                .map(controller::toResponse)
+                .toList());
+    }
+}
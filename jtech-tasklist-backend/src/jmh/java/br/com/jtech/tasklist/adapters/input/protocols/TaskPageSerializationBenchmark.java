@@ -0,0 +1,46 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Serialization of a GET /tasks page, including the {@code @JsonFormat} pattern on the Instant fields.
+ */
+@State(Scope.Benchmark)
+public class TaskPageSerializationBenchmark {
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<TaskResponse> page;
+
+    @Setup
+    public void setUp() {
+        // Same modules and defaults as the ObjectMapper Spring Boot configures
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        Instant now = Instant.parse("2025-01-01T12:00:00Z");
+        List<TaskResponse> content = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> new TaskResponse(id, "Task " + id, "Serialized in a page", TaskStatus.PENDING,
+                        now.plusSeconds(id), now.plusSeconds(id), 0L))
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
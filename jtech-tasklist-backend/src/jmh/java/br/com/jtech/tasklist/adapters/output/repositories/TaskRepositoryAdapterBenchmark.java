@@ -0,0 +1,40 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskEntity;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+
+/**
+ * The entity/domain copies made for every row read or written through the JPA adapter.
+ */
+@State(Scope.Benchmark)
+public class TaskRepositoryAdapterBenchmark {
+    private TaskRepositoryAdapter adapter;
+    private Task task;
+    private TaskEntity entity;
+
+    @Setup
+    public void setUp() {
+        // The mappers touch neither repository
+        adapter = new TaskRepositoryAdapter(null, null);
+        Instant now = Instant.parse("2025-01-01T12:00:00Z");
+        task = new Task(42L, "Benchmark task", "Copied per row", TaskStatus.DONE, now, now, 3L);
+        entity = new TaskEntity(42L, "Benchmark task", "Copied per row", TaskStatus.DONE, now, now, 3L);
+    }
+
+    @Benchmark
+    public TaskEntity toEntity() {
+        return adapter.toEntity(task);
+    }
+
+    @Benchmark
+    public Task toDomain() {
+        return adapter.toDomain(entity);
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.jtech.tasklist.adapters.output.search;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution (p50/p95/p99 from sample mode) of the in-memory search index, the H2 engine
+ * behind GET /tasks/search, over 1M tasks: words from very common (in most tasks) to rare, alone,
+ * combined and with the web search operators. Word frequencies are heavily skewed, as in real text.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+// 1M tasks take a few hundred MB of postings
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class InvertedTaskSearchIndexBenchmark {
+    private static final int TASKS = 1_000_000;
+    private static final int VOCABULARY = 5_000;
+    private static final int LIMIT = 21;
+
+    @Param({"w0", "w10", "w200", "w3000", "w0 w10", "w10 w200", "w0 w3000", "w200 or w3000", "w10 -w0"})
+    public String query;
+
+    private InvertedTaskSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new InvertedTaskSearchIndex();
+        Instant now = Instant.parse("2025-01-01T12:00:00Z");
+        for (long id = 1; id <= TASKS; id++) {
+            index.put(new Task(id, words(random, 3 + random.nextInt(4)), words(random, 8 + random.nextInt(8)),
+                    TaskStatus.PENDING, now, now, 0L));
+        }
+    }
+
+    @Benchmark
+    public List<TaskSearchIndex.Match> search() {
+        return index.search(query, null, LIMIT);
+    }
+
+    // Cubing a uniform draw skews picks towards the first words: w0 lands in most tasks, w3000 in few
+    private static String words(Random random, int count) {
+        StringJoiner text = new StringJoiner(" ");
+        for (int i = 0; i < count; i++) {
+            text.add("w" + (int) (Math.pow(random.nextDouble(), 3) * VOCABULARY));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Status parsing for request bodies and the {@code status} query parameter; the invalid case
+ * includes building the exception that ends up as a 400.
+ */
+@State(Scope.Benchmark)
+public class TaskStatusBenchmark {
+    @Param({"pendente", "CONCLUÍDA"})
+    public String value;
+
+    @Benchmark
+    public TaskStatus fromValue() {
+        return TaskStatus.fromValue(value);
+    }
+
+    @Benchmark
+    public Object fromValueInvalid() {
+        try {
+            return TaskStatus.fromValue("archived");
+        } catch (IllegalArgumentException ex) {
+            return ex;
+        }
+    }
+}
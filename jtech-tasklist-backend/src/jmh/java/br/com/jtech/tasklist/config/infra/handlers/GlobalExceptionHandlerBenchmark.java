@@ -0,0 +1,43 @@
+package br.com.jtech.tasklist.config.infra.handlers;
+
+import br.com.jtech.tasklist.application.core.usecases.TaskNotFoundException;
+import br.com.jtech.tasklist.config.infra.exceptions.ProblemDetailsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Building the 404 Problem Details response, alone and with its JSON body. The exception is
+ * created per invocation, as it is on the request path, so its stack trace capture is included.
+ */
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+    private GlobalExceptionHandler handler;
+    private WebRequest request;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        request = new ServletWebRequest(new MockHttpServletRequest("GET", "/tasks/42"));
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public ResponseEntity<ProblemDetailsResponse> notFound() {
+        return handler.handleTaskNotFound(new TaskNotFoundException("Task with id 42 was not found"), request);
+    }
+
+    @Benchmark
+    public byte[] notFoundSerialized() throws Exception {
+        return objectMapper.writeValueAsBytes(
+                handler.handleTaskNotFound(new TaskNotFoundException("Task with id 42 was not found"), request).getBody());
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.jtech.tasklist.config.infra.ratelimit;
+
+import br.com.jtech.tasklist.config.infra.client.ClientIdentity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission decisions per second with 16 callers: half spread over {@value #CLIENTS} trusted keys,
+ * half on one hot key that stays throttled, so both the bucket lookup and the compare-and-set under
+ * contention (plus the 429 exception) are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RateLimitInterceptorBenchmark {
+    private static final int CLIENTS = 10_000;
+
+    private RateLimitInterceptor interceptor;
+    private MockHttpServletRequest[] spread;
+    private MockHttpServletRequest hot;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        List<String> keys = new ArrayList<>();
+        spread = new MockHttpServletRequest[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            keys.add("client-" + i);
+            spread[i] = request("client-" + i);
+        }
+        keys.add("hot-client");
+        hot = request("hot-client");
+        interceptor = new RateLimitInterceptor(
+                new RateLimitProperties(), new ClientIdentity(keys), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    @Group("admission")
+    @GroupThreads(8)
+    public boolean spread(Cursor cursor) {
+        MockHttpServletRequest request = spread[cursor.next];
+        cursor.next = (cursor.next + 1) % CLIENTS;
+        return admit(request);
+    }
+
+    @Benchmark
+    @Group("admission")
+    @GroupThreads(8)
+    public boolean hot() {
+        return admit(hot);
+    }
+
+    private boolean admit(MockHttpServletRequest request) {
+        try {
+            return interceptor.preHandle(request, response, interceptor);
+        } catch (RateLimitExceededException ex) {
+            return false;
+        }
+    }
+
+    private static MockHttpServletRequest request(String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/tasks/{id}");
+        request.addHeader(ClientIdentity.HEADER, client);
+        return request;
+    }
+}
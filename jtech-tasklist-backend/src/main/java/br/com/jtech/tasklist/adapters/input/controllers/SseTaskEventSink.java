@@ -0,0 +1,91 @@
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.adapters.output.events.TaskEventFrame;
+import br.com.jtech.tasklist.adapters.output.events.TaskEventSink;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One GET /tasks/events connection. Frames wait in a bounded queue and are written by a task on
+ * {@code executor} that only exists while the queue is non-empty, so an idle stream holds no thread.
+ * A client more than {@code capacity} frames behind is disconnected; it resumes with Last-Event-ID.
+ */
+class SseTaskEventSink implements TaskEventSink {
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final int capacity;
+    private final Queue<TaskEventFrame> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    SseTaskEventSink(SseEmitter emitter, Executor executor, int capacity) {
+        this.emitter = emitter;
+        this.executor = executor;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public boolean offer(TaskEventFrame frame) {
+        if (closed.get()) {
+            return false;
+        }
+        if (pending.incrementAndGet() > capacity) {
+            close();
+            return false;
+        }
+        queue.add(frame);
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+        return true;
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Completes the response on the executor: a writer blocked on this client's socket holds the
+     * emitter, and the caller may be the hub fanning out to everyone else.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            executor.execute(emitter::complete);
+        }
+    }
+
+    private void drain() {
+        do {
+            TaskEventFrame frame;
+            while (!closed.get() && (frame = queue.poll()) != null) {
+                pending.decrementAndGet();
+                try {
+                    emitter.send(toEvent(frame));
+                } catch (Exception e) {
+                    // Peer gone or response already completed; the hub drops us on the next offer
+                    if (closed.compareAndSet(false, true)) {
+                        queue.clear();
+                        emitter.completeWithError(e);
+                    }
+                }
+            }
+            draining.set(false);
+        } while (!closed.get() && !queue.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    private static SseEmitter.SseEventBuilder toEvent(TaskEventFrame frame) {
+        if (frame.isHeartbeat()) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        return SseEmitter.event().id(frame.id()).name(frame.name()).data(frame.data());
+    }
+}
@@ -1,88 +1,340 @@
 package br.com.jtech.tasklist.adapters.input.controllers;
 
 import br.com.jtech.tasklist.adapters.input.protocols.CreateTaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskChangesResponse;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskCursorCodec;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskCursorPageResponse;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskETags;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskExportWriter;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskFileFormat;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskImportReader;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskImportResponse;
 import br.com.jtech.tasklist.adapters.input.protocols.TaskResponse;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskSliceResponse;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskStatusUpdateResponse;
 import br.com.jtech.tasklist.adapters.input.protocols.UpdateTaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.UpdateTaskStatusRequest;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskChangeSet;
+import br.com.jtech.tasklist.application.core.domains.TaskCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskCursorPage;
+import br.com.jtech.tasklist.application.core.domains.TaskImportReport;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchPage;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskStatusUpdate;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import br.com.jtech.tasklist.application.core.usecases.CountTasksUseCase;
 import br.com.jtech.tasklist.application.core.usecases.CreateTaskUseCase;
 import br.com.jtech.tasklist.application.core.usecases.DeleteTaskUseCase;
 import br.com.jtech.tasklist.application.core.usecases.GetTaskByIdUseCase;
+import br.com.jtech.tasklist.application.core.usecases.ImportTasksUseCase;
 import br.com.jtech.tasklist.application.core.usecases.ListTasksUseCase;
+import br.com.jtech.tasklist.application.core.usecases.SearchTasksUseCase;
+import br.com.jtech.tasklist.application.core.usecases.SyncTasksUseCase;
 import br.com.jtech.tasklist.application.core.usecases.TaskNotFoundException;
+import br.com.jtech.tasklist.application.core.usecases.TaskSyncExpiredException;
+import br.com.jtech.tasklist.application.core.usecases.TaskVersionConflictException;
+import br.com.jtech.tasklist.application.core.usecases.UpdateTaskStatusUseCase;
 import br.com.jtech.tasklist.application.core.usecases.UpdateTaskUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Size;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 @RestController
 @RequestMapping("/tasks")
 @Tag(name = "Tasks", description = "Task Management API")
 public class TaskController {
+    // The header is handled by IdempotencyFilter before these endpoints are reached
+    private static final String IDEMPOTENCY_KEY_DESCRIPTION =
+            "Client-chosen key (at most 255 characters); retries with the same key get the first response back";
+
     private final CreateTaskUseCase createTaskUseCase;
     private final ListTasksUseCase listTasksUseCase;
     private final GetTaskByIdUseCase getTaskByIdUseCase;
     private final UpdateTaskUseCase updateTaskUseCase;
     private final DeleteTaskUseCase deleteTaskUseCase;
+    private final CountTasksUseCase countTasksUseCase;
+    private final UpdateTaskStatusUseCase updateTaskStatusUseCase;
+    private final ImportTasksUseCase importTasksUseCase;
+    private final SearchTasksUseCase searchTasksUseCase;
+    private final SyncTasksUseCase syncTasksUseCase;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     public TaskController(CreateTaskUseCase createTaskUseCase,
                           ListTasksUseCase listTasksUseCase,
                           GetTaskByIdUseCase getTaskByIdUseCase,
                           UpdateTaskUseCase updateTaskUseCase,
-                          DeleteTaskUseCase deleteTaskUseCase) {
+                          DeleteTaskUseCase deleteTaskUseCase,
+                          CountTasksUseCase countTasksUseCase,
+                          UpdateTaskStatusUseCase updateTaskStatusUseCase,
+                          ImportTasksUseCase importTasksUseCase,
+                          SearchTasksUseCase searchTasksUseCase,
+                          SyncTasksUseCase syncTasksUseCase,
+                          ObjectMapper objectMapper,
+                          Validator validator) {
         this.createTaskUseCase = createTaskUseCase;
         this.listTasksUseCase = listTasksUseCase;
         this.getTaskByIdUseCase = getTaskByIdUseCase;
         this.updateTaskUseCase = updateTaskUseCase;
         this.deleteTaskUseCase = deleteTaskUseCase;
+        this.countTasksUseCase = countTasksUseCase;
+        this.updateTaskStatusUseCase = updateTaskStatusUseCase;
+        this.importTasksUseCase = importTasksUseCase;
+        this.searchTasksUseCase = searchTasksUseCase;
+        this.syncTasksUseCase = syncTasksUseCase;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
     }
 
     @PostMapping
     @Operation(summary = "Create a new task")
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key", description = IDEMPOTENCY_KEY_DESCRIPTION)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Task created successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid input")
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "409", description = "Same Idempotency-Key still being processed; retry later"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key already used with another body")
     })
     public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody CreateTaskRequest request) {
         Task task = createTaskUseCase.execute(request.title(), request.description(), request.status());
         return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(task));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create several tasks in one transaction; results follow the request order")
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key", description = IDEMPOTENCY_KEY_DESCRIPTION)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All tasks created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input (nothing is created)"),
+            @ApiResponse(responseCode = "409", description = "Same Idempotency-Key still being processed; retry later"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key already used with another body")
+    })
+    public ResponseEntity<List<TaskResponse>> createTasks(
+            @RequestBody
+            @Size(min = 1, max = CreateTaskUseCase.MAX_BATCH_SIZE, message = "Batch must contain between {min} and {max} tasks")
+            List<@Valid CreateTaskRequest> requests) {
+        List<Task> drafts = requests.stream()
+                .map(request -> new Task(request.title(), request.description(), request.status()))
+                .toList();
+        List<Task> tasks = createTaskUseCase.executeBatch(drafts);
+        return ResponseEntity.status(HttpStatus.CREATED).body(tasks.stream().map(this::toResponse).toList());
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TaskFileFormat.CSV_MEDIA_TYPE})
+    @Operation(summary = "Import tasks from an NDJSON or CSV stream; valid lines are committed in chunks")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished; counts and the first per-line errors"),
+            @ApiResponse(responseCode = "400", description = "CSV without a usable header row"),
+            @ApiResponse(responseCode = "415", description = "Content-Type is not application/x-ndjson or text/csv")
+    })
+    public ResponseEntity<TaskImportResponse> importTasks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        TaskFileFormat format = TaskFileFormat.fromMediaType(MediaType.parseMediaType(contentType));
+        TaskImportReport report;
+        // The body is parsed while it is uploaded; only the current line and chunk are held
+        try (TaskImportReader reader = format.reader(body, objectMapper, validator)) {
+            report = importTasksUseCase.execute(reader);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        return ResponseEntity.ok(new TaskImportResponse(
+                report.imported(),
+                report.rejected(),
+                report.errors().stream()
+                        .map(error -> new TaskImportResponse.LineError(error.line(), error.field(), error.message()))
+                        .toList(),
+                report.errorsTruncated()
+        ));
+    }
+
     @GetMapping
-    @Operation(summary = "List all tasks with pagination and optional status filter")
-    @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully")
+    @Operation(summary = "List all tasks with pagination and optional status filter; includeArchived=true adds archived (completed) tasks")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Unsupported sort")
+    })
     public ResponseEntity<Page<TaskResponse>> listTasks(
             Pageable pageable,
-            @RequestParam(required = false) TaskStatus status) {
-        Page<Task> tasks = listTasksUseCase.execute(pageable, status);
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest webRequest) {
+        Pageable sorted = TaskSortPolicy.apply(pageable);
+        // The archive only changes when archival deletes from the live table, which moves the marker too
+        if (isPageNotModified(webRequest)) {
+            return null;
+        }
+        Page<TaskView> tasks = includeArchived
+                ? listTasksUseCase.executeIncludingArchived(sorted, status)
+                : listTasksUseCase.execute(sorted, status);
         return ResponseEntity.ok(tasks.map(this::toResponse));
     }
 
+    @GetMapping(params = "slice=true")
+    @Operation(summary = "List tasks without counting (hasNext only), optionally with the maintained total")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Unsupported sort")
+    })
+    public ResponseEntity<TaskSliceResponse> listTasksSlice(
+            Pageable pageable,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            WebRequest webRequest) {
+        Pageable sorted = TaskSortPolicy.apply(pageable);
+        if (isPageNotModified(webRequest)) {
+            return null;
+        }
+        Slice<TaskView> tasks = listTasksUseCase.executeSlice(sorted, status);
+        return ResponseEntity.ok(new TaskSliceResponse(
+                tasks.getContent().stream().map(this::toResponse).toList(),
+                tasks.getNumber(),
+                tasks.getSize(),
+                tasks.hasNext(),
+                withTotal ? countTasksUseCase.execute(status) : null
+        ));
+    }
+
+    @GetMapping(params = "limit")
+    @Operation(summary = "List tasks by cursor (keyset) ordered by creation, with optional status filter")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    })
+    public ResponseEntity<TaskCursorPageResponse> listTasksByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam int limit,
+            @RequestParam(required = false) TaskStatus status,
+            WebRequest webRequest) {
+        TaskCursor cursor = TaskCursorCodec.decode(after);
+        if (isPageNotModified(webRequest)) {
+            return null;
+        }
+        TaskCursorPage page = listTasksUseCase.execute(cursor, limit, status);
+        return ResponseEntity.ok(new TaskCursorPageResponse(
+                page.tasks().stream().map(this::toResponse).toList(),
+                TaskCursorCodec.encode(page.nextCursor()),
+                page.hasNext()
+        ));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Full-text search over title and description, ranked by relevance, paginated by cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching tasks, best first"),
+            @ApiResponse(responseCode = "400", description = "Blank or too long query, invalid cursor or limit")
+    })
+    public ResponseEntity<TaskCursorPageResponse> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        TaskSearchPage page = searchTasksUseCase.execute(q, TaskCursorCodec.decodeSearch(after), limit);
+        return ResponseEntity.ok(new TaskCursorPageResponse(
+                page.tasks().stream().map(this::toResponse).toList(),
+                TaskCursorCodec.encode(page.nextCursor()),
+                page.hasNext()
+        ));
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Tasks written and ids deleted since a sync token; without one, pages through every task")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes in write order and the token for the next call"),
+            @ApiResponse(responseCode = "400", description = "Invalid token or limit"),
+            @ApiResponse(responseCode = "410", description = "Token older than the tombstone retention; reload the full list")
+    })
+    public ResponseEntity<TaskChangesResponse> listChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) throws TaskSyncExpiredException {
+        TaskChangeSet changes = syncTasksUseCase.execute(TaskCursorCodec.decodeSync(since), limit);
+        return ResponseEntity.ok(new TaskChangesResponse(
+                changes.changed().stream().map(this::toResponse).toList(),
+                changes.deletedIds(),
+                TaskCursorCodec.encode(changes.next()),
+                changes.hasMore()
+        ));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Stream every task (optionally filtered by status) as NDJSON or CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed in id order"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format or status")
+    })
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) TaskStatus status) {
+        TaskFileFormat exportFormat = TaskFileFormat.fromValue(format);
+        // Rows are written while the cursor is read, on an async thread; a client that
+        // disconnects makes the next write fail, which ends the scan and frees the connection
+        StreamingResponseBody body = out -> {
+            try (TaskExportWriter writer = exportFormat.writer(out)) {
+                listTasksUseCase.forEach(status, task -> write(writer, task));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.getValue())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get a task by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Task unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Task not found")
     })
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) throws TaskNotFoundException {
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, WebRequest webRequest) throws TaskNotFoundException {
         Task task = getTaskByIdUseCase.execute(id);
+        // Sets the ETag header; on a match the 304 is sent without serializing the body
+        if (webRequest.checkNotModified(TaskETags.forTask(task))) {
+            return null;
+        }
         return ResponseEntity.ok(toResponse(task));
     }
 
@@ -91,18 +343,44 @@ public class TaskController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid input"),
-            @ApiResponse(responseCode = "404", description = "Task not found")
+            @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "409", description = "Body version is stale"),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current ETag")
     })
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable Long id,
-            @Valid @RequestBody UpdateTaskRequest request) throws TaskNotFoundException {
+            @Valid @RequestBody UpdateTaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws TaskNotFoundException, TaskVersionConflictException {
         Task task = updateTaskUseCase.execute(
                 id,
                 request.title().orElse(null),
                 request.description().orElse(null),
-                request.status().orElse(null)
+                request.status().orElse(null),
+                expectedVersion(id, ifMatch, request.version().orElse(null))
         );
-        return ResponseEntity.ok(toResponse(task));
+        return ResponseEntity.ok().eTag(TaskETags.forTask(task)).body(toResponse(task));
+    }
+
+    @PatchMapping("/status")
+    @Operation(summary = "Move many tasks to a status, selected by ids or by their current status (fromStatus)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Transition applied; lists updated and missing ids (by fromStatus: count only)"),
+            @ApiResponse(responseCode = "400", description = "Invalid input (ids and fromStatus are mutually exclusive)")
+    })
+    public ResponseEntity<TaskStatusUpdateResponse> updateTasksStatus(@Valid @RequestBody UpdateTaskStatusRequest request) {
+        if ((request.ids() == null) == (request.fromStatus() == null)) {
+            throw new IllegalArgumentException("Provide either ids or fromStatus");
+        }
+        TaskStatusUpdate update = request.ids() != null
+                ? updateTaskStatusUseCase.execute(request.ids(), request.status())
+                : updateTaskStatusUseCase.executeByStatus(request.fromStatus(), request.status());
+        return ResponseEntity.ok(new TaskStatusUpdateResponse(
+                update.status(),
+                update.updatedCount(),
+                update.updatedIds(),
+                update.missingIds()
+        ));
     }
 
     @DeleteMapping("/{id}")
@@ -116,14 +394,51 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
-    private TaskResponse toResponse(Task task) {
+    private static void write(TaskExportWriter writer, Task task) {
+        try {
+            writer.write(task);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Long expectedVersion(Long id, String ifMatch, Long bodyVersion) {
+        Long headerVersion = ifMatch != null ? TaskETags.versionFromIfMatch(id, ifMatch) : null;
+        if (headerVersion != null && bodyVersion != null && !headerVersion.equals(bodyVersion)) {
+            throw new IllegalArgumentException("If-Match and version refer to different versions");
+        }
+        return headerVersion != null ? headerVersion : bodyVersion;
+    }
+
+    /**
+     * Validates list requests against the table change marker before running the page query.
+     */
+    private boolean isPageNotModified(WebRequest webRequest) {
+        return webRequest.checkNotModified(TaskETags.forPage(listTasksUseCase.changeMarker(), webRequest.getParameterMap()));
+    }
+
+    // Package-private for TaskControllerBenchmark and TaskListMappingBenchmark (src/jmh)
+    TaskResponse toResponse(Task task) {
         return new TaskResponse(
                 task.getId(),
                 task.getTitle(),
                 task.getDescription(),
                 task.getStatus(),
                 task.getCreatedAt(),
-                task.getUpdatedAt()
+                task.getUpdatedAt(),
+                task.getVersion()
+        );
+    }
+
+    TaskResponse toResponse(TaskView view) {
+        return new TaskResponse(
+                view.id(),
+                view.title(),
+                view.description(),
+                view.status(),
+                view.createdAt(),
+                view.updatedAt(),
+                view.version()
         );
     }
 }
@@ -0,0 +1,73 @@
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import br.com.jtech.tasklist.adapters.output.events.TaskEventHub;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@RestController
+@RequestMapping("/tasks")
+@Tag(name = "Tasks", description = "Task Management API")
+public class TaskEventController {
+    private final TaskEventHub taskEventHub;
+    private final int queueCapacity;
+    private final Duration timeout;
+    // Writers exist only while a stream has queued frames; a blocked socket parks one virtual thread
+    private final ExecutorService writers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("task-events-", 0).factory());
+
+    public TaskEventController(TaskEventHub taskEventHub,
+                               @Value("${tasklist.events.queue-capacity:256}") int queueCapacity,
+                               @Value("${tasklist.events.timeout:PT30M}") Duration timeout) {
+        this.taskEventHub = taskEventHub;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream task changes (created, updated, deleted) as Server-Sent Events")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream; starts with ready, or with the missed events when resuming, or with reset when they are gone")
+    })
+    public ResponseEntity<SseEmitter> streamEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) String lastEventId) {
+        // EventSource sends the header on its own reconnects; the parameter covers a page reload
+        String resumeFrom = lastEventIdHeader != null ? lastEventIdHeader : lastEventId;
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        SseTaskEventSink sink = new SseTaskEventSink(emitter, writers, queueCapacity);
+        emitter.onCompletion(() -> taskEventHub.unsubscribe(sink));
+        emitter.onTimeout(sink::close);
+        emitter.onError(error -> sink.close());
+        taskEventHub.subscribe(sink, resumeFrom);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                // Tells nginx not to buffer the stream
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    /** Runs after the hub has closed every stream on stop, so only writers still flushing remain. */
+    @PreDestroy
+    void closeWriters() {
+        writers.shutdownNow();
+    }
+}
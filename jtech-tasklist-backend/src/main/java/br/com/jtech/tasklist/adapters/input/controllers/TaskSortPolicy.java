@@ -0,0 +1,76 @@
+package br.com.jtech.tasklist.adapters.input.controllers;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sort orders accepted by the list endpoints. Each one is backed by an index from
+ * V4__create_task_indexes.sql, alone or behind {@code status}, and ends with {@code id}
+ * so pages are stable when the sort key ties.
+ */
+public final class TaskSortPolicy {
+    public static final String TIEBREAKER = "id";
+
+    /**
+     * Sortable property to column; the index for each is (column, id) and (status, column, id).
+     */
+    public static final Map<String, String> SORTABLE_COLUMNS;
+
+    public static final Sort DEFAULT_SORT = Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc(TIEBREAKER));
+
+    static {
+        Map<String, String> columns = new LinkedHashMap<>();
+        columns.put("createdAt", "created_at");
+        columns.put("updatedAt", "updated_at");
+        columns.put(TIEBREAKER, "id");
+        SORTABLE_COLUMNS = Collections.unmodifiableMap(columns);
+    }
+
+    private TaskSortPolicy() {
+    }
+
+    /**
+     * Returns the pageable with a supported, index-backed sort, or rejects it.
+     *
+     * @throws IllegalArgumentException when the requested sort has no matching index
+     */
+    public static Pageable apply(Pageable pageable) {
+        Sort requested = pageable.getSort();
+        if (requested.isUnsorted()) {
+            return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), DEFAULT_SORT);
+        }
+
+        Iterator<Sort.Order> orders = requested.iterator();
+        Sort.Order primary = orders.next();
+        if (!SORTABLE_COLUMNS.containsKey(primary.getProperty())) {
+            throw unsupported(requested);
+        }
+        if (orders.hasNext()) {
+            // Only an explicit id tiebreaker in the same direction can follow the sort key
+            Sort.Order tiebreaker = orders.next();
+            if (orders.hasNext()
+                    || !TIEBREAKER.equals(tiebreaker.getProperty())
+                    || tiebreaker.getDirection() != primary.getDirection()) {
+                throw unsupported(requested);
+            }
+        }
+
+        Sort sort = Sort.by(primary.getDirection(), primary.getProperty());
+        if (!TIEBREAKER.equals(primary.getProperty())) {
+            sort = sort.and(Sort.by(primary.getDirection(), TIEBREAKER));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    private static IllegalArgumentException unsupported(Sort requested) {
+        return new IllegalArgumentException("Unsupported sort '" + requested
+                + "'. Supported properties: " + String.join(", ", SORTABLE_COLUMNS.keySet())
+                + " (asc or desc, optionally followed by id in the same direction)");
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 CSV with a header row; the columns carry the TaskResponse field names and values.
+ */
+final class CsvTaskExportWriter implements TaskExportWriter {
+    static final String HEADER = "id,title,description,status,createdAt,updatedAt,version";
+    private static final String LINE_END = "\r\n";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+
+    CsvTaskExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.writer.write(HEADER);
+        this.writer.write(LINE_END);
+    }
+
+    @Override
+    public void write(Task task) throws IOException {
+        writer.write(Long.toString(task.getId()));
+        writer.write(',');
+        writeField(task.getTitle());
+        writer.write(',');
+        writeField(task.getDescription());
+        writer.write(',');
+        writeField(task.getStatus().getValue());
+        writer.write(',');
+        writer.write(TIMESTAMP_FORMAT.format(task.getCreatedAt()));
+        writer.write(',');
+        writer.write(TIMESTAMP_FORMAT.format(task.getUpdatedAt()));
+        writer.write(',');
+        writer.write(Long.toString(task.getVersion()));
+        writer.write(LINE_END);
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Flush only: the servlet container owns the response stream
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
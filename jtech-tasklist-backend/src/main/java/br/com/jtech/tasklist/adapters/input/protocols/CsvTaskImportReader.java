@@ -0,0 +1,156 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import br.com.jtech.tasklist.application.core.domains.TaskImportRecord;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import jakarta.validation.Validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RFC 4180 CSV whose header names the columns; {@code title} is required, {@code description} and
+ * {@code status} are optional and any other column (id, timestamps, version of an export) is ignored.
+ * Quoted fields may span lines; errors point at the line where the record starts.
+ */
+final class CsvTaskImportReader extends TaskImportReader {
+    private final StringBuilder field = new StringBuilder();
+    private long lineNumber;
+    private long recordLine;
+    private boolean stopped;
+    private boolean stopReported;
+
+    private int titleColumn = -1;
+    private int descriptionColumn = -1;
+    private int statusColumn = -1;
+    private int columnCount;
+
+    CsvTaskImportReader(InputStream in, Validator validator) {
+        super(in, validator);
+    }
+
+    @Override
+    protected TaskImportRecord readNext() throws IOException {
+        if (columnCount == 0) {
+            readHeader();
+        }
+        List<String> fields;
+        while ((fields = readRecord()) != null) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            return toRecord(fields);
+        }
+        if (stopped && !stopReported) {
+            stopReported = true;
+            return invalid(recordLine, null, "Unterminated quoted field or field longer than "
+                    + MAX_LINE_LENGTH + " characters; the rest of the file was skipped");
+        }
+        return null;
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import must start with a header row");
+        }
+        columnCount = header.size();
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "title" -> titleColumn = i;
+                case "description" -> descriptionColumn = i;
+                case "status" -> statusColumn = i;
+                default -> {
+                    // Other columns are accepted and ignored
+                }
+            }
+        }
+        if (titleColumn < 0) {
+            throw new IllegalArgumentException("CSV header must contain a title column");
+        }
+    }
+
+    private TaskImportRecord toRecord(List<String> fields) {
+        if (fields.size() != columnCount) {
+            return invalid(recordLine, null, "Expected " + columnCount + " columns, found " + fields.size());
+        }
+        TaskStatus status;
+        try {
+            status = TaskStatus.fromValue(emptyToNull(column(fields, statusColumn)));
+        } catch (IllegalArgumentException ex) {
+            return invalid(recordLine, "status", ex.getMessage());
+        }
+        CreateTaskRequest request = new CreateTaskRequest(
+                column(fields, titleColumn),
+                emptyToNull(column(fields, descriptionColumn)),
+                status
+        );
+        return validate(recordLine, request);
+    }
+
+    /**
+     * Reads one record, or null at the end of the input. A field that grows past
+     * {@link #MAX_LINE_LENGTH} (usually an unbalanced quote) stops the reader instead of buffering
+     * the rest of the upload.
+     */
+    private List<String> readRecord() throws IOException {
+        if (stopped) {
+            return null;
+        }
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = ++lineNumber;
+        List<String> fields = new ArrayList<>(Math.max(columnCount, 1));
+        field.setLength(0);
+        boolean inQuotes = false;
+        while (true) {
+            if (field.length() > MAX_LINE_LENGTH) {
+                stopped = true;
+                return null;
+            }
+            if (inQuotes) {
+                if (c == -1) {
+                    stopped = true;
+                    return null;
+                }
+                if (c == '"') {
+                    int peek = reader.read();
+                    if (peek != '"') {
+                        inQuotes = false;
+                        c = peek;
+                        continue;
+                    }
+                    field.append('"');
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == -1 || c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '"' && field.isEmpty()) {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private static String column(List<String> fields, int index) {
+        return index >= 0 ? fields.get(index) : null;
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
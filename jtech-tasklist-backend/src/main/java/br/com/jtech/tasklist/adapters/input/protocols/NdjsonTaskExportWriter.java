@@ -0,0 +1,47 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * One JSON object per line with the TaskResponse field names, written straight through a
+ * streaming generator (no intermediate response objects or tree).
+ */
+final class NdjsonTaskExportWriter implements TaskExportWriter {
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final JsonGenerator generator;
+
+    NdjsonTaskExportWriter(OutputStream out) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+        // Lines are terminated explicitly below instead of separated by the default space
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(Task task) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", task.getId());
+        generator.writeStringField("title", task.getTitle());
+        generator.writeStringField("description", task.getDescription());
+        generator.writeStringField("status", task.getStatus().getValue());
+        generator.writeStringField("createdAt", TIMESTAMP_FORMAT.format(task.getCreatedAt()));
+        generator.writeStringField("updatedAt", TIMESTAMP_FORMAT.format(task.getUpdatedAt()));
+        generator.writeNumberField("version", task.getVersion());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import br.com.jtech.tasklist.application.core.domains.TaskImportRecord;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.Validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * One {@link CreateTaskRequest} JSON object per line; blank lines are skipped and unknown fields
+ * (such as the id and timestamps of an export) are ignored.
+ */
+final class NdjsonTaskImportReader extends TaskImportReader {
+    private final ObjectReader requestReader;
+    private final StringBuilder line = new StringBuilder();
+    private long lineNumber;
+
+    NdjsonTaskImportReader(InputStream in, ObjectMapper objectMapper, Validator validator) {
+        super(in, validator);
+        this.requestReader = objectMapper.readerFor(CreateTaskRequest.class);
+    }
+
+    @Override
+    protected TaskImportRecord readNext() throws IOException {
+        while (true) {
+            line.setLength(0);
+            boolean tooLong = false;
+            int c;
+            while ((c = reader.read()) != -1 && c != '\n') {
+                if (line.length() < MAX_LINE_LENGTH) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+            }
+            if (c == -1 && line.isEmpty() && !tooLong) {
+                return null;
+            }
+            lineNumber++;
+            if (tooLong) {
+                return invalid(lineNumber, null, "Line exceeds " + MAX_LINE_LENGTH + " characters");
+            }
+            String json = line.toString();
+            if (!json.isBlank()) {
+                return parse(json);
+            }
+        }
+    }
+
+    private TaskImportRecord parse(String json) {
+        CreateTaskRequest request;
+        try {
+            request = requestReader.readValue(json);
+        } catch (JsonMappingException ex) {
+            return invalid(lineNumber, fieldOf(ex), messageOf(ex));
+        } catch (JsonProcessingException ex) {
+            return invalid(lineNumber, null, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+        if (request == null) {
+            return invalid(lineNumber, null, "Expected a JSON object");
+        }
+        return validate(lineNumber, request);
+    }
+
+    private static String fieldOf(JsonMappingException ex) {
+        List<JsonMappingException.Reference> path = ex.getPath();
+        return path.isEmpty() ? null : path.get(path.size() - 1).getFieldName();
+    }
+
+    private static String messageOf(JsonMappingException ex) {
+        // TaskStatus.fromValue explains bad values better than Jackson's wrapper message
+        if (ex.getCause() instanceof IllegalArgumentException cause && cause.getMessage() != null) {
+            return cause.getMessage();
+        }
+        return ex.getOriginalMessage();
+    }
+}
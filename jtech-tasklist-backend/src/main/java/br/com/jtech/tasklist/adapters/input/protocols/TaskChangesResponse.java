@@ -0,0 +1,10 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import java.util.List;
+
+public record TaskChangesResponse(
+    List<TaskResponse> changed,
+    List<Long> deleted,
+    String token,
+    boolean hasMore
+) {}
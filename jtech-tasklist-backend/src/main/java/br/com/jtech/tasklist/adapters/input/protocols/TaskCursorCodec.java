@@ -0,0 +1,90 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import br.com.jtech.tasklist.application.core.domains.TaskCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskSyncToken;
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Encodes keyset and search positions as opaque URL-safe tokens for the {@code after} parameter,
+ * and change-feed positions for {@code since}.
+ */
+@UtilityClass
+public class TaskCursorCodec {
+
+    public static String encode(TaskCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.createdAt().getEpochSecond() + ":" + cursor.createdAt().getNano() + ":" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new TaskCursor(createdAt, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public static String encode(TaskSearchCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        // The exact float bits: the next window compares scores for equality
+        String raw = Float.floatToIntBits(cursor.score()) + ":" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskSearchCursor decodeSearch(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new TaskSearchCursor(Float.intBitsToFloat(Integer.parseInt(parts[0])), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public static String encode(TaskSyncToken token) {
+        String raw = token.sequence() + ":" + token.issuedAt().getEpochSecond();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskSyncToken decodeSync(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid sync token: " + token);
+            }
+            return new TaskSyncToken(Long.parseLong(parts[0]), Instant.ofEpochSecond(Long.parseLong(parts[1])));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new IllegalArgumentException("Invalid sync token: " + token);
+        }
+    }
+}
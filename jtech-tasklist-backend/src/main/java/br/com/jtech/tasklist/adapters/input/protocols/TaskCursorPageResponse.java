@@ -0,0 +1,9 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import java.util.List;
+
+public record TaskCursorPageResponse(
+    List<TaskResponse> content,
+    String nextCursor,
+    boolean hasNext
+) {}
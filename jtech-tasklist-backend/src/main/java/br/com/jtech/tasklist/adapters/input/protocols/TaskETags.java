@@ -0,0 +1,54 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskChangeMarker;
+import lombok.experimental.UtilityClass;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Strong entity tags for task representations, compared by {@code If-None-Match} and {@code If-Match}.
+ */
+@UtilityClass
+public class TaskETags {
+    // Parsed If-Match that cannot match any representation of the task (still yields 412, not 400)
+    private static final long NO_MATCH = -1L;
+
+    public static String forTask(Task task) {
+        return "\"" + task.getId() + "-" + task.getVersion() + "\"";
+    }
+
+    /**
+     * Version a task tag in {@code If-Match} refers to; null for {@code *} (any current version).
+     */
+    public static Long versionFromIfMatch(Long id, String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.equals("*")) {
+            return null;
+        }
+        String prefix = "\"" + id + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+            return NO_MATCH;
+        }
+        try {
+            return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            return NO_MATCH;
+        }
+    }
+
+    /**
+     * Tag for a list response: the table marker plus the request parameters that shape the page.
+     */
+    public static String forPage(TaskChangeMarker marker, Map<String, String[]> parameters) {
+        StringBuilder raw = new StringBuilder()
+                .append(marker.version());
+        new TreeMap<>(parameters).forEach((name, values) ->
+                raw.append('|').append(name).append('=').append(Arrays.toString(values)));
+        return "\"" + DigestUtils.md5DigestAsHex(raw.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+
+import java.util.Locale;
+
+/**
+ * The {@code data} of one event on GET /tasks/events. {@code task} is null for deletions and bulk
+ * status changes; clients holding that task re-read it by id.
+ */
+public record TaskEventResponse(String type, Long taskId, TaskResponse task) {
+    public static TaskEventResponse of(TaskEvent event) {
+        TaskView view = event.task();
+        TaskResponse task = view == null ? null : new TaskResponse(
+                view.id(), view.title(), view.description(), view.status(),
+                view.createdAt(), view.updatedAt(), view.version());
+        return new TaskEventResponse(event.type().name().toLowerCase(Locale.ROOT), event.taskId(), task);
+    }
+}
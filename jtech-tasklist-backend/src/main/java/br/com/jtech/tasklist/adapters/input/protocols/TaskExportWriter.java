@@ -0,0 +1,19 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Serializes tasks one at a time for GET /tasks/export. Output is buffered per writer only,
+ * never per export; {@link #close()} flushes but leaves the target stream open.
+ */
+public interface TaskExportWriter extends Closeable {
+    // Same shape as the createdAt/updatedAt fields of TaskResponse
+    DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'").withZone(ZoneOffset.UTC);
+
+    void write(Task task) throws IOException;
+}
@@ -0,0 +1,80 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * File formats of GET /tasks/export (the {@code format} parameter) and POST /tasks/import
+ * (the request Content-Type). A file written by the export can be imported as is.
+ */
+public enum TaskFileFormat {
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON) {
+        @Override
+        public TaskExportWriter writer(OutputStream out) throws IOException {
+            return new NdjsonTaskExportWriter(out);
+        }
+
+        @Override
+        public TaskImportReader reader(InputStream in, ObjectMapper objectMapper, Validator validator) {
+            return new NdjsonTaskImportReader(in, objectMapper, validator);
+        }
+    },
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)) {
+        @Override
+        public TaskExportWriter writer(OutputStream out) throws IOException {
+            return new CsvTaskExportWriter(out);
+        }
+
+        @Override
+        public TaskImportReader reader(InputStream in, ObjectMapper objectMapper, Validator validator) {
+            return new CsvTaskImportReader(in, validator);
+        }
+    };
+
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+
+    private final String value;
+    private final MediaType mediaType;
+
+    TaskFileFormat(String value, MediaType mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public abstract TaskExportWriter writer(OutputStream out) throws IOException;
+
+    public abstract TaskImportReader reader(InputStream in, ObjectMapper objectMapper, Validator validator);
+
+    public static TaskFileFormat fromValue(String value) {
+        for (TaskFileFormat format : values()) {
+            if (format.value.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported file format: " + value + " (use ndjson or csv)");
+    }
+
+    public static TaskFileFormat fromMediaType(MediaType mediaType) {
+        for (TaskFileFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import content type: " + mediaType
+                + " (use " + MediaType.APPLICATION_NDJSON_VALUE + " or " + CSV_MEDIA_TYPE + ")");
+    }
+}
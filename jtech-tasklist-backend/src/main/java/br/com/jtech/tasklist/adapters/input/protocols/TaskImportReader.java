@@ -0,0 +1,85 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskImportError;
+import br.com.jtech.tasklist.application.core.domains.TaskImportRecord;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Parses an import upload one line (or CSV record) at a time and validates each against the
+ * {@link CreateTaskRequest} constraints. Only the current line is buffered; read failures surface
+ * as {@link UncheckedIOException} from {@link #hasNext()}.
+ */
+public abstract class TaskImportReader implements Iterator<TaskImportRecord>, Closeable {
+    // Far above the longest valid line; anything longer is rejected without being buffered
+    static final int MAX_LINE_LENGTH = 16 * 1024;
+
+    protected final BufferedReader reader;
+    private final Validator validator;
+    private TaskImportRecord next;
+
+    protected TaskImportReader(InputStream in, Validator validator) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        this.validator = validator;
+    }
+
+    /**
+     * Returns the next non-blank record, or null at the end of the input.
+     */
+    protected abstract TaskImportRecord readNext() throws IOException;
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readNext();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public TaskImportRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TaskImportRecord current = next;
+        next = null;
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    protected TaskImportRecord validate(long line, CreateTaskRequest request) {
+        List<TaskImportError> errors = validator.validate(request).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> new TaskImportError(
+                        line, violation.getPropertyPath().toString(), violation.getMessage()))
+                .toList();
+        if (!errors.isEmpty()) {
+            return TaskImportRecord.invalid(line, errors);
+        }
+        return TaskImportRecord.valid(line, new Task(request.title(), request.description(), request.status()));
+    }
+
+    protected static TaskImportRecord invalid(long line, String field, String message) {
+        return TaskImportRecord.invalid(line, List.of(new TaskImportError(line, field, message)));
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import java.util.List;
+
+public record TaskImportResponse(
+    long imported,
+    long rejected,
+    List<LineError> errors,
+    boolean errorsTruncated
+) {
+    public record LineError(long line, String field, String message) {}
+}
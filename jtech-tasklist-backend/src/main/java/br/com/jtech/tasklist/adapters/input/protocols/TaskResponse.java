@@ -15,5 +15,7 @@ public record TaskResponse(
     Instant createdAt,
 
     @JsonFormat(shape = com.fasterxml.jackson.annotation.JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
-    Instant updatedAt
+    Instant updatedAt,
+
+    Long version
 ) {}
@@ -0,0 +1,16 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskSliceResponse(
+    List<TaskResponse> content,
+    int number,
+    int size,
+    boolean hasNext,
+
+    // Only when requested: read from the per-status counters, not COUNT(*)
+    Long totalElements
+) {}
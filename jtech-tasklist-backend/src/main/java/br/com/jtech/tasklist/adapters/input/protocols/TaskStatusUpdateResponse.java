@@ -0,0 +1,12 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+
+import java.util.List;
+
+public record TaskStatusUpdateResponse(
+    TaskStatus status,
+    int updatedCount,
+    List<Long> updatedIds,
+    List<Long> missingIds
+) {}
@@ -1,13 +1,17 @@
 package br.com.jtech.tasklist.adapters.input.protocols;
 
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import jakarta.validation.constraints.Size;
 
 import java.util.Optional;
 
 public record UpdateTaskRequest(
-    Optional<String> title,
+    Optional<@Size(max = 120, message = "Title must not exceed 120 characters") String> title,
 
-    Optional<String> description,
+    Optional<@Size(max = 1000, message = "Description must not exceed 1000 characters") String> description,
 
-    Optional<TaskStatus> status
+    Optional<TaskStatus> status,
+
+    // Alternative to If-Match: the version this edit is based on
+    Optional<Long> version
 ) {}
@@ -0,0 +1,15 @@
+package br.com.jtech.tasklist.adapters.input.protocols;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record UpdateTaskStatusRequest(
+    List<Long> ids,
+
+    TaskStatus fromStatus,
+
+    @NotNull(message = "Status is required")
+    TaskStatus status
+) {}
@@ -0,0 +1,23 @@
+package br.com.jtech.tasklist.adapters.input.schedulers;
+
+import br.com.jtech.tasklist.application.core.usecases.ArchiveDoneTasksUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskArchivalScheduler {
+    private final ArchiveDoneTasksUseCase archiveDoneTasksUseCase;
+
+    @Scheduled(fixedDelayString = "${tasklist.archive.interval:PT1H}",
+               initialDelayString = "${tasklist.archive.interval:PT1H}")
+    public void archive() {
+        long archived = archiveDoneTasksUseCase.execute();
+        if (archived > 0) {
+            log.info("Archived {} completed tasks", archived);
+        }
+    }
+}
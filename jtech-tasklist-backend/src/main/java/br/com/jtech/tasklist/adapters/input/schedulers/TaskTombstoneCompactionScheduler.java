@@ -0,0 +1,23 @@
+package br.com.jtech.tasklist.adapters.input.schedulers;
+
+import br.com.jtech.tasklist.application.core.usecases.CompactTaskTombstonesUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskTombstoneCompactionScheduler {
+    private final CompactTaskTombstonesUseCase compactTaskTombstonesUseCase;
+
+    @Scheduled(fixedDelayString = "${tasklist.changes.compaction-interval:PT1H}",
+               initialDelayString = "${tasklist.changes.compaction-interval:PT1H}")
+    public void compact() {
+        int removed = compactTaskTombstonesUseCase.execute();
+        if (removed > 0) {
+            log.info("Compacted {} task tombstones past the retention horizon", removed);
+        }
+    }
+}
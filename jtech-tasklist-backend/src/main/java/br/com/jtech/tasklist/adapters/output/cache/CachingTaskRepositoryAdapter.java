@@ -0,0 +1,236 @@
+package br.com.jtech.tasklist.adapters.output.cache;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskChangeMarker;
+import br.com.jtech.tasklist.application.core.domains.TaskCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskPatch;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Read-through cache for single-task lookups in front of another {@link TaskRepositoryPort}.
+ * Writes go to the delegate first and then refresh or evict the cached entry; list and count
+ * reads are passed through untouched. {@link Task} is mutable, so entries are copied on the
+ * way in and out and callers never share an instance with the cache.
+ * <p>
+ * Misses are loaded outside the cache's locks: Caffeine runs loaders inside
+ * {@code ConcurrentHashMap.compute}, and a JDBC call under that monitor pins the carrier of a
+ * virtual thread. Invalidation generations, striped by id, keep a slow load from re-inserting a task
+ * that was deleted or bulk-updated while it was being read, without letting evictions of other ids
+ * stop it from being cached.
+ * <p>
+ * Loads made while {@code readingReplica} holds are returned but not cached: a lagging replica can
+ * hand back a version older than a write this process just evicted, and caching it would serve the
+ * old version to every later reader, including the writer once read-your-writes pins it to the primary.
+ */
+public class CachingTaskRepositoryAdapter implements TaskRepositoryPort {
+    // Power of two; ids sharing a stripe only cost each other an uncached load now and then
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final TaskRepositoryPort delegate;
+    private final Cache<Long, Task> cache;
+    private final BooleanSupplier readingReplica;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public CachingTaskRepositoryAdapter(TaskRepositoryPort delegate, Cache<Long, Task> cache) {
+        this(delegate, cache, () -> false);
+    }
+
+    public CachingTaskRepositoryAdapter(TaskRepositoryPort delegate, Cache<Long, Task> cache, BooleanSupplier readingReplica) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.readingReplica = readingReplica;
+    }
+
+    @Override
+    public Task save(Task task) {
+        Task saved = delegate.save(task);
+        remember(saved);
+        return saved;
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<Task> saved = delegate.saveAll(tasks);
+        saved.forEach(this::remember);
+        return saved;
+    }
+
+    @Override
+    public void insertAll(List<Task> tasks) {
+        // Ids are not read back, so there is nothing to populate; new ids cannot be cached yet
+        delegate.insertAll(tasks);
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        Task cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+        if (readingReplica.getAsBoolean()) {
+            return delegate.findById(id);
+        }
+        int stripe = stripe(id);
+        long seen = generations.get(stripe);
+        Optional<Task> loaded = delegate.findById(id);
+        // Misses are not cached; a hit is stored only if its id was not invalidated since the read began
+        loaded.ifPresent(task -> cache.asMap().compute(id, (key, current) ->
+                generations.get(stripe) != seen ? current : newer(current, copy(task))));
+        return loaded;
+    }
+
+    @Override
+    public Optional<Task> update(Long id, TaskPatch patch) {
+        Optional<Task> updated;
+        try {
+            updated = delegate.update(id, patch);
+        } catch (RuntimeException ex) {
+            evict(id);
+            throw ex;
+        }
+        updated.ifPresentOrElse(this::remember, () -> evict(id));
+        return updated;
+    }
+
+    @Override
+    public Page<TaskView> findAll(Pageable pageable, TaskStatus status) {
+        return delegate.findAll(pageable, status);
+    }
+
+    @Override
+    public Page<TaskView> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Override
+    public Slice<TaskView> findSlice(Pageable pageable, TaskStatus status) {
+        return delegate.findSlice(pageable, status);
+    }
+
+    @Override
+    public Slice<TaskView> findSlice(Pageable pageable) {
+        return delegate.findSlice(pageable);
+    }
+
+    @Override
+    public Map<TaskStatus, Long> countByStatus() {
+        return delegate.countByStatus();
+    }
+
+    @Override
+    public TaskChangeMarker changeMarker() {
+        return delegate.changeMarker();
+    }
+
+    @Override
+    public List<Task> findAfter(TaskCursor after, int limit, TaskStatus status) {
+        return delegate.findAfter(after, limit, status);
+    }
+
+    @Override
+    public List<Task> findAfter(TaskCursor after, int limit) {
+        return delegate.findAfter(after, limit);
+    }
+
+    @Override
+    public void forEach(TaskStatus status, Consumer<Task> consumer) {
+        delegate.forEach(status, consumer);
+    }
+
+    @Override
+    public void forEachAfter(long afterId, Consumer<Task> consumer) {
+        delegate.forEachAfter(afterId, consumer);
+    }
+
+    @Override
+    public List<Long> updateStatus(Collection<Long> ids, TaskStatus status, Instant updatedAt) {
+        try {
+            return delegate.updateStatus(ids, status, updatedAt);
+        } finally {
+            evictAll(ids);
+        }
+    }
+
+    @Override
+    public List<Long> updateStatusByStatus(TaskStatus fromStatus, TaskStatus status, Instant updatedAt, int limit) {
+        List<Long> updated = delegate.updateStatusByStatus(fromStatus, status, updatedAt, limit);
+        evictAll(updated);
+        return updated;
+    }
+
+    @Override
+    public int deleteById(Long id) {
+        try {
+            return delegate.deleteById(id);
+        } finally {
+            evict(id);
+        }
+    }
+
+    @Override
+    public void forget(Collection<Long> ids) {
+        try {
+            delegate.forget(ids);
+        } finally {
+            evictAll(ids);
+        }
+    }
+
+    private void remember(Task written) {
+        cache.asMap().merge(written.getId(), copy(written), CachingTaskRepositoryAdapter::newer);
+    }
+
+    // The generation moves before the entry goes, so a load that has not stored yet sees the change
+    private void evict(Long id) {
+        generations.incrementAndGet(stripe(id));
+        cache.invalidate(id);
+    }
+
+    private void evictAll(Collection<Long> ids) {
+        ids.forEach(id -> generations.incrementAndGet(stripe(id)));
+        cache.invalidateAll(ids);
+    }
+
+    private static int stripe(Long id) {
+        return Long.hashCode(id) & (GENERATION_STRIPES - 1);
+    }
+
+    /**
+     * Concurrent writers may finish their cache writes out of order; never replace a newer version.
+     */
+    private static Task newer(Task cached, Task fresh) {
+        if (cached == null) {
+            return fresh;
+        }
+        return cached.getVersion() != null && fresh.getVersion() != null && cached.getVersion() > fresh.getVersion()
+                ? cached
+                : fresh;
+    }
+
+    private static Task copy(Task task) {
+        return new Task(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getCreatedAt(),
+                task.getUpdatedAt(),
+                task.getVersion()
+        );
+    }
+}
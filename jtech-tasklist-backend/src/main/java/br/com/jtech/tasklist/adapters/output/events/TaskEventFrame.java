@@ -0,0 +1,13 @@
+package br.com.jtech.tasklist.adapters.output.events;
+
+/**
+ * One rendered event, shared by every subscriber: {@code data} is serialized once on publish.
+ * A frame without a name is a heartbeat and carries no id.
+ */
+public record TaskEventFrame(long sequence, String id, String name, String data) {
+    static final TaskEventFrame HEARTBEAT = new TaskEventFrame(-1, null, null, null);
+
+    public boolean isHeartbeat() {
+        return name == null;
+    }
+}
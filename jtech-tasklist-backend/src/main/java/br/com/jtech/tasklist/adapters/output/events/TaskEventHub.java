@@ -0,0 +1,245 @@
+package br.com.jtech.tasklist.adapters.output.events;
+
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * In-process fan-out of committed task changes. Each event gets a sequence number and is rendered
+ * once into a {@link TaskEventFrame} kept in a fixed-size ring, so a reconnecting client can resume
+ * from its Last-Event-ID while that id is still in the ring. Ids are {@code <epoch>-<sequence>},
+ * the epoch being this hub's start time: ids from another process or an earlier run never resume.
+ * <p>
+ * Publishing only hands the frame to each sink's queue; sinks write on their own threads, and one
+ * that falls behind is dropped instead of slowing the writer or the other subscribers.
+ */
+@Slf4j
+public class TaskEventHub implements TaskEventPublisherPort, SmartLifecycle {
+    static final String READY = "ready";
+    static final String RESET = "reset";
+    private static final String EMPTY_DATA = "{}";
+
+    private final Function<TaskEvent, String> renderer;
+    private final TaskEventFrame[] ring;
+    private final Duration heartbeat;
+    private final String epoch = Long.toString(System.currentTimeMillis());
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<TaskEventSink> sinks = new LinkedHashSet<>();
+    private final Counter published;
+    private final Counter dropped;
+    private long nextSequence = 1;
+    private ScheduledExecutorService heartbeats;
+
+    public TaskEventHub(Function<TaskEvent, String> renderer, int ringSize, Duration heartbeat, MeterRegistry meterRegistry) {
+        if (ringSize < 1) {
+            throw new IllegalArgumentException("ringSize must be positive");
+        }
+        this.renderer = renderer;
+        this.ring = new TaskEventFrame[ringSize];
+        this.heartbeat = heartbeat;
+        this.published = Counter.builder("tasklist.events.published")
+                .description("Task change events fanned out to subscribers")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("tasklist.events.subscribers.dropped")
+                .description("Subscribers removed because they fell behind or their connection failed")
+                .register(meterRegistry);
+        Gauge.builder("tasklist.events.subscribers", this, TaskEventHub::subscriberCount)
+                .description("Connected task event subscribers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Inside a transaction the event waits for the commit (and is discarded on rollback), so
+     * subscribers never see a change they could not read back.
+     */
+    @Override
+    public void publish(TaskEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(event);
+                }
+            });
+        } else {
+            dispatch(event);
+        }
+    }
+
+    /**
+     * Registers a sink. Without a Last-Event-ID it gets a {@code ready} frame carrying the current
+     * position; with one it gets every later event still in the ring, or a {@code reset} frame when
+     * that gap can no longer be replayed (too old, unknown epoch, or larger than the sink's queue)
+     * and the client must reload its list.
+     */
+    public void subscribe(TaskEventSink sink, String lastEventId) {
+        lock.lock();
+        try {
+            if (replay(sink, lastEventId)) {
+                sinks.add(sink);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void unsubscribe(TaskEventSink sink) {
+        lock.lock();
+        try {
+            sinks.remove(sink);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int subscriberCount() {
+        lock.lock();
+        try {
+            return sinks.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void dispatch(TaskEvent event) {
+        // Serialized once, outside the lock; every sink writes the same string
+        String data = renderer.apply(event);
+        String name = event.type().name().toLowerCase(Locale.ROOT);
+        lock.lock();
+        try {
+            long sequence = nextSequence++;
+            TaskEventFrame frame = new TaskEventFrame(sequence, id(sequence), name, data);
+            ring[slot(sequence)] = frame;
+            offerAll(frame);
+        } finally {
+            lock.unlock();
+        }
+        published.increment();
+    }
+
+    /** Comment line to every sink: keeps proxies from timing the stream out and finds dead peers. */
+    void heartbeat() {
+        lock.lock();
+        try {
+            offerAll(TaskEventFrame.HEARTBEAT);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        lock.lock();
+        try {
+            if (heartbeats != null) {
+                return;
+            }
+            heartbeats = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("task-events-heartbeat").daemon().factory());
+            heartbeats.scheduleAtFixedRate(this::heartbeat, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Ends every stream on shutdown; clients reconnect, and a new epoch answers them with {@code reset}. */
+    @Override
+    public void stop() {
+        List<TaskEventSink> closing;
+        lock.lock();
+        try {
+            if (heartbeats == null) {
+                return;
+            }
+            heartbeats.shutdownNow();
+            heartbeats = null;
+            closing = new ArrayList<>(sinks);
+            sinks.clear();
+        } finally {
+            lock.unlock();
+        }
+        closing.forEach(TaskEventSink::close);
+        log.info("Closed {} task event streams", closing.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        lock.lock();
+        try {
+            return heartbeats != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void offerAll(TaskEventFrame frame) {
+        int before = sinks.size();
+        sinks.removeIf(sink -> !sink.offer(frame));
+        int removed = before - sinks.size();
+        if (removed > 0) {
+            dropped.increment(removed);
+        }
+    }
+
+    private boolean replay(TaskEventSink sink, String lastEventId) {
+        long current = nextSequence - 1;
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return sink.offer(new TaskEventFrame(current, id(current), READY, EMPTY_DATA));
+        }
+        long after = resumePoint(sink, lastEventId);
+        if (after < 0) {
+            return sink.offer(new TaskEventFrame(current, id(current), RESET, EMPTY_DATA));
+        }
+        for (long sequence = after + 1; sequence <= current; sequence++) {
+            if (!sink.offer(ring[slot(sequence)])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** The sequence to replay after, or -1 when the gap cannot be replayed. */
+    private long resumePoint(TaskEventSink sink, String lastEventId) {
+        int separator = lastEventId.indexOf('-');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        long after;
+        try {
+            after = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        long current = nextSequence - 1;
+        long oldest = Math.max(1, nextSequence - ring.length);
+        if (after > current || after < oldest - 1 || current - after > sink.capacity()) {
+            return -1;
+        }
+        return after;
+    }
+
+    private String id(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % ring.length);
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.jtech.tasklist.adapters.output.events;
+
+/**
+ * One connected client as seen by {@link TaskEventHub}. Implementations queue and write on their own
+ * threads: {@link #offer} is called under the hub lock and must never block.
+ */
+public interface TaskEventSink {
+    /**
+     * Queues a frame for delivery; false once the sink is closed or has fallen more than
+     * {@link #capacity()} frames behind, after which the hub forgets it.
+     */
+    boolean offer(TaskEventFrame frame);
+
+    /** Frames the sink holds before it gives up on its client; also caps a Last-Event-ID replay. */
+    int capacity();
+
+    void close();
+}
@@ -0,0 +1,299 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskChangeMarker;
+import br.com.jtech.tasklist.application.core.domains.TaskCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskPatch;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Group commit for task creation in front of another {@link TaskRepositoryPort}. Each {@link #save}
+ * of a new task is queued and the caller blocks on its own future; a single flusher thread drains the
+ * queue into {@link TaskRepositoryPort#saveAll}, one transaction (and one commit) per batch, as soon
+ * as {@code maxBatch} tasks are waiting or {@code maxDelay} after the first of them arrived.
+ * <p>
+ * The queue is lock-free, so producers never contend with each other or with a flush in progress.
+ * When a batch fails, its tasks are retried one by one and only the offending ones fail. Saves of
+ * existing tasks, saves inside a caller's transaction (which must commit or roll back with it) and
+ * every other operation go straight to the delegate.
+ */
+@Slf4j
+public class GroupCommitTaskRepositoryAdapter implements TaskRepositoryPort, SmartLifecycle {
+    private final TaskRepositoryPort delegate;
+    private final int maxBatch;
+    private final long maxDelayNanos;
+    private final ConcurrentLinkedQueue<PendingSave> queue = new ConcurrentLinkedQueue<>();
+    private final DistributionSummary batchSizes;
+    private final Timer flushes;
+    private final ReentrantLock lifecycle = new ReentrantLock();
+    private volatile boolean running;
+    private volatile Thread flusher;
+
+    public GroupCommitTaskRepositoryAdapter(TaskRepositoryPort delegate, int maxBatch, Duration maxDelay,
+                                            MeterRegistry meterRegistry) {
+        if (maxBatch < 1) {
+            throw new IllegalArgumentException("maxBatch must be positive");
+        }
+        this.delegate = delegate;
+        this.maxBatch = maxBatch;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.batchSizes = DistributionSummary.builder("tasklist.groupcommit.batch.size")
+                .description("Tasks inserted per group commit")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.flushes = Timer.builder("tasklist.groupcommit.flush")
+                .description("Time to insert and commit one group of tasks")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Task save(Task task) {
+        Thread thread = flusher;
+        if (thread == null || task.getId() != null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return delegate.save(task);
+        }
+        PendingSave pending = new PendingSave(task, new CompletableFuture<>());
+        queue.offer(pending);
+        // Stopped meanwhile: whoever removes the entry first (this thread or stop()) saves it
+        if (!running && queue.remove(pending)) {
+            return delegate.save(task);
+        }
+        LockSupport.unpark(thread);
+        try {
+            return pending.result().join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        return delegate.saveAll(tasks);
+    }
+
+    @Override
+    public void insertAll(List<Task> tasks) {
+        delegate.insertAll(tasks);
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Task> update(Long id, TaskPatch patch) {
+        return delegate.update(id, patch);
+    }
+
+    @Override
+    public Page<TaskView> findAll(Pageable pageable, TaskStatus status) {
+        return delegate.findAll(pageable, status);
+    }
+
+    @Override
+    public Page<TaskView> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Override
+    public Slice<TaskView> findSlice(Pageable pageable, TaskStatus status) {
+        return delegate.findSlice(pageable, status);
+    }
+
+    @Override
+    public Slice<TaskView> findSlice(Pageable pageable) {
+        return delegate.findSlice(pageable);
+    }
+
+    @Override
+    public Map<TaskStatus, Long> countByStatus() {
+        return delegate.countByStatus();
+    }
+
+    @Override
+    public TaskChangeMarker changeMarker() {
+        return delegate.changeMarker();
+    }
+
+    @Override
+    public List<Task> findAfter(TaskCursor after, int limit, TaskStatus status) {
+        return delegate.findAfter(after, limit, status);
+    }
+
+    @Override
+    public List<Task> findAfter(TaskCursor after, int limit) {
+        return delegate.findAfter(after, limit);
+    }
+
+    @Override
+    public void forEach(TaskStatus status, Consumer<Task> consumer) {
+        delegate.forEach(status, consumer);
+    }
+
+    @Override
+    public void forEachAfter(long afterId, Consumer<Task> consumer) {
+        delegate.forEachAfter(afterId, consumer);
+    }
+
+    @Override
+    public List<Long> updateStatus(Collection<Long> ids, TaskStatus status, Instant updatedAt) {
+        return delegate.updateStatus(ids, status, updatedAt);
+    }
+
+    @Override
+    public List<Long> updateStatusByStatus(TaskStatus fromStatus, TaskStatus status, Instant updatedAt, int limit) {
+        return delegate.updateStatusByStatus(fromStatus, status, updatedAt, limit);
+    }
+
+    @Override
+    public int deleteById(Long id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public void forget(Collection<Long> ids) {
+        delegate.forget(ids);
+    }
+
+    @Override
+    public void start() {
+        lifecycle.lock();
+        try {
+            if (flusher != null) {
+                return;
+            }
+            running = true;
+            flusher = Thread.ofPlatform().name("task-group-commit").daemon().start(this::drainLoop);
+        } finally {
+            lifecycle.unlock();
+        }
+    }
+
+    /** Lets the flusher write what is already queued, then saves any straggler on this thread. */
+    @Override
+    public void stop() {
+        List<PendingSave> rest = new ArrayList<>();
+        lifecycle.lock();
+        try {
+            Thread thread = flusher;
+            if (thread == null) {
+                return;
+            }
+            running = false;
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            flusher = null;
+            for (PendingSave pending; (pending = queue.poll()) != null; ) {
+                rest.add(pending);
+            }
+        } finally {
+            lifecycle.unlock();
+        }
+        if (!rest.isEmpty()) {
+            flush(rest);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+
+    private void drainLoop() {
+        List<PendingSave> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            PendingSave first = queue.poll();
+            if (first == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            batch.add(first);
+            long deadline = System.nanoTime() + maxDelayNanos;
+            while (batch.size() < maxBatch) {
+                PendingSave next = queue.poll();
+                if (next != null) {
+                    batch.add(next);
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !running) {
+                    break;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            try {
+                flush(batch);
+            } catch (Throwable ex) {
+                // Never leave a caller waiting on a future nobody will complete
+                batch.forEach(pending -> pending.result().completeExceptionally(ex));
+                log.error("Group commit flusher failed on a batch of {} tasks", batch.size(), ex);
+            }
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingSave> batch) {
+        List<Task> tasks = batch.stream().map(PendingSave::task).toList();
+        List<Task> saved;
+        long start = System.nanoTime();
+        try {
+            saved = delegate.saveAll(tasks);
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                batch.getFirst().result().completeExceptionally(ex);
+                return;
+            }
+            // One invalid row must not fail the requests that happened to share its transaction
+            for (PendingSave pending : batch) {
+                try {
+                    pending.result().complete(delegate.save(pending.task()));
+                } catch (RuntimeException rowEx) {
+                    pending.result().completeExceptionally(rowEx);
+                }
+            }
+            return;
+        }
+        flushes.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        batchSizes.record(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(saved.get(i));
+        }
+    }
+
+    private record PendingSave(Task task, CompletableFuture<Task> result) {
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.application.core.domains.TaskSearchCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchHit;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskSearchPort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Search on PostgreSQL through the trigger-maintained {@code search_vector} column and its GIN index
+ * (db/vendor/postgresql/V7, V8). The query text goes through {@code websearch_to_tsquery}, so
+ * quotes, {@code or} and {@code -word} work as in web search engines; ranking is
+ * {@code ts_rank_cd}, which depends only on the row itself and so stays stable between pages.
+ */
+public class PostgresTaskSearchAdapter implements TaskSearchPort {
+    private static final String SEARCH = """
+            SELECT id, title, description, status, created_at, updated_at, version, score
+            FROM (
+                SELECT t.id, t.title, t.description, t.status, t.created_at, t.updated_at, t.version,
+                       ts_rank_cd(t.search_vector, q.query) AS score
+                FROM tasks t, websearch_to_tsquery('simple', :query) AS q(query)
+                WHERE t.search_vector @@ q.query
+            ) ranked
+            WHERE CAST(:afterScore AS REAL) IS NULL
+               OR score < :afterScore
+               OR (score = :afterScore AND id > :afterId)
+            ORDER BY score DESC, id ASC
+            LIMIT :limit""";
+
+    private static final RowMapper<TaskSearchHit> HIT_MAPPER = (rs, rowNum) -> new TaskSearchHit(
+            new TaskView(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    rs.getString("description"),
+                    TaskStatus.valueOf(rs.getString("status")),
+                    UtcTimestamps.read(rs, "created_at"),
+                    UtcTimestamps.read(rs, "updated_at"),
+                    rs.getLong("version")
+            ),
+            rs.getFloat("score")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PostgresTaskSearchAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<TaskSearchHit> search(String query, TaskSearchCursor after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query, Types.VARCHAR)
+                .addValue("afterScore", after != null ? after.score() : null, Types.REAL)
+                .addValue("afterId", after != null ? after.id() : null, Types.BIGINT)
+                .addValue("limit", limit, Types.INTEGER);
+        return jdbcTemplate.query(SEARCH, params, HIT_MAPPER);
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * The {@code tasks_archive} table from V10 (monthly range partitions on PostgreSQL). Archiving
+ * locks a chunk of candidate ids, copies those rows and deletes them from {@code tasks} in the
+ * same transaction; the delete fires the usual triggers, so status counters drop and delta sync
+ * clients see the task as removed from the live list. Timestamps are UTC wall time, like in
+ * {@code tasks} ({@link UtcTimestamps}).
+ */
+public class TaskArchiveAdapter implements TaskArchivePort {
+    private static final String COLUMNS = "id, title, description, status, created_at, updated_at, version";
+
+    // Served by idx_tasks_status_updated_at_id; SKIP LOCKED leaves rows being edited for the next run
+    private static final String LOCK_CANDIDATES = """
+            SELECT id FROM tasks
+            WHERE status = :status AND updated_at < :cutoff
+            ORDER BY updated_at, id
+            LIMIT :limit
+            FOR UPDATE""";
+
+    private static final String PREPARE_PARTITIONS = """
+            SELECT tasks_archive_partitions(MIN(updated_at), MAX(updated_at))
+            FROM tasks WHERE id IN (:ids)""";
+
+    private static final String COPY = "INSERT INTO tasks_archive (" + COLUMNS + ", archived_at)\n"
+            + "SELECT " + COLUMNS + ", :archivedAt FROM tasks WHERE id IN (:ids)";
+
+    private static final String DELETE = "DELETE FROM tasks WHERE id IN (:ids)";
+
+    private static final String FIND_BY_ID = "SELECT " + COLUMNS + " FROM tasks_archive WHERE id = :id";
+
+    // Sortable properties accepted by TaskSortPolicy; both tables are indexed on (column, id)
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "id", "id");
+
+    private static final RowMapper<TaskView> VIEW_MAPPER = (rs, rowNum) -> new TaskView(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            TaskStatus.valueOf(rs.getString("status")),
+            UtcTimestamps.read(rs, "created_at"),
+            UtcTimestamps.read(rs, "updated_at"),
+            rs.getLong("version")
+    );
+
+    private static final RowMapper<Task> TASK_MAPPER = (rs, rowNum) -> new Task(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            TaskStatus.valueOf(rs.getString("status")),
+            UtcTimestamps.read(rs, "created_at"),
+            UtcTimestamps.read(rs, "updated_at"),
+            rs.getLong("version")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DatabaseDriver driver;
+    private final String lockCandidates;
+
+    public TaskArchiveAdapter(NamedParameterJdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.driver = TaskJdbcRepository.detect(dataSource);
+        this.lockCandidates = driver == DatabaseDriver.POSTGRESQL ? LOCK_CANDIDATES + " SKIP LOCKED" : LOCK_CANDIDATES;
+    }
+
+    @Override
+    @Transactional
+    public List<Long> archiveDone(Instant updatedBefore, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(lockCandidates, new MapSqlParameterSource()
+                .addValue("status", TaskStatus.DONE.name(), Types.VARCHAR)
+                .addValue("cutoff", UtcTimestamps.toUtc(updatedBefore), Types.TIMESTAMP)
+                .addValue("limit", limit, Types.INTEGER), Long.class);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", UtcTimestamps.toUtc(Instant.now()), Types.TIMESTAMP);
+        if (driver == DatabaseDriver.POSTGRESQL) {
+            // Rows must find their month's partition; the default one only catches strays
+            jdbcTemplate.query(PREPARE_PARTITIONS, params, rs -> null);
+        }
+        jdbcTemplate.update(COPY, params);
+        jdbcTemplate.update(DELETE, params);
+        // Locked above, so every candidate was copied and deleted
+        return ids;
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        List<Task> rows = jdbcTemplate.query(FIND_BY_ID, new MapSqlParameterSource("id", id), TASK_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public Page<TaskView> findAllIncludingArchived(Pageable pageable, TaskStatus status) {
+        String where = status != null ? " WHERE status = :status" : "";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("status", status != null ? status.name() : null, Types.VARCHAR)
+                .addValue("limit", pageable.getPageSize(), Types.INTEGER)
+                .addValue("offset", pageable.getOffset(), Types.BIGINT);
+        // Each branch reads its own (column, id) index; the database merges them in sort order
+        String page = "SELECT " + COLUMNS + " FROM tasks" + where
+                + "\nUNION ALL\nSELECT " + COLUMNS + " FROM tasks_archive" + where
+                + "\nORDER BY " + orderBy(pageable.getSort())
+                + "\nLIMIT :limit OFFSET :offset";
+        String count = "SELECT (SELECT COUNT(*) FROM tasks" + where + ")"
+                + " + (SELECT COUNT(*) FROM tasks_archive" + where + ")";
+
+        List<TaskView> content = jdbcTemplate.query(page, params, VIEW_MAPPER);
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> Objects.requireNonNull(jdbcTemplate.queryForObject(count, params, Long.class)));
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "created_at, id";
+        }
+        StringJoiner orderBy = new StringJoiner(", ");
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            }
+            orderBy.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        return orderBy.toString();
+    }
+}
@@ -0,0 +1,200 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskEntity;
+import br.com.jtech.tasklist.application.core.domains.TaskPatch;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Statements JPA cannot express in one round trip. Updates run as a single auto-committed
+ * statement and read the written row back in the same statement; {@link #forEach} walks a
+ * whole result through a forward-only cursor without materializing it, and {@link #insertAll}
+ * uses the database's bulk load path.
+ */
+@Repository
+public class TaskJdbcRepository {
+    private static final String COLUMNS = "id, title, description, status, created_at, updated_at, version";
+
+    private static final String INSERT_COLUMNS = "title, description, status, created_at, updated_at";
+
+    // Rows per round trip while streaming; bounds driver-side buffering regardless of table size
+    static final int STREAM_FETCH_SIZE = 1000;
+
+    // Rows per JDBC batch for bulk inserts where COPY is not available
+    static final int INSERT_BATCH_SIZE = 1000;
+
+    // COALESCE keeps the stored value for every field the caller left null;
+    // a null expectedVersion means an unconditional (last-write-wins) update
+    private static final String UPDATE = """
+            UPDATE tasks
+            SET title = COALESCE(:title, title),
+                description = COALESCE(:description, description),
+                status = COALESCE(:status, status),
+                updated_at = :updatedAt,
+                version = version + 1
+            WHERE id = :id
+              AND (CAST(:expectedVersion AS BIGINT) IS NULL OR version = :expectedVersion)""";
+
+    static final RowMapper<TaskEntity> ROW_MAPPER = (rs, rowNum) -> new TaskEntity(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            TaskStatus.valueOf(rs.getString("status")),
+            UtcTimestamps.read(rs, "created_at"),
+            UtcTimestamps.read(rs, "updated_at"),
+            rs.getLong("version")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+    private final DatabaseDriver driver;
+    private final String updateReturning;
+
+    public TaskJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        JdbcTemplate streaming = new JdbcTemplate(dataSource);
+        streaming.setFetchSize(STREAM_FETCH_SIZE);
+        this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(streaming);
+        this.driver = detect(dataSource);
+        this.updateReturning = updateReturning(driver);
+    }
+
+    public Optional<TaskEntity> update(Long id, TaskPatch patch) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id, Types.BIGINT)
+                .addValue("title", patch.title(), Types.VARCHAR)
+                .addValue("description", patch.description(), Types.VARCHAR)
+                .addValue("status", patch.status() != null ? patch.status().name() : null, Types.VARCHAR)
+                .addValue("updatedAt", UtcTimestamps.toUtc(patch.updatedAt()), Types.TIMESTAMP)
+                .addValue("expectedVersion", patch.expectedVersion(), Types.BIGINT);
+        List<TaskEntity> rows = jdbcTemplate.query(updateReturning, params, ROW_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Hands every row (optionally only those in {@code status}) to {@code consumer} in id order as it is
+     * fetched. PostgreSQL only honours the fetch size inside a transaction, so callers must hold one;
+     * an exception from the consumer closes the cursor and ends the scan.
+     */
+    public void forEach(TaskStatus status, Consumer<TaskEntity> consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("status", status != null ? status.name() : null, Types.VARCHAR);
+        stream(status != null ? " WHERE status = :status" : "", params, consumer);
+    }
+
+    /**
+     * Same streaming scan over the rows with {@code id > afterId}, walked through the primary key.
+     */
+    public void forEachAfter(long afterId, Consumer<TaskEntity> consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterId", afterId, Types.BIGINT);
+        stream(" WHERE id > :afterId", params, consumer);
+    }
+
+    private void stream(String where, MapSqlParameterSource params, Consumer<TaskEntity> consumer) {
+        String sql = "SELECT " + COLUMNS + " FROM tasks" + where + " ORDER BY id";
+        streamingJdbcTemplate.query(sql, params, (RowCallbackHandler) rs ->
+                consumer.accept(ROW_MAPPER.mapRow(rs, rs.getRow())));
+    }
+
+    /**
+     * Bulk-inserts new rows (ids, versions and counters come from column defaults and triggers) on the
+     * caller's transaction: {@code COPY ... FROM STDIN} on PostgreSQL, JDBC batches elsewhere.
+     */
+    public void insertAll(List<TaskEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        JdbcTemplate template = jdbcTemplate.getJdbcTemplate();
+        if (driver == DatabaseDriver.POSTGRESQL) {
+            template.execute((ConnectionCallback<Void>) connection -> {
+                copyIn(connection.unwrap(PGConnection.class), entities);
+                return null;
+            });
+            return;
+        }
+        template.batchUpdate(
+                "INSERT INTO tasks (" + INSERT_COLUMNS + ") VALUES (?, ?, ?, ?, ?)",
+                entities,
+                INSERT_BATCH_SIZE,
+                (ps, entity) -> {
+                    ps.setString(1, entity.getTitle());
+                    ps.setString(2, entity.getDescription());
+                    ps.setString(3, entity.getStatus().name());
+                    ps.setObject(4, UtcTimestamps.toUtc(entity.getCreatedAt()));
+                    ps.setObject(5, UtcTimestamps.toUtc(entity.getUpdatedAt()));
+                });
+    }
+
+    private static void copyIn(PGConnection connection, List<TaskEntity> entities) throws SQLException {
+        String copy = "COPY tasks (" + INSERT_COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(connection, copy), StandardCharsets.UTF_8), 64 * 1024)) {
+            for (TaskEntity entity : entities) {
+                // In COPY csv an unquoted empty field is NULL, so present values are always quoted
+                writeCopyField(out, entity.getTitle());
+                out.write(',');
+                writeCopyField(out, entity.getDescription());
+                out.write(',');
+                out.write(entity.getStatus().name());
+                out.write(',');
+                out.write(UtcTimestamps.toUtc(entity.getCreatedAt()).toString());
+                out.write(',');
+                out.write(UtcTimestamps.toUtc(entity.getUpdatedAt()).toString());
+                out.write('\n');
+            }
+        } catch (IOException ex) {
+            throw new SQLException("COPY into tasks failed", ex);
+        }
+    }
+
+    private static void writeCopyField(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    static String updateReturning(DatabaseDriver driver) {
+        return switch (driver) {
+            case POSTGRESQL -> UPDATE + "\nRETURNING " + COLUMNS;
+            case H2 -> "SELECT " + COLUMNS + " FROM FINAL TABLE (" + UPDATE + ")";
+            default -> throw new IllegalStateException("Unsupported database for UPDATE ... RETURNING: " + driver);
+        };
+    }
+
+    static DatabaseDriver detect(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return DatabaseDriver.fromProductName(productName);
+        } catch (MetaDataAccessException ex) {
+            throw new IllegalStateException("Could not detect the database product", ex);
+        }
+    }
+}
@@ -2,20 +2,40 @@ package br.com.jtech.tasklist.adapters.output.repositories;
 
 import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskEntity;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskChangeMarker;
+import br.com.jtech.tasklist.application.core.domains.TaskCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskPatch;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
 public class TaskRepositoryAdapter implements TaskRepositoryPort {
+    // Keeps IN lists well below driver/database bind parameter limits
+    static final int BULK_CHUNK_SIZE = 1000;
+
     private final TaskSpringDataRepository taskSpringDataRepository;
+    private final TaskJdbcRepository taskJdbcRepository;
 
-    public TaskRepositoryAdapter(TaskSpringDataRepository taskSpringDataRepository) {
+    public TaskRepositoryAdapter(TaskSpringDataRepository taskSpringDataRepository,
+                                 TaskJdbcRepository taskJdbcRepository) {
         this.taskSpringDataRepository = taskSpringDataRepository;
+        this.taskJdbcRepository = taskJdbcRepository;
     }
 
     @Override
@@ -25,45 +45,156 @@ public class TaskRepositoryAdapter implements TaskRepositoryPort {
         return toDomain(saved);
     }
 
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<TaskEntity> entities = tasks.stream().map(this::toEntity).toList();
+        return taskSpringDataRepository.saveAll(entities).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<Task> tasks) {
+        taskJdbcRepository.insertAll(tasks.stream().map(this::toEntity).toList());
+    }
+
     @Override
     public Optional<Task> findById(Long id) {
         return taskSpringDataRepository.findById(id).map(this::toDomain);
     }
 
     @Override
-    public Page<Task> findAll(Pageable pageable, TaskStatus status) {
-        return taskSpringDataRepository.findByStatus(status, pageable).map(this::toDomain);
+    public Optional<Task> update(Long id, TaskPatch patch) {
+        return taskJdbcRepository.update(id, patch).map(this::toDomain);
+    }
+
+    @Override
+    public Page<TaskView> findAll(Pageable pageable, TaskStatus status) {
+        return taskSpringDataRepository.findViewsByStatus(status, pageable);
+    }
+
+    @Override
+    public Page<TaskView> findAll(Pageable pageable) {
+        return taskSpringDataRepository.findViews(pageable);
+    }
+
+    @Override
+    public Slice<TaskView> findSlice(Pageable pageable, TaskStatus status) {
+        return taskSpringDataRepository.findViewSliceByStatus(status, pageable);
+    }
+
+    @Override
+    public Slice<TaskView> findSlice(Pageable pageable) {
+        return taskSpringDataRepository.findViewSlice(pageable);
+    }
+
+    @Override
+    public Map<TaskStatus, Long> countByStatus() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (Object[] row : taskSpringDataRepository.sumStatusCounts()) {
+            counts.put(TaskStatus.valueOf((String) row[0]), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public TaskChangeMarker changeMarker() {
+        return new TaskChangeMarker(taskSpringDataRepository.sumListVersions());
+    }
+
+    @Override
+    public List<Task> findAfter(TaskCursor after, int limit, TaskStatus status) {
+        Pageable firstRows = PageRequest.of(0, limit);
+        List<TaskEntity> entities = after == null
+                ? taskSpringDataRepository.findByStatusOrderByCreatedAtAscIdAsc(status, firstRows)
+                : taskSpringDataRepository.findAfterByStatus(status, after.createdAt(), after.id(), firstRows);
+        return entities.stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public List<Task> findAfter(TaskCursor after, int limit) {
+        Pageable firstRows = PageRequest.of(0, limit);
+        List<TaskEntity> entities = after == null
+                ? taskSpringDataRepository.findByOrderByCreatedAtAscIdAsc(firstRows)
+                : taskSpringDataRepository.findAfter(after.createdAt(), after.id(), firstRows);
+        return entities.stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(TaskStatus status, Consumer<Task> consumer) {
+        taskJdbcRepository.forEach(status, entity -> consumer.accept(toDomain(entity)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachAfter(long afterId, Consumer<Task> consumer) {
+        taskJdbcRepository.forEachAfter(afterId, entity -> consumer.accept(toDomain(entity)));
+    }
+
+    @Override
+    @Transactional
+    public List<Long> updateStatus(Collection<Long> ids, TaskStatus status, Instant updatedAt) {
+        List<Long> requested = List.copyOf(ids);
+        List<Long> updated = new ArrayList<>(requested.size());
+        for (int from = 0; from < requested.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = requested.subList(from, Math.min(requested.size(), from + BULK_CHUNK_SIZE));
+            List<Long> existing = taskSpringDataRepository.lockIds(chunk);
+            if (!existing.isEmpty()) {
+                taskSpringDataRepository.updateStatus(existing, status, updatedAt);
+                updated.addAll(existing);
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public List<Long> updateStatusByStatus(TaskStatus fromStatus, TaskStatus status, Instant updatedAt, int limit) {
+        // Updated rows leave fromStatus, so the caller's next call locks the following chunk
+        List<Long> ids = taskSpringDataRepository.lockIdsByStatus(
+                fromStatus, PageRequest.of(0, Math.min(limit, BULK_CHUNK_SIZE)));
+        if (!ids.isEmpty()) {
+            taskSpringDataRepository.updateStatus(ids, status, updatedAt);
+        }
+        return ids;
     }
 
     @Override
-    public Page<Task> findAll(Pageable pageable) {
-        return taskSpringDataRepository.findAll(pageable).map(this::toDomain);
+    public int deleteById(Long id) {
+        return taskSpringDataRepository.deleteRow(id);
     }
 
     @Override
-    public void deleteById(Long id) {
-        taskSpringDataRepository.deleteById(id);
+    public void forget(Collection<Long> ids) {
+        // Nothing derived here
     }
 
-    private TaskEntity toEntity(Task task) {
+    // Package-private for TaskRepositoryAdapterBenchmark (src/jmh)
+    TaskEntity toEntity(Task task) {
         return new TaskEntity(
                 task.getId(),
                 task.getTitle(),
                 task.getDescription(),
                 task.getStatus(),
                 task.getCreatedAt(),
-                task.getUpdatedAt()
+                task.getUpdatedAt(),
+                task.getVersion()
         );
     }
 
-    private Task toDomain(TaskEntity entity) {
+    // Public for TaskListMappingBenchmark (src/jmh), which maps managed entities outside this package
+    public Task toDomain(TaskEntity entity) {
         return new Task(
                 entity.getId(),
                 entity.getTitle(),
                 entity.getDescription(),
                 entity.getStatus(),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getVersion()
         );
     }
 }
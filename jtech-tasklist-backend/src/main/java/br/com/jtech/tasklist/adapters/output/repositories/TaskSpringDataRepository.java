@@ -2,12 +2,103 @@ package br.com.jtech.tasklist.adapters.output.repositories;
 
 import br.com.jtech.tasklist.adapters.output.repositories.entities.TaskEntity;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface TaskSpringDataRepository extends JpaRepository<TaskEntity, Long> {
-    Page<TaskEntity> findByStatus(TaskStatus status, Pageable pageable);
+    // List reads project straight into the read record: scalar rows, no managed entities,
+    // no persistence-context snapshots for dirty checking
+    String SELECT_VIEW = """
+            select new br.com.jtech.tasklist.application.core.domains.TaskView(
+                t.id, t.title, t.description, t.status, t.createdAt, t.updatedAt, t.version)
+            from TaskEntity t""";
+
+    @Query(value = SELECT_VIEW, countQuery = "select count(t) from TaskEntity t")
+    Page<TaskView> findViews(Pageable pageable);
+
+    @Query(value = SELECT_VIEW + " where t.status = :status",
+            countQuery = "select count(t) from TaskEntity t where t.status = :status")
+    Page<TaskView> findViewsByStatus(@Param("status") TaskStatus status, Pageable pageable);
+
+    @Query(SELECT_VIEW)
+    Slice<TaskView> findViewSlice(Pageable pageable);
+
+    @Query(SELECT_VIEW + " where t.status = :status")
+    Slice<TaskView> findViewSliceByStatus(@Param("status") TaskStatus status, Pageable pageable);
+
+    @Query(SELECT_VIEW + " where t.id in :ids")
+    List<TaskView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // task_status_counts is maintained by the tasks_status_count triggers (db/vendor/*/V3)
+    @Query(value = "SELECT status, SUM(row_count) FROM task_status_counts GROUP BY status", nativeQuery = true)
+    List<Object[]> sumStatusCounts();
+
+    // task_list_versions is bumped by the tasks_list_version triggers (db/vendor/*/V13)
+    @Query(value = "SELECT CAST(COALESCE(SUM(version), 0) AS BIGINT) FROM task_list_versions", nativeQuery = true)
+    long sumListVersions();
+
+    // Keyset reads: the ">=" bound keeps the predicate sargable on (created_at, id)
+    // and (status, created_at, id), the OR only filters rows sharing the boundary timestamp.
+    List<TaskEntity> findByOrderByCreatedAtAscIdAsc(Pageable pageable);
+
+    List<TaskEntity> findByStatusOrderByCreatedAtAscIdAsc(TaskStatus status, Pageable pageable);
+
+    @Query("""
+            select t from TaskEntity t
+            where t.createdAt >= :createdAt
+              and (t.createdAt > :createdAt or t.id > :id)
+            order by t.createdAt asc, t.id asc
+            """)
+    List<TaskEntity> findAfter(@Param("createdAt") Instant createdAt,
+                               @Param("id") Long id,
+                               Pageable pageable);
+
+    @Query("""
+            select t from TaskEntity t
+            where t.status = :status
+              and t.createdAt >= :createdAt
+              and (t.createdAt > :createdAt or t.id > :id)
+            order by t.createdAt asc, t.id asc
+            """)
+    List<TaskEntity> findAfterByStatus(@Param("status") TaskStatus status,
+                                       @Param("createdAt") Instant createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    // Bulk status transitions: the locking SELECT pins the rows that will be reported as updated,
+    // so a concurrent delete cannot slip in between it and the set-based UPDATE
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id from TaskEntity t where t.id in :ids order by t.id")
+    List<Long> lockIds(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id from TaskEntity t where t.status = :status order by t.id")
+    List<Long> lockIdsByStatus(@Param("status") TaskStatus status, Pageable pageable);
+
+    @Modifying
+    @Query("update TaskEntity t set t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1 where t.id in :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") TaskStatus status,
+                     @Param("updatedAt") Instant updatedAt);
+
+    // JpaRepository.deleteById loads the entity first; this is one DELETE and reports the row count
+    @Modifying
+    @Transactional
+    @Query("delete from TaskEntity t where t.id = :id")
+    int deleteRow(@Param("id") Long id);
 }
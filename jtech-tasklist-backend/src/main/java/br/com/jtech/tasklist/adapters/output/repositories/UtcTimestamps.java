@@ -0,0 +1,27 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * The one convention for the {@code TIMESTAMP} (without time zone) columns: UTC wall time, as
+ * Hibernate writes {@link Instant} fields with {@code hibernate.jdbc.time_zone=UTC}. Every plain JDBC
+ * bind and read goes through here; {@link java.sql.Timestamp} would shift values by the JVM zone.
+ */
+public final class UtcTimestamps {
+
+    private UtcTimestamps() {
+    }
+
+    public static LocalDateTime toUtc(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+    }
+
+    public static Instant read(ResultSet rs, String column) throws SQLException {
+        LocalDateTime value = rs.getObject(column, LocalDateTime.class);
+        return value != null ? value.toInstant(ZoneOffset.UTC) : null;
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.jtech.tasklist.adapters.output.repositories.triggers;
+
+import br.com.jtech.tasklist.adapters.output.repositories.UtcTimestamps;
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * H2 counterpart of the PostgreSQL {@code tasks_change_track()} trigger function: before an update
+ * it stamps the row with the next {@code task_change_seq} value, after a delete it records a tombstone.
+ * Before an insert it only sets {@code changed_at}: H2 has no {@code clock_timestamp()}, and its
+ * {@code LOCALTIMESTAMP} default would date every row of a transaction at the transaction start.
+ */
+public class TaskChangeTrigger implements Trigger {
+    // Column positions in the tasks table (new columns are only ever appended)
+    private static final int ID = 0;
+    private static final int CHANGE_SEQ = 7;
+    private static final int CHANGED_AT = 8;
+
+    private static final String NEXT_SEQ = "SELECT NEXT VALUE FOR task_change_seq";
+    private static final String TOMBSTONE =
+            "INSERT INTO task_tombstones (task_id, change_seq, deleted_at) VALUES (?, ?, ?)";
+
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName,
+                     boolean before, int type) {
+        // stateless
+    }
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        // Wall clock of this row's write in UTC, like clock_timestamp() AT TIME ZONE 'UTC'
+        LocalDateTime now = UtcTimestamps.toUtc(Instant.now());
+        if (newRow != null) {
+            if (oldRow != null) {
+                newRow[CHANGE_SEQ] = nextSeq(conn);
+            }
+            newRow[CHANGED_AT] = now;
+            return;
+        }
+        try (PreparedStatement statement = conn.prepareStatement(TOMBSTONE)) {
+            statement.setLong(1, ((Number) oldRow[ID]).longValue());
+            statement.setLong(2, nextSeq(conn));
+            statement.setObject(3, now);
+            statement.executeUpdate();
+        }
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+
+    @Override
+    public void remove() {
+        // nothing to release
+    }
+
+    private static long nextSeq(Connection conn) throws SQLException {
+        try (PreparedStatement statement = conn.prepareStatement(NEXT_SEQ);
+             ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.jtech.tasklist.adapters.output.repositories.triggers;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * H2 counterpart of the PostgreSQL {@code tasks_list_version()} statement trigger: bumps one
+ * {@code task_list_versions} slot per statement that writes {@code tasks}.
+ */
+public class TaskListVersionTrigger implements Trigger {
+    static final int SLOTS = 16;
+
+    private static final String BUMP = "UPDATE task_list_versions SET version = version + 1 WHERE slot = ?";
+
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName,
+                     boolean before, int type) {
+        // stateless
+    }
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        try (PreparedStatement statement = conn.prepareStatement(BUMP)) {
+            statement.setInt(1, ThreadLocalRandom.current().nextInt(SLOTS));
+            statement.executeUpdate();
+        }
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+
+    @Override
+    public void remove() {
+        // nothing to release
+    }
+}
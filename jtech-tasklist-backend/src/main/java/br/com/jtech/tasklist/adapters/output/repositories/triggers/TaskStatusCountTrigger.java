@@ -0,0 +1,61 @@
+package br.com.jtech.tasklist.adapters.output.repositories.triggers;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * H2 counterpart of the PostgreSQL {@code tasks_status_count()} trigger function:
+ * keeps {@code task_status_counts} in step with every insert, delete and status change on {@code tasks}.
+ */
+public class TaskStatusCountTrigger implements Trigger {
+    static final int SLOTS = 16;
+
+    // Column positions in the tasks table (new columns are only ever appended)
+    private static final int ID = 0;
+    private static final int STATUS = 3;
+
+    private static final String ADJUST =
+            "UPDATE task_status_counts SET row_count = row_count + ? WHERE status = ? AND slot = ?";
+
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName,
+                     boolean before, int type) {
+        // stateless
+    }
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        if (oldRow != null && newRow != null && Objects.equals(oldRow[STATUS], newRow[STATUS])) {
+            return;
+        }
+        if (oldRow != null) {
+            adjust(conn, oldRow, -1);
+        }
+        if (newRow != null) {
+            adjust(conn, newRow, 1);
+        }
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+
+    @Override
+    public void remove() {
+        // nothing to release
+    }
+
+    private void adjust(Connection conn, Object[] row, int delta) throws SQLException {
+        try (PreparedStatement statement = conn.prepareStatement(ADJUST)) {
+            statement.setInt(1, delta);
+            statement.setString(2, String.valueOf(row[STATUS]));
+            statement.setInt(3, (int) (((Number) row[ID]).longValue() % SLOTS));
+            statement.executeUpdate();
+        }
+    }
+}
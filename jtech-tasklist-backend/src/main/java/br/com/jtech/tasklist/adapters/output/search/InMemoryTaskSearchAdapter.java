@@ -0,0 +1,57 @@
+package br.com.jtech.tasklist.adapters.output.search;
+
+import br.com.jtech.tasklist.adapters.output.repositories.TaskSpringDataRepository;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchHit;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskSearchPort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Search for databases without full-text support (H2): ranks ids in a {@link TaskSearchIndex},
+ * then reads those rows by primary key. Ids whose row is gone (deleted outside the
+ * repository port) are skipped and the index is asked for more, so windows stay full.
+ */
+public class InMemoryTaskSearchAdapter implements TaskSearchPort {
+    private final TaskSearchIndex index;
+    private final TaskSpringDataRepository taskSpringDataRepository;
+
+    public InMemoryTaskSearchAdapter(TaskSearchIndex index, TaskSpringDataRepository taskSpringDataRepository) {
+        this.index = index;
+        this.taskSpringDataRepository = taskSpringDataRepository;
+    }
+
+    @Override
+    public List<TaskSearchHit> search(String query, TaskSearchCursor after, int limit) {
+        List<TaskSearchHit> hits = new ArrayList<>(limit);
+        TaskSearchCursor position = after;
+        while (hits.size() < limit) {
+            int wanted = limit - hits.size();
+            List<TaskSearchIndex.Match> matches = index.search(query, position, wanted);
+            if (matches.isEmpty()) {
+                break;
+            }
+            Map<Long, TaskView> rows = taskSpringDataRepository
+                    .findViewsByIdIn(matches.stream().map(TaskSearchIndex.Match::id).toList())
+                    .stream()
+                    .collect(Collectors.toMap(TaskView::id, Function.identity()));
+            for (TaskSearchIndex.Match match : matches) {
+                TaskView row = rows.get(match.id());
+                if (row != null) {
+                    hits.add(new TaskSearchHit(row, match.score()));
+                }
+            }
+            if (matches.size() < wanted) {
+                break;
+            }
+            TaskSearchIndex.Match last = matches.get(matches.size() - 1);
+            position = new TaskSearchCursor(last.score(), last.id());
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,324 @@
+package br.com.jtech.tasklist.adapters.output.search;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchCursor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Word → postings inverted index. Text is lowercased and split on anything that is not a letter or
+ * digit, like PostgreSQL's {@code simple} configuration. Queries take the {@code websearch_to_tsquery}
+ * operators ({@link WebSearchQuery}: {@code or}, {@code -word}, quoted phrases without the adjacency
+ * check). A task scores, per query word it contains, 1.0 for each occurrence in the title and 0.4 for
+ * each in the description (the A/B weights {@code ts_rank_cd} uses on PostgreSQL).
+ * <p>
+ * Postings are id-sorted primitive arrays, so a query walks the rarest word's list and
+ * binary-searches the others; new tasks get increasing ids and are appended. One read/write lock
+ * guards everything: searches run in parallel, writes hold it for one task.
+ */
+public class InvertedTaskSearchIndex implements TaskSearchIndex {
+    static final float TITLE_WEIGHT = 1.0f;
+    static final float DESCRIPTION_WEIGHT = 0.4f;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    static final Comparator<Match> RANK = Comparator.comparing(Match::score, Comparator.reverseOrder())
+            .thenComparingLong(Match::id);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long maxId;
+
+    // What is indexed for one task: its version and the postings lists that hold it
+    private record Document(Long version, Postings[] postings) {
+    }
+
+    @Override
+    public void put(Task task) {
+        long id = task.getId();
+        Map<String, Float> weights = new LinkedHashMap<>();
+        addWeights(weights, task.getTitle(), TITLE_WEIGHT);
+        addWeights(weights, task.getDescription(), DESCRIPTION_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            Document indexed = documents.get(id);
+            if (indexed != null) {
+                // Writers finish in any order; never let a late, older copy replace a newer one
+                if (indexed.version() != null && task.getVersion() != null && task.getVersion() < indexed.version()) {
+                    return;
+                }
+                unlink(id, indexed);
+            }
+            Postings[] lists = new Postings[weights.size()];
+            int i = 0;
+            for (Map.Entry<String, Float> weight : weights.entrySet()) {
+                Postings list = postings.computeIfAbsent(weight.getKey(), Postings::new);
+                list.put(id, weight.getValue());
+                lists[i++] = list;
+            }
+            documents.put(id, new Document(task.getVersion(), lists));
+            maxId = Math.max(maxId, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Document indexed = documents.remove(id);
+            if (indexed != null) {
+                unlink(id, indexed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long maxId() {
+        lock.readLock().lock();
+        try {
+            return maxId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Match> search(String query, TaskSearchCursor after, int limit) {
+        WebSearchQuery parsed = WebSearchQuery.parse(query);
+        if (parsed.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] scored = new Postings[parsed.scoredWords().size()];
+            for (int w = 0; w < scored.length; w++) {
+                scored[w] = postings.get(parsed.scoredWords().get(w));
+            }
+            Ranking ranking = new Ranking(scored, after, limit, parsed.clauses().size() > 1);
+            for (WebSearchQuery.Clause clause : parsed.clauses()) {
+                collect(clause, ranking);
+            }
+            return ranking.matches();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(WebSearchQuery.Clause clause, Ranking ranking) {
+        Postings[] required = new Postings[clause.required().size()];
+        for (int r = 0; r < required.length; r++) {
+            required[r] = postings.get(clause.required().get(r));
+            if (required[r] == null) {
+                return;
+            }
+        }
+        List<Postings[]> excluded = new ArrayList<>(clause.excluded().size());
+        for (List<String> term : clause.excluded()) {
+            Postings[] lists = term.stream().map(postings::get).toArray(Postings[]::new);
+            // A term with an unknown word is in no task and excludes nothing
+            if (Arrays.stream(lists).allMatch(Objects::nonNull)) {
+                excluded.add(lists);
+            }
+        }
+
+        if (required.length == 0) {
+            // Only exclusions: every task is a candidate, as with a lone !word on PostgreSQL
+            for (long id : documents.keySet()) {
+                if (!isExcluded(id, excluded)) {
+                    ranking.offer(id);
+                }
+            }
+            return;
+        }
+        // Walk the rarest required word's list and binary-search the others
+        Postings rarest = required[0];
+        for (Postings list : required) {
+            if (list.size < rarest.size) {
+                rarest = list;
+            }
+        }
+        candidates:
+        for (int p = 0; p < rarest.size; p++) {
+            long id = rarest.ids[p];
+            for (Postings list : required) {
+                if (list != rarest && list.indexOf(id) < 0) {
+                    continue candidates;
+                }
+            }
+            if (!isExcluded(id, excluded)) {
+                ranking.offer(id);
+            }
+        }
+    }
+
+    private static boolean isExcluded(long id, List<Postings[]> excluded) {
+        terms:
+        for (Postings[] term : excluded) {
+            for (Postings list : term) {
+                if (list.indexOf(id) < 0) {
+                    continue terms;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static void addWeights(Map<String, Float> weights, String text, float weight) {
+        for (String word : tokenize(text)) {
+            weights.merge(word, weight, Float::sum);
+        }
+    }
+
+    private void unlink(long id, Document indexed) {
+        for (Postings list : indexed.postings()) {
+            list.remove(id);
+            if (list.size == 0) {
+                postings.remove(list.word);
+            }
+        }
+    }
+
+    /**
+     * Best {@code limit} matches after the cursor. Scores are summed in query word order over the
+     * words a task contains: the same query must give bit-identical scores for cursors.
+     */
+    private static final class Ranking {
+        private final Postings[] scored;
+        private final TaskSearchCursor after;
+        private final int limit;
+        // Worst match at the head, so it is the one evicted once the window is full
+        private final PriorityQueue<Match> window;
+        // A task satisfying several alternatives is ranked once
+        private final Set<Long> seen;
+
+        Ranking(Postings[] scored, TaskSearchCursor after, int limit, boolean alternatives) {
+            this.scored = scored;
+            this.after = after;
+            this.limit = limit;
+            this.window = new PriorityQueue<>(limit + 1, RANK.reversed());
+            this.seen = alternatives ? new HashSet<>() : null;
+        }
+
+        void offer(long id) {
+            float score = 0;
+            for (Postings list : scored) {
+                int at = list != null ? list.indexOf(id) : -1;
+                if (at >= 0) {
+                    score += list.weights[at];
+                }
+            }
+            if (after != null && !after.isBefore(score, id)) {
+                return;
+            }
+            if (seen != null && !seen.add(id)) {
+                return;
+            }
+            Match match = new Match(id, score);
+            if (window.size() < limit) {
+                window.add(match);
+            } else if (RANK.compare(match, window.peek()) < 0) {
+                window.poll();
+                window.add(match);
+            }
+        }
+
+        List<Match> matches() {
+            List<Match> matches = new ArrayList<>(window);
+            matches.sort(RANK);
+            return matches;
+        }
+    }
+
+    /**
+     * Ids containing one word, ascending, with that word's weight in each task.
+     */
+    private static final class Postings {
+        private final String word;
+        private long[] ids = new long[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        Postings(String word) {
+            this.word = word;
+        }
+
+        int indexOf(long id) {
+            return Arrays.binarySearch(ids, 0, size, id);
+        }
+
+        void put(long id, float weight) {
+            if (size == 0 || id > ids[size - 1]) {
+                grow();
+                ids[size] = id;
+                weights[size] = weight;
+                size++;
+                return;
+            }
+            int at = indexOf(id);
+            if (at >= 0) {
+                weights[at] = weight;
+                return;
+            }
+            at = -at - 1;
+            grow();
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            System.arraycopy(weights, at, weights, at + 1, size - at);
+            ids[at] = id;
+            weights[at] = weight;
+            size++;
+        }
+
+        void remove(long id) {
+            int at = indexOf(id);
+            if (at < 0) {
+                return;
+            }
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            System.arraycopy(weights, at + 1, weights, at, size - at - 1);
+            size--;
+        }
+
+        private void grow() {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1) + 1;
+                ids = Arrays.copyOf(ids, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+        }
+    }
+}
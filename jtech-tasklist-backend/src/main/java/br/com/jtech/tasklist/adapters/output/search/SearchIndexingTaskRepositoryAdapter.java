@@ -0,0 +1,142 @@
+package br.com.jtech.tasklist.adapters.output.search;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskChangeMarker;
+import br.com.jtech.tasklist.application.core.domains.TaskCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskPatch;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Keeps a {@link TaskSearchIndex} in step with another {@link TaskRepositoryPort}: every write that
+ * returns the stored row reindexes it once the delegate has committed, deletes unindex, and bulk
+ * inserts (whose ids are not read back) are picked up by scanning past the highest indexed id.
+ * Status changes do not touch indexed text and pass straight through.
+ */
+public class SearchIndexingTaskRepositoryAdapter implements TaskRepositoryPort {
+    private final TaskRepositoryPort delegate;
+    private final TaskSearchIndex index;
+
+    public SearchIndexingTaskRepositoryAdapter(TaskRepositoryPort delegate, TaskSearchIndex index) {
+        this.delegate = delegate;
+        this.index = index;
+    }
+
+    @Override
+    public Task save(Task task) {
+        Task saved = delegate.save(task);
+        index.put(saved);
+        return saved;
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<Task> saved = delegate.saveAll(tasks);
+        saved.forEach(index::put);
+        return saved;
+    }
+
+    @Override
+    public void insertAll(List<Task> tasks) {
+        // Ids come from the sequence after this point, so they are all above the current maximum
+        long indexedUpTo = index.maxId();
+        delegate.insertAll(tasks);
+        delegate.forEachAfter(indexedUpTo, index::put);
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Task> update(Long id, TaskPatch patch) {
+        Optional<Task> updated = delegate.update(id, patch);
+        updated.ifPresent(index::put);
+        return updated;
+    }
+
+    @Override
+    public Page<TaskView> findAll(Pageable pageable, TaskStatus status) {
+        return delegate.findAll(pageable, status);
+    }
+
+    @Override
+    public Page<TaskView> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Override
+    public Slice<TaskView> findSlice(Pageable pageable, TaskStatus status) {
+        return delegate.findSlice(pageable, status);
+    }
+
+    @Override
+    public Slice<TaskView> findSlice(Pageable pageable) {
+        return delegate.findSlice(pageable);
+    }
+
+    @Override
+    public Map<TaskStatus, Long> countByStatus() {
+        return delegate.countByStatus();
+    }
+
+    @Override
+    public TaskChangeMarker changeMarker() {
+        return delegate.changeMarker();
+    }
+
+    @Override
+    public List<Task> findAfter(TaskCursor after, int limit, TaskStatus status) {
+        return delegate.findAfter(after, limit, status);
+    }
+
+    @Override
+    public List<Task> findAfter(TaskCursor after, int limit) {
+        return delegate.findAfter(after, limit);
+    }
+
+    @Override
+    public void forEach(TaskStatus status, Consumer<Task> consumer) {
+        delegate.forEach(status, consumer);
+    }
+
+    @Override
+    public void forEachAfter(long afterId, Consumer<Task> consumer) {
+        delegate.forEachAfter(afterId, consumer);
+    }
+
+    @Override
+    public List<Long> updateStatus(Collection<Long> ids, TaskStatus status, Instant updatedAt) {
+        return delegate.updateStatus(ids, status, updatedAt);
+    }
+
+    @Override
+    public List<Long> updateStatusByStatus(TaskStatus fromStatus, TaskStatus status, Instant updatedAt, int limit) {
+        return delegate.updateStatusByStatus(fromStatus, status, updatedAt, limit);
+    }
+
+    @Override
+    public int deleteById(Long id) {
+        int deleted = delegate.deleteById(id);
+        index.remove(id);
+        return deleted;
+    }
+
+    @Override
+    public void forget(Collection<Long> ids) {
+        delegate.forget(ids);
+        ids.forEach(index::remove);
+    }
+}
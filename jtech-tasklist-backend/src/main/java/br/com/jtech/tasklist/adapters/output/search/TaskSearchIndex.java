@@ -0,0 +1,35 @@
+package br.com.jtech.tasklist.adapters.output.search;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchCursor;
+
+import java.util.List;
+
+/**
+ * In-process full-text index over task titles and descriptions, fed by
+ * {@link SearchIndexingTaskRepositoryAdapter} on every write. It only maps words to ids and
+ * scores; the rows themselves are always read back from the database.
+ */
+public interface TaskSearchIndex {
+    /**
+     * Indexes the task's current text, replacing what was indexed for its id unless the indexed
+     * version is newer.
+     */
+    void put(Task task);
+
+    void remove(Long id);
+
+    /**
+     * Highest id ever indexed, or 0; rows inserted afterwards have greater ids.
+     */
+    long maxId();
+
+    /**
+     * Ids of the tasks matching {@code query} (web search syntax, see {@link WebSearchQuery}), in (score desc, id asc) order after
+     * {@code after}; scores depend only on each task's own text, so cursors stay valid as the index changes.
+     */
+    List<Match> search(String query, TaskSearchCursor after, int limit);
+
+    record Match(long id, float score) {
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.jtech.tasklist.adapters.output.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The operators of PostgreSQL's {@code websearch_to_tsquery}, for the in-memory index: words are
+ * ANDed, {@code or} between two terms starts an alternative (AND binds tighter, so {@code a b or c}
+ * is {@code (a AND b) OR c}), and {@code -term} excludes tasks containing it. A quoted phrase
+ * requires all of its words; without positions in the index, their order and adjacency are not
+ * checked as PostgreSQL does.
+ */
+final class WebSearchQuery {
+    private static final String OR = "or";
+
+    /**
+     * One alternative: every required word, and none of the excluded terms (each a word group that
+     * excludes a task only when all of its words are present).
+     */
+    record Clause(List<String> required, List<List<String>> excluded) {
+    }
+
+    private final List<Clause> clauses;
+    private final List<String> scoredWords;
+
+    private WebSearchQuery(List<Clause> clauses) {
+        this.clauses = clauses;
+        Set<String> words = new LinkedHashSet<>();
+        clauses.forEach(clause -> words.addAll(clause.required()));
+        this.scoredWords = List.copyOf(words);
+    }
+
+    List<Clause> clauses() {
+        return clauses;
+    }
+
+    /**
+     * Distinct required words of every clause in query order; a match scores the ones it contains.
+     */
+    List<String> scoredWords() {
+        return scoredWords;
+    }
+
+    boolean isEmpty() {
+        return clauses.isEmpty();
+    }
+
+    static WebSearchQuery parse(String query) {
+        List<Clause> clauses = new ArrayList<>();
+        if (query == null) {
+            return new WebSearchQuery(clauses);
+        }
+        Set<String> required = new LinkedHashSet<>();
+        List<List<String>> excluded = new ArrayList<>();
+        boolean alternative = false;
+        int at = 0;
+        int length = query.length();
+        while (at < length) {
+            char c = query.charAt(at);
+            if (Character.isWhitespace(c)) {
+                at++;
+                continue;
+            }
+            boolean negated = c == '-' && at + 1 < length && !Character.isWhitespace(query.charAt(at + 1));
+            if (negated) {
+                at++;
+            }
+            String text;
+            boolean quoted = query.charAt(at) == '"';
+            if (quoted) {
+                int close = query.indexOf('"', at + 1);
+                int end = close < 0 ? length : close;
+                text = query.substring(at + 1, end);
+                at = Math.min(length, end + 1);
+            } else {
+                int end = at;
+                while (end < length && !Character.isWhitespace(query.charAt(end)) && query.charAt(end) != '"') {
+                    end++;
+                }
+                text = query.substring(at, end);
+                at = end;
+            }
+            if (!quoted && !negated && text.equalsIgnoreCase(OR)) {
+                // Only meaningful between two terms; a leading or trailing "or" is dropped
+                alternative = !required.isEmpty() || !excluded.isEmpty();
+                continue;
+            }
+            List<String> words = InvertedTaskSearchIndex.tokenize(text);
+            if (words.isEmpty()) {
+                continue;
+            }
+            if (alternative) {
+                clauses.add(new Clause(List.copyOf(required), List.copyOf(excluded)));
+                required.clear();
+                excluded.clear();
+                alternative = false;
+            }
+            if (negated) {
+                excluded.add(words);
+            } else {
+                required.addAll(words);
+            }
+        }
+        if (!required.isEmpty() || !excluded.isEmpty()) {
+            clauses.add(new Clause(List.copyOf(required), List.copyOf(excluded)));
+        }
+        return new WebSearchQuery(clauses);
+    }
+}
@@ -14,14 +14,20 @@ public class Task {
     private TaskStatus status;
     private Instant createdAt;
     private Instant updatedAt;
+    private Long version;
 
     public Task(Long id, String title, String description, TaskStatus status, Instant createdAt, Instant updatedAt) {
+        this(id, title, description, status, createdAt, updatedAt, null);
+    }
+
+    public Task(Long id, String title, String description, TaskStatus status, Instant createdAt, Instant updatedAt, Long version) {
         this.id = id;
         this.title = title;
         this.description = description;
         this.status = status;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 
     public Task(String title, String description, TaskStatus status) {
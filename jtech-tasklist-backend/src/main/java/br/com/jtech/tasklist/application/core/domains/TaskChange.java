@@ -0,0 +1,13 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.time.Instant;
+
+/**
+ * One entry of the change feed: the current row of a task written after some sequence, or its
+ * tombstone ({@code task} null) when it was deleted.
+ */
+public record TaskChange(long sequence, Long taskId, TaskView task, Instant changedAt) {
+    public boolean isDeletion() {
+        return task == null;
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+/**
+ * Cheap table-level fingerprint: a version the store moves forward when a transaction that inserted,
+ * updated or deleted tasks commits, so list responses can be validated without reading them. Unlike
+ * a timestamp stamped before commit, a write that commits late still moves it.
+ */
+public record TaskChangeMarker(long version) {
+}
@@ -0,0 +1,9 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.util.List;
+
+/**
+ * Tasks written and ids deleted after a sync token, with the token to send next time. When
+ * {@code hasMore} is true the client should ask again right away with {@code next}.
+ */
+public record TaskChangeSet(List<TaskView> changed, List<Long> deletedIds, TaskSyncToken next, boolean hasMore) {}
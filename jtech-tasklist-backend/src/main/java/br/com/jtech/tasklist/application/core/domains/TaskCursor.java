@@ -0,0 +1,12 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.time.Instant;
+
+/**
+ * Keyset position in the (createdAt, id) ordering of tasks.
+ */
+public record TaskCursor(Instant createdAt, Long id) {
+    public static TaskCursor of(Task task) {
+        return new TaskCursor(task.getCreatedAt(), task.getId());
+    }
+}
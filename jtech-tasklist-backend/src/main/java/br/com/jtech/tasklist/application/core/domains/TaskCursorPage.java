@@ -0,0 +1,12 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.util.List;
+
+/**
+ * A window of tasks read by keyset, plus the position to continue from.
+ */
+public record TaskCursorPage(List<Task> tasks, TaskCursor nextCursor) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+/**
+ * A committed change to one task. {@code task} is the stored row after the change; it is null for
+ * deletions and for bulk status transitions, whose rows are not read back. A {@link TaskEventType#RESET}
+ * stands for a change to many tasks and carries neither.
+ */
+public record TaskEvent(TaskEventType type, Long taskId, TaskView task) {
+    public static TaskEvent created(Task task) {
+        return new TaskEvent(TaskEventType.CREATED, task.getId(), TaskView.of(task));
+    }
+
+    public static TaskEvent updated(Task task) {
+        return new TaskEvent(TaskEventType.UPDATED, task.getId(), TaskView.of(task));
+    }
+
+    public static TaskEvent updated(Long taskId) {
+        return new TaskEvent(TaskEventType.UPDATED, taskId, null);
+    }
+
+    public static TaskEvent deleted(Long taskId) {
+        return new TaskEvent(TaskEventType.DELETED, taskId, null);
+    }
+
+    public static TaskEvent reset() {
+        return new TaskEvent(TaskEventType.RESET, null, null);
+    }
+}
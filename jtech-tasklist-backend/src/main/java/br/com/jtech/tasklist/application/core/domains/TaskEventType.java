@@ -0,0 +1,9 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+public enum TaskEventType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    /** Too many tasks changed at once to announce one by one: subscribers reload their list. */
+    RESET
+}
@@ -0,0 +1,8 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+/**
+ * A rejected import line: 1-based line number in the uploaded file, the offending field (null when
+ * the whole line is unreadable) and why.
+ */
+public record TaskImportError(long line, String field, String message) {
+}
@@ -0,0 +1,21 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.util.List;
+
+/**
+ * One parsed line of an import file: either a task ready to be stored or the reasons it was rejected.
+ */
+public record TaskImportRecord(long line, Task task, List<TaskImportError> errors) {
+
+    public static TaskImportRecord valid(long line, Task task) {
+        return new TaskImportRecord(line, task, List.of());
+    }
+
+    public static TaskImportRecord invalid(long line, List<TaskImportError> errors) {
+        return new TaskImportRecord(line, null, errors);
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.util.List;
+
+/**
+ * Outcome of a streaming import. {@code errors} keeps only the first rejected lines; the
+ * {@code rejected} count covers all of them.
+ */
+public record TaskImportReport(long imported, long rejected, List<TaskImportError> errors, boolean errorsTruncated) {
+}
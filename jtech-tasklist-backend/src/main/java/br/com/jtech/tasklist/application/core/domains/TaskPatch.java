@@ -0,0 +1,10 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.time.Instant;
+
+/**
+ * Fields to change on an existing task; null means "keep the stored value".
+ * A non-null {@code expectedVersion} makes the write conditional on the stored version.
+ */
+public record TaskPatch(String title, String description, TaskStatus status, Instant updatedAt, Long expectedVersion) {
+}
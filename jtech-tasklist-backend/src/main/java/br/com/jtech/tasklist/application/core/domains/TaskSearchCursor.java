@@ -0,0 +1,18 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+/**
+ * Position in the (score desc, id asc) ordering of search results.
+ */
+public record TaskSearchCursor(float score, Long id) {
+    public static TaskSearchCursor of(TaskSearchHit hit) {
+        return new TaskSearchCursor(hit.score(), hit.task().id());
+    }
+
+    /**
+     * Whether a result with this score and id comes after the cursor.
+     */
+    public boolean isBefore(float otherScore, long otherId) {
+        int byScore = Float.compare(otherScore, score);
+        return byScore < 0 || (byScore == 0 && otherId > id);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+/**
+ * A matching task and its relevance; higher scores rank first.
+ */
+public record TaskSearchHit(TaskView task, float score) {
+}
@@ -0,0 +1,12 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.util.List;
+
+/**
+ * A window of search results in rank order, plus the position to continue from.
+ */
+public record TaskSearchPage(List<TaskView> tasks, TaskSearchCursor nextCursor) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk status transition: how many rows were written, which ids (when selected by id)
+ * and requested ids that do not exist. A transition by status reports the count only.
+ */
+public record TaskStatusUpdate(TaskStatus status, int updatedCount, List<Long> updatedIds, List<Long> missingIds) {
+}
@@ -0,0 +1,9 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.time.Instant;
+
+/**
+ * Position in the change feed: the client holds every change up to {@code sequence} as of
+ * {@code issuedAt}, which decides whether the tombstones it still needs may have been compacted.
+ */
+public record TaskSyncToken(long sequence, Instant issuedAt) {}
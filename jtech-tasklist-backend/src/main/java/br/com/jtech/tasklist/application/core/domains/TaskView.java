@@ -0,0 +1,29 @@
+package br.com.jtech.tasklist.application.core.domains;
+
+import java.time.Instant;
+
+/**
+ * Immutable read model of a task for list queries. Rows are projected straight into it, so listing
+ * never materializes managed entities or mutable {@link Task} copies.
+ */
+public record TaskView(
+        Long id,
+        String title,
+        String description,
+        TaskStatus status,
+        Instant createdAt,
+        Instant updatedAt,
+        Long version
+) {
+    public static TaskView of(Task task) {
+        return new TaskView(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getCreatedAt(),
+                task.getUpdatedAt(),
+                task.getVersion()
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Moves DONE tasks untouched for {@code age} into the archive, {@code chunkSize} rows per
+ * transaction so no lock is held for long; stops at the first chunk that comes back short. The
+ * moved ids are handed to {@link TaskRepositoryPort#forget} after each chunk, so the findById cache
+ * and the search index stop serving them as live tasks. A run that moved anything ends with one
+ * reset to subscribers, even when a later chunk fails.
+ */
+public class ArchiveDoneTasksUseCase {
+    private final TaskArchivePort taskArchive;
+    private final TaskRepositoryPort taskRepository;
+    private final TaskEventPublisherPort taskEvents;
+    private final Duration age;
+    private final int chunkSize;
+
+    public ArchiveDoneTasksUseCase(TaskArchivePort taskArchive, TaskRepositoryPort taskRepository,
+                                   TaskEventPublisherPort taskEvents, Duration age, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Archive chunk size must be positive");
+        }
+        this.taskArchive = taskArchive;
+        this.taskRepository = taskRepository;
+        this.taskEvents = taskEvents;
+        this.age = age;
+        this.chunkSize = chunkSize;
+    }
+
+    public long execute() {
+        // Fixed for the whole run: tasks completing meanwhile wait for the next one
+        Instant cutoff = Instant.now().minus(age);
+        long total = 0;
+        List<Long> moved;
+        try {
+            do {
+                moved = taskArchive.archiveDone(cutoff, chunkSize);
+                if (!moved.isEmpty()) {
+                    taskRepository.forget(moved);
+                }
+                total += moved.size();
+            } while (moved.size() == chunkSize);
+        } finally {
+            if (total > 0) {
+                taskEvents.publish(TaskEvent.reset());
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.ports.output.TaskChangeFeedPort;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Drops tombstones past the retention horizon; sync tokens older than that get
+ * {@link TaskSyncExpiredException} from {@link SyncTasksUseCase}.
+ */
+@RequiredArgsConstructor
+public class CompactTaskTombstonesUseCase {
+    private final TaskChangeFeedPort taskChangeFeed;
+    private final Duration retention;
+
+    public int execute() {
+        return taskChangeFeed.deleteTombstonesBefore(Instant.now().minus(retention));
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class CountTasksUseCase {
+    private final TaskRepositoryPort taskRepository;
+
+    public long execute(TaskStatus status) {
+        Map<TaskStatus, Long> counts = taskRepository.countByStatus();
+        if (status != null) {
+            return counts.getOrDefault(status, 0L);
+        }
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -1,17 +1,43 @@
 package br.com.jtech.tasklist.application.core.usecases;
 
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 public class CreateTaskUseCase {
+    public static final int MAX_BATCH_SIZE = 500;
+
     private final TaskRepositoryPort taskRepository;
+    private final TaskEventPublisherPort taskEvents;
 
     public Task execute(String title, String description, TaskStatus status) {
         TaskStatus finalStatus = status != null ? status : TaskStatus.PENDING;
         Task task = new Task(title, description, finalStatus);
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        taskEvents.publish(TaskEvent.created(saved));
+        return saved;
+    }
+
+    /**
+     * Creates all tasks in a single write (all or nothing); the result keeps the input order.
+     */
+    public List<Task> executeBatch(List<Task> tasks) {
+        if (tasks.isEmpty() || tasks.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " tasks");
+        }
+        for (Task task : tasks) {
+            if (task.getStatus() == null) {
+                task.setStatus(TaskStatus.PENDING);
+            }
+        }
+        List<Task> saved = taskRepository.saveAll(tasks);
+        saved.forEach(task -> taskEvents.publish(TaskEvent.created(task)));
+        return saved;
     }
 }
@@ -1,16 +1,20 @@
 package br.com.jtech.tasklist.application.core.usecases;
 
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class DeleteTaskUseCase {
     private final TaskRepositoryPort taskRepository;
+    private final TaskEventPublisherPort taskEvents;
 
     public void execute(Long id) throws TaskNotFoundException {
-        if (!taskRepository.findById(id).isPresent()) {
+        // The affected row count decides the outcome, so of two racing deletes exactly one wins
+        if (taskRepository.deleteById(id) == 0) {
             throw new TaskNotFoundException("Task with id " + id + " was not found");
         }
-        taskRepository.deleteById(id);
+        taskEvents.publish(TaskEvent.deleted(id));
     }
 }
@@ -1,15 +1,19 @@
 package br.com.jtech.tasklist.application.core.usecases;
 
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class GetTaskByIdUseCase {
     private final TaskRepositoryPort taskRepository;
+    private final TaskArchivePort taskArchive;
 
     public Task execute(Long id) throws TaskNotFoundException {
+        // The archive is only consulted on a miss, so live reads cost nothing extra
         return taskRepository.findById(id)
+                .or(() -> taskArchive.findById(id))
                 .orElseThrow(() -> new TaskNotFoundException("Task with id " + id + " was not found"));
     }
 }
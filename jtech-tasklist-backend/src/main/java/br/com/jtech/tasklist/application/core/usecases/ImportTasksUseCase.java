@@ -0,0 +1,83 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
+import br.com.jtech.tasklist.application.core.domains.TaskImportError;
+import br.com.jtech.tasklist.application.core.domains.TaskImportRecord;
+import br.com.jtech.tasklist.application.core.domains.TaskImportReport;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+@Slf4j
+public class ImportTasksUseCase {
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private final TaskRepositoryPort taskRepository;
+    private final TaskEventPublisherPort taskEvents;
+    private final int chunkSize;
+
+    public ImportTasksUseCase(TaskRepositoryPort taskRepository, TaskEventPublisherPort taskEvents, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Import chunk size must be positive");
+        }
+        this.taskRepository = taskRepository;
+        this.taskEvents = taskEvents;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Pulls records one at a time and stores the valid ones in chunks, each committed on its own, so
+     * only the current chunk is in memory. Chunks committed before a failure stay committed.
+     * Subscribers get a reset after every committed chunk, since the rows are not read back.
+     */
+    public TaskImportReport execute(Iterator<TaskImportRecord> records) {
+        List<Task> chunk = new ArrayList<>(chunkSize);
+        List<TaskImportError> errors = new ArrayList<>();
+        long imported = 0;
+        long rejected = 0;
+        boolean errorsTruncated = false;
+
+        while (records.hasNext()) {
+            TaskImportRecord record = records.next();
+            if (!record.isValid()) {
+                rejected++;
+                for (TaskImportError error : record.errors()) {
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(error);
+                    } else {
+                        errorsTruncated = true;
+                    }
+                }
+                continue;
+            }
+            Task task = record.task();
+            if (task.getStatus() == null) {
+                task.setStatus(TaskStatus.PENDING);
+            }
+            chunk.add(task);
+            if (chunk.size() == chunkSize) {
+                imported += commit(chunk, imported, rejected);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += commit(chunk, imported, rejected);
+        }
+
+        log.info("Task import finished: {} imported, {} rejected", imported, rejected);
+        return new TaskImportReport(imported, rejected, List.copyOf(errors), errorsTruncated);
+    }
+
+    private int commit(List<Task> chunk, long importedSoFar, long rejectedSoFar) {
+        taskRepository.insertAll(chunk);
+        taskEvents.publish(TaskEvent.reset());
+        log.info("Task import progress: {} imported, {} rejected", importedSoFar + chunk.size(), rejectedSoFar);
+        return chunk.size();
+    }
+}
@@ -1,20 +1,82 @@
 package br.com.jtech.tasklist.application.core.usecases;
 
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskChangeMarker;
+import br.com.jtech.tasklist.application.core.domains.TaskCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskCursorPage;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 public class ListTasksUseCase {
+    public static final int MAX_CURSOR_LIMIT = 100;
+
     private final TaskRepositoryPort taskRepository;
+    private final TaskArchivePort taskArchive;
 
-    public Page<Task> execute(Pageable pageable, TaskStatus status) {
+    public Page<TaskView> execute(Pageable pageable, TaskStatus status) {
         if (status != null) {
             return taskRepository.findAll(pageable, status);
         }
         return taskRepository.findAll(pageable);
     }
+
+    /**
+     * Page over live and archived tasks. The archive only holds DONE tasks, so other status
+     * filters are answered from the live table alone.
+     */
+    public Page<TaskView> executeIncludingArchived(Pageable pageable, TaskStatus status) {
+        if (status != null && status != TaskStatus.DONE) {
+            return execute(pageable, status);
+        }
+        return taskArchive.findAllIncludingArchived(pageable, status);
+    }
+
+    public Slice<TaskView> executeSlice(Pageable pageable, TaskStatus status) {
+        if (status != null) {
+            return taskRepository.findSlice(pageable, status);
+        }
+        return taskRepository.findSlice(pageable);
+    }
+
+    public TaskCursorPage execute(TaskCursor after, int limit, TaskStatus status) {
+        if (limit < 1 || limit > MAX_CURSOR_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_CURSOR_LIMIT);
+        }
+
+        // Read one extra row to learn whether another window exists without counting
+        List<Task> tasks = status != null
+                ? taskRepository.findAfter(after, limit + 1, status)
+                : taskRepository.findAfter(after, limit + 1);
+
+        if (tasks.size() <= limit) {
+            return new TaskCursorPage(tasks, null);
+        }
+        List<Task> window = tasks.subList(0, limit);
+        return new TaskCursorPage(window, TaskCursor.of(window.get(limit - 1)));
+    }
+
+    /**
+     * Hands every task (or those in {@code status}) to {@code sink} in id order without paging or
+     * buffering; the export path uses it to write rows while they are still being read.
+     */
+    public void forEach(TaskStatus status, Consumer<Task> sink) {
+        taskRepository.forEach(status, sink);
+    }
+
+    /**
+     * Fingerprint of the whole table, read before a page so unchanged pages can be answered with 304.
+     */
+    public TaskChangeMarker changeMarker() {
+        return taskRepository.changeMarker();
+    }
 }
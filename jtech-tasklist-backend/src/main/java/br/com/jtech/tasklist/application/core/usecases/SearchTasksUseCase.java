@@ -0,0 +1,39 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.TaskSearchCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchHit;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchPage;
+import br.com.jtech.tasklist.application.ports.output.TaskSearchPort;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class SearchTasksUseCase {
+    public static final int MAX_LIMIT = 100;
+    public static final int MAX_QUERY_LENGTH = 200;
+
+    private final TaskSearchPort taskSearch;
+
+    public TaskSearchPage execute(String query, TaskSearchCursor after, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        // One extra hit tells whether another window exists
+        List<TaskSearchHit> hits = taskSearch.search(query.strip(), after, limit + 1);
+
+        if (hits.size() <= limit) {
+            return new TaskSearchPage(hits.stream().map(TaskSearchHit::task).toList(), null);
+        }
+        List<TaskSearchHit> window = hits.subList(0, limit);
+        return new TaskSearchPage(window.stream().map(TaskSearchHit::task).toList(),
+                TaskSearchCursor.of(window.get(limit - 1)));
+    }
+}
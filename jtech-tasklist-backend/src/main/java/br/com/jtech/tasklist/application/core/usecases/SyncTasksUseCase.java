@@ -0,0 +1,71 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.TaskChange;
+import br.com.jtech.tasklist.application.core.domains.TaskChangeSet;
+import br.com.jtech.tasklist.application.core.domains.TaskSyncToken;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskChangeFeedPort;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta sync: what changed after a token, in change-sequence order. Without a token it pages
+ * through every task, which doubles as the initial download.
+ */
+@RequiredArgsConstructor
+public class SyncTasksUseCase {
+    public static final int MAX_LIMIT = 1000;
+
+    private final TaskChangeFeedPort taskChangeFeed;
+    /**
+     * Longest a write transaction may stay open. Sequence values are drawn at write time, not in
+     * commit order, so the token only moves past changes at least this old: a lower sequence still
+     * uncommitted behind them would otherwise be skipped for good.
+     */
+    private final Duration settle;
+    /** How long tombstones are kept; see {@link CompactTaskTombstonesUseCase}. */
+    private final Duration retention;
+
+    public TaskChangeSet execute(TaskSyncToken since, int limit) throws TaskSyncExpiredException {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        Instant now = Instant.now();
+        // The deletions a token still needs happened after it was issued, less the settle window
+        if (since != null && since.issuedAt().minus(settle).isBefore(now.minus(retention))) {
+            throw new TaskSyncExpiredException("Sync token is older than the " + retention.toDays()
+                    + "-day tombstone retention; reload the full list");
+        }
+
+        long from = since != null ? since.sequence() : 0;
+        // One extra entry tells whether another page exists; a first sync has nothing to delete
+        List<TaskChange> changes = taskChangeFeed.changesSince(from, since != null, limit + 1);
+        boolean more = changes.size() > limit;
+        List<TaskChange> page = more ? changes.subList(0, limit) : changes;
+
+        Instant settled = now.minus(settle);
+        long next = from;
+        boolean allSettled = true;
+        List<TaskView> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        for (TaskChange change : page) {
+            if (change.isDeletion()) {
+                deleted.add(change.taskId());
+            } else {
+                changed.add(change.task());
+            }
+            // Unsettled entries are still returned, and returned again next time; applying is idempotent
+            if (allSettled && !change.changedAt().isAfter(settled)) {
+                next = change.sequence();
+            } else {
+                allSettled = false;
+            }
+        }
+        // Asking again right away would not move past the unsettled tail, so only a settled page has more
+        return new TaskChangeSet(changed, deleted, new TaskSyncToken(next, now), more && allSettled);
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+/**
+ * The sync token predates the tombstone retention, so deletions the client missed may be gone;
+ * it has to reload the full list.
+ */
+public class TaskSyncExpiredException extends Exception {
+    public TaskSyncExpiredException(String message) {
+        super(message);
+    }
+}
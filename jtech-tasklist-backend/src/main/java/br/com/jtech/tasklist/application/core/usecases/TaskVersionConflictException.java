@@ -0,0 +1,18 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import lombok.Getter;
+
+/**
+ * The task exists but was changed since the version the caller based its update on.
+ */
+@Getter
+public class TaskVersionConflictException extends Exception {
+    private final Long expectedVersion;
+    private final Long currentVersion;
+
+    public TaskVersionConflictException(Long id, Long expectedVersion, Long currentVersion) {
+        super("Task with id " + id + " is at version " + currentVersion + ", expected " + expectedVersion);
+        this.expectedVersion = expectedVersion;
+        this.currentVersion = currentVersion;
+    }
+}
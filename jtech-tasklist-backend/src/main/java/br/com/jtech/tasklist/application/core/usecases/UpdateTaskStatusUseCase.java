@@ -0,0 +1,94 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskStatusUpdate;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class UpdateTaskStatusUseCase {
+    public static final int MAX_IDS = 10_000;
+    // Rows moved per transaction by executeByStatus
+    static final int STATUS_CHUNK_SIZE = 1_000;
+    // Above this many changed tasks subscribers get one reset instead of an event per task
+    static final int MAX_TASK_EVENTS = 100;
+
+    private final TaskRepositoryPort taskRepository;
+    private final TaskEventPublisherPort taskEvents;
+
+    /**
+     * Moves the given tasks to {@code status}; ids that do not exist are reported, not rejected.
+     */
+    public TaskStatusUpdate execute(List<Long> ids, TaskStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Target status is required");
+        }
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("ids must contain between 1 and " + MAX_IDS + " entries");
+        }
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.contains(null)) {
+            throw new IllegalArgumentException("ids must not contain null");
+        }
+
+        List<Long> updated = taskRepository.updateStatus(requested, status, Instant.now());
+        publishUpdated(updated);
+
+        Set<Long> found = new HashSet<>(updated);
+        List<Long> missing = requested.stream().filter(id -> !found.contains(id)).toList();
+        return new TaskStatusUpdate(status, updated.size(), updated, missing);
+    }
+
+    /**
+     * Moves every task currently in {@code fromStatus} to {@code status}, one committed chunk at a
+     * time: row locks are held per chunk only, and no write transaction outlives the delta sync
+     * settle window however many rows match. Returns the count; the ids are not collected.
+     */
+    public TaskStatusUpdate executeByStatus(TaskStatus fromStatus, TaskStatus status) {
+        if (fromStatus == null || status == null) {
+            throw new IllegalArgumentException("Both fromStatus and target status are required");
+        }
+        if (fromStatus == status) {
+            throw new IllegalArgumentException("fromStatus and target status must differ");
+        }
+        Instant updatedAt = Instant.now();
+        int updatedCount = 0;
+        List<Long> updated = new ArrayList<>();
+        List<Long> chunk;
+        try {
+            while (!(chunk = taskRepository.updateStatusByStatus(fromStatus, status, updatedAt, STATUS_CHUNK_SIZE)).isEmpty()) {
+                updatedCount += chunk.size();
+                if (updatedCount <= MAX_TASK_EVENTS) {
+                    updated.addAll(chunk);
+                }
+            }
+        } finally {
+            // Chunks committed before a failure are still announced, once, after the last one
+            publishUpdated(updated, updatedCount);
+        }
+        return new TaskStatusUpdate(status, updatedCount, List.of(), List.of());
+    }
+
+    private void publishUpdated(List<Long> ids) {
+        publishUpdated(ids, ids.size());
+    }
+
+    // Rows are not read back by the set-based UPDATE, so subscribers get ids only, or a single
+    // reset when there are too many to replay one by one
+    private void publishUpdated(List<Long> ids, int updatedCount) {
+        if (updatedCount > MAX_TASK_EVENTS) {
+            taskEvents.publish(TaskEvent.reset());
+        } else {
+            ids.forEach(id -> taskEvents.publish(TaskEvent.updated(id)));
+        }
+    }
+}
@@ -1,20 +1,36 @@
 package br.com.jtech.tasklist.application.core.usecases;
 
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
+import br.com.jtech.tasklist.application.core.domains.TaskPatch;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
 import lombok.RequiredArgsConstructor;
 
 import java.time.Instant;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 public class UpdateTaskUseCase {
     private final TaskRepositoryPort taskRepository;
+    private final TaskEventPublisherPort taskEvents;
 
     public Task execute(Long id, String title, String description, TaskStatus status) throws TaskNotFoundException {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException("Task with id " + id + " was not found"));
+        try {
+            return execute(id, title, description, status, null);
+        } catch (TaskVersionConflictException ex) {
+            // Unreachable: without an expected version the update is unconditional
+            throw new IllegalStateException(ex);
+        }
+    }
 
+    /**
+     * Conditional update: with a non-null {@code expectedVersion} the write only happens if the
+     * stored version still matches, so concurrent edits are detected instead of overwritten.
+     */
+    public Task execute(Long id, String title, String description, TaskStatus status, Long expectedVersion)
+            throws TaskNotFoundException, TaskVersionConflictException {
         // Only update fields that were provided (not null)
         if (title != null) {
             if (title.isBlank()) {
@@ -23,20 +39,23 @@ public class UpdateTaskUseCase {
             if (title.length() > 120) {
                 throw new IllegalArgumentException("Title must not exceed 120 characters");
             }
-            task.setTitle(title);
         }
-        if (description != null) {
-            if (description.length() > 1000) {
-                throw new IllegalArgumentException("Description must not exceed 1000 characters");
-            }
-            task.setDescription(description);
+        if (description != null && description.length() > 1000) {
+            throw new IllegalArgumentException("Description must not exceed 1000 characters");
         }
-        if (status != null) {
-            task.setStatus(status);
+
+        // One UPDATE that also returns the stored row; no prior SELECT
+        Optional<Task> updated = taskRepository.update(id, new TaskPatch(title, description, status, Instant.now(), expectedVersion));
+        if (updated.isPresent()) {
+            taskEvents.publish(TaskEvent.updated(updated.get()));
+            return updated.get();
         }
-        
-        task.setUpdatedAt(Instant.now());
 
-        return taskRepository.save(task);
+        // Zero rows: tell a missing task from a stale version (only on this failure path)
+        Optional<Task> current = expectedVersion != null ? taskRepository.findById(id) : Optional.empty();
+        if (current.isPresent()) {
+            throw new TaskVersionConflictException(id, expectedVersion, current.get().getVersion());
+        }
+        throw new TaskNotFoundException("Task with id " + id + " was not found");
     }
 }
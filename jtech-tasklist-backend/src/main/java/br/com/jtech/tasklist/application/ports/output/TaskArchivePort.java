@@ -0,0 +1,31 @@
+package br.com.jtech.tasklist.application.ports.output;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cold storage for completed tasks. Archived tasks keep their id and are read-only.
+ */
+public interface TaskArchivePort {
+    /**
+     * Moves up to {@code limit} DONE tasks last updated before {@code updatedBefore} out of the live
+     * table, in one short transaction; returns the ids that moved. Rows locked by a concurrent write
+     * are skipped where the database supports it.
+     */
+    List<Long> archiveDone(Instant updatedBefore, int limit);
+
+    Optional<Task> findById(Long id);
+
+    /**
+     * Same page as {@link TaskRepositoryPort#findAll(Pageable, TaskStatus)} over live and archived
+     * tasks together; a null {@code status} means every status.
+     */
+    Page<TaskView> findAllIncludingArchived(Pageable pageable, TaskStatus status);
+}
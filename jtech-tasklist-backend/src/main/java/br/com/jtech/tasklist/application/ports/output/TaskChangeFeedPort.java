@@ -0,0 +1,17 @@
+package br.com.jtech.tasklist.application.ports.output;
+
+import br.com.jtech.tasklist.application.core.domains.TaskChange;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TaskChangeFeedPort {
+    /**
+     * Up to {@code limit} rows and (when {@code includeDeletions}) tombstones with a change sequence
+     * above {@code since}, in sequence order. A task changed several times appears once, at its latest.
+     */
+    List<TaskChange> changesSince(long since, boolean includeDeletions, int limit);
+
+    /** Drops the tombstones of deletions before {@code cutoff}; returns how many went. */
+    int deleteTombstonesBefore(Instant cutoff);
+}
@@ -0,0 +1,11 @@
+package br.com.jtech.tasklist.application.ports.output;
+
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
+
+public interface TaskEventPublisherPort {
+    /**
+     * Announces a change to subscribers once the surrounding transaction (if any) has committed.
+     * Never blocks on subscribers: slow ones are dropped rather than slowing the write path.
+     */
+    void publish(TaskEvent event);
+}
@@ -1,20 +1,109 @@
 package br.com.jtech.tasklist.application.ports.output;
 
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskChangeMarker;
+import br.com.jtech.tasklist.application.core.domains.TaskCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskPatch;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TaskRepositoryPort {
     Task save(Task task);
 
+    /**
+     * Inserts or updates every task in one transaction; results keep the input order.
+     */
+    List<Task> saveAll(List<Task> tasks);
+
+    /**
+     * Appends new tasks in one transaction through the database's bulk load path (COPY on PostgreSQL,
+     * JDBC batches elsewhere). Ids and versions are assigned by the database and not read back.
+     */
+    void insertAll(List<Task> tasks);
+
     Optional<Task> findById(Long id);
 
-    Page<Task> findAll(Pageable pageable, TaskStatus status);
+    /**
+     * Writes only the non-null fields of {@code patch} in one statement, bumping the version, and
+     * returns the stored row; empty when no task has this id or its version differs from the expected one.
+     */
+    Optional<Task> update(Long id, TaskPatch patch);
+
+    /**
+     * Page of read records projected by the query itself; no entity is loaded or tracked.
+     */
+    Page<TaskView> findAll(Pageable pageable, TaskStatus status);
+
+    Page<TaskView> findAll(Pageable pageable);
+
+    /**
+     * Same window as {@link #findAll(Pageable, TaskStatus)} without the COUNT query; reads size+1 rows.
+     */
+    Slice<TaskView> findSlice(Pageable pageable, TaskStatus status);
+
+    Slice<TaskView> findSlice(Pageable pageable);
+
+    /**
+     * Row totals per status from the incrementally maintained counters, no table scan.
+     */
+    Map<TaskStatus, Long> countByStatus();
+
+    /**
+     * Latest updatedAt (index lookup) and maintained row total; changes on every write.
+     */
+    TaskChangeMarker changeMarker();
+
+    /**
+     * Seeks past {@code after} in (createdAt, id) order; a null cursor reads from the start.
+     */
+    List<Task> findAfter(TaskCursor after, int limit, TaskStatus status);
+
+    List<Task> findAfter(TaskCursor after, int limit);
+
+    /**
+     * Feeds every task (only those in {@code status} when non-null) to {@code consumer} in id order
+     * from a forward-only cursor; nothing is accumulated, so memory does not grow with the table.
+     * An exception thrown by the consumer stops the scan and is rethrown.
+     */
+    void forEach(TaskStatus status, Consumer<Task> consumer);
+
+    /**
+     * Same forward-only scan over the tasks whose id is greater than {@code afterId}; lets observers
+     * of {@link #insertAll} pick up rows whose ids were never read back.
+     */
+    void forEachAfter(long afterId, Consumer<Task> consumer);
+
+    /**
+     * Sets status and updatedAt on the existing tasks among {@code ids} with set-based UPDATEs
+     * in one transaction; returns the ids that were updated.
+     */
+    List<Long> updateStatus(Collection<Long> ids, TaskStatus status, Instant updatedAt);
+
+    /**
+     * Same transition for at most {@code limit} tasks currently in {@code fromStatus}, in a transaction
+     * of its own; returns the ids that were updated, empty once none is left. Callers loop over chunks,
+     * so no transaction or id list grows with the number of matching rows.
+     */
+    List<Long> updateStatusByStatus(TaskStatus fromStatus, TaskStatus status, Instant updatedAt, int limit);
 
-    Page<Task> findAll(Pageable pageable);
+    /**
+     * Deletes with a single statement; returns the number of rows removed (0 or 1).
+     */
+    int deleteById(Long id);
 
-    void deleteById(Long id);
+    /**
+     * Tasks that left the live table through another port (archival): drops what the decorators
+     * derived from them, such as cached entries and search index postings. Does not touch the database.
+     */
+    void forget(Collection<Long> ids);
 }
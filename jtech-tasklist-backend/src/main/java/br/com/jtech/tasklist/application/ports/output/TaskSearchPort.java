@@ -0,0 +1,17 @@
+package br.com.jtech.tasklist.application.ports.output;
+
+import br.com.jtech.tasklist.application.core.domains.TaskSearchCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchHit;
+
+import java.util.List;
+
+/**
+ * Full-text search over task titles and descriptions.
+ */
+public interface TaskSearchPort {
+    /**
+     * Tasks matching every word of {@code query} in title or description, ranked by relevance
+     * (title matches weigh more) and then by id; reads past {@code after} when it is non-null.
+     */
+    List<TaskSearchHit> search(String query, TaskSearchCursor after, int limit);
+}
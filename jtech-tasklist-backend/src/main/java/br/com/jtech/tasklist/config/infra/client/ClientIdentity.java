@@ -0,0 +1,33 @@
+package br.com.jtech.tasklist.config.infra.client;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Who sent a request, for the per-client state kept by the rate limiter, the Idempotency-Key store
+ * and read-your-writes. A {@value #HEADER} counts only when it is one of the configured keys; any
+ * other value is ignored and the client is its remote address. That is the socket peer, or the
+ * X-Forwarded-For entry added by a proxy in {@code server.tomcat.remoteip.internal-proxies}; headers
+ * from anyone else are not applied, so neither made-up keys nor made-up forwarded addresses get a
+ * caller fresh buckets or another client's state.
+ */
+public class ClientIdentity {
+    public static final String HEADER = "X-API-Key";
+
+    private final Set<String> trustedKeys;
+
+    public ClientIdentity(Collection<String> trustedKeys) {
+        this.trustedKeys = Set.copyOf(trustedKeys);
+    }
+
+    /** {@code key:<api key>} or {@code address:<remote address>}; the prefixes keep the two apart. */
+    public String of(HttpServletRequest request) {
+        String key = request.getHeader(HEADER);
+        if (key != null && trustedKeys.contains(key)) {
+            return "key:" + key;
+        }
+        return "address:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.jtech.tasklist.config.infra.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * The API keys accepted in {@value ClientIdentity#HEADER} (tasklist.clients.api-keys, empty by
+ * default: every client is then told apart by address).
+ */
+@Configuration
+public class ClientIdentityConfig {
+
+    @Bean
+    public ClientIdentity clientIdentity(@Value("${tasklist.clients.api-keys:}") List<String> apiKeys) {
+        return new ClientIdentity(apiKeys.stream().filter(key -> !key.isBlank()).toList());
+    }
+}
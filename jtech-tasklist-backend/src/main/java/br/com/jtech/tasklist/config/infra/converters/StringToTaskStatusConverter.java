@@ -0,0 +1,20 @@
+package br.com.jtech.tasklist.config.infra.converters;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds query parameters such as {@code ?status=concluída} through the same values used in JSON.
+ */
+@Component
+public class StringToTaskStatusConverter implements Converter<String, TaskStatus> {
+
+    @Override
+    public TaskStatus convert(String source) {
+        if (source.isBlank()) {
+            return null;
+        }
+        return TaskStatus.fromValue(source.trim());
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import br.com.jtech.tasklist.application.core.usecases.GetTaskByIdUseCase;
+import br.com.jtech.tasklist.application.core.usecases.ListTasksUseCase;
+import br.com.jtech.tasklist.config.infra.client.ClientIdentity;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Read replica routing (tasklist.datasource.replica.enabled). Replaces Boot's single pool with two,
+ * {@code primary} (spring.datasource.*) and {@code replica} (tasklist.datasource.replica.*, Hikari
+ * property names), behind a {@link ReadWriteRoutingDataSource} exposed as the application's DataSource.
+ * Only {@link ListTasksUseCase} and {@link GetTaskByIdUseCase} read from the replica; Flyway and every
+ * other caller use the primary. Pool metrics come per pool as {@code hikaricp.*{pool=primary|replica}}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tasklist.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+    private static final Set<Class<?>> REPLICA_READERS = Set.of(ListTasksUseCase.class, GetTaskByIdUseCase.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("tasklist.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        // Fail fast to the primary instead of queueing reads behind an unreachable replica
+        dataSource.setConnectionTimeout(1000);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 @Value("${tasklist.datasource.replica.retry-after:30s}") Duration retryAfter,
+                                 MeterRegistry meterRegistry) {
+        return new ReadWriteRoutingDataSource(primary, replica, retryAfter, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${tasklist.datasource.replica.read-your-writes:2s}") Duration window,
+            ClientIdentity clientIdentity) {
+        return new ReadYourWritesFilter(window, clientIdentity);
+    }
+
+    // Static: applies to use case beans without depending on them
+    @Bean
+    public static BeanPostProcessor replicaReadersPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (REPLICA_READERS.stream().noneMatch(type -> type.isInstance(bean))) {
+                    return bean;
+                }
+                ReplicaReadInterceptor interceptor = new ReplicaReadInterceptor();
+                // The use cases are already proxied for metrics; add to that proxy instead of nesting one more
+                if (bean instanceof Advised advised && !advised.isFrozen()) {
+                    advised.addAdvice(0, interceptor);
+                    return bean;
+                }
+                ProxyFactory factory = new ProxyFactory(bean);
+                factory.setProxyTargetClass(true);
+                factory.addAdvice(interceptor);
+                return factory.getProxy();
+            }
+        };
+    }
+}
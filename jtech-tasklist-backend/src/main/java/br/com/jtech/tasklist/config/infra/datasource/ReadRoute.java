@@ -0,0 +1,38 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+/**
+ * Per-thread routing hints read by {@link ReadWriteRoutingDataSource}. A thread is on the replica
+ * only while it runs a read use case and has not been pinned to the primary by a recent write.
+ */
+public final class ReadRoute {
+    private static final ThreadLocal<Boolean> REPLICA = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadRoute() {
+    }
+
+    public static boolean onReplica() {
+        return REPLICA.get() != null && PINNED.get() == null;
+    }
+
+    /** Returns false when the thread was already on the replica; only the caller that got true may leave. */
+    static boolean enterReplica() {
+        if (REPLICA.get() != null) {
+            return false;
+        }
+        REPLICA.set(Boolean.TRUE);
+        return true;
+    }
+
+    static void leaveReplica() {
+        REPLICA.remove();
+    }
+
+    static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    static void unpin() {
+        PINNED.remove();
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends connections to the replica while {@link ReadRoute#onReplica()} holds and to the primary
+ * otherwise. When the replica cannot hand out a connection the caller gets a primary one, and the
+ * replica is skipped for {@code retryAfter} before it is tried again.
+ * <p>
+ * The target is chosen when a connection is acquired, so a transaction or an open-in-view session
+ * stays on the database it started on.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long retryAfterNanos;
+    private final AtomicLong replicaDownUntil = new AtomicLong();
+    private volatile boolean replicaDown;
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter fallbacks;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration retryAfter, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.retryAfterNanos = retryAfter.toNanos();
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+
+        this.primaryConnections = connections(meterRegistry, PRIMARY);
+        this.replicaConnections = connections(meterRegistry, REPLICA);
+        this.fallbacks = Counter.builder("tasklist.datasource.replica.fallbacks")
+                .description("Replica reads sent to the primary because the replica refused a connection")
+                .register(meterRegistry);
+        Gauge.builder("tasklist.datasource.replica.available", this, source -> source.replicaAvailable() ? 1 : 0)
+                .description("1 while reads are routed to the replica, 0 while it is skipped after a failure")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ReadRoute.onReplica() && replicaAvailable() ? REPLICA : PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (REPLICA.equals(determineCurrentLookupKey())) {
+            try {
+                Connection connection = replica.getConnection();
+                replicaUp();
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLException ex) {
+                replicaFailed(ex);
+            }
+        }
+        primaryConnections.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (REPLICA.equals(determineCurrentLookupKey())) {
+            try {
+                Connection connection = replica.getConnection(username, password);
+                replicaUp();
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLException ex) {
+                replicaFailed(ex);
+            }
+        }
+        primaryConnections.increment();
+        return primary.getConnection(username, password);
+    }
+
+    boolean replicaAvailable() {
+        return !replicaDown || System.nanoTime() - replicaDownUntil.get() >= 0;
+    }
+
+    private void replicaUp() {
+        if (replicaDown) {
+            replicaDown = false;
+            log.info("Replica reachable again, routing reads to it");
+        }
+    }
+
+    private void replicaFailed(SQLException ex) {
+        fallbacks.increment();
+        replicaDownUntil.set(System.nanoTime() + retryAfterNanos);
+        if (!replicaDown) {
+            replicaDown = true;
+            log.warn("Replica refused a connection, reading from the primary for {} ms: {}",
+                    retryAfterNanos / 1_000_000, ex.getMessage());
+        }
+    }
+
+    private static Counter connections(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("tasklist.datasource.connections")
+                .description("Connections handed out by the read/write router")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
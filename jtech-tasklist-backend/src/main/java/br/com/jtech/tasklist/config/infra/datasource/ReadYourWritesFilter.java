@@ -0,0 +1,54 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import br.com.jtech.tasklist.config.infra.client.ClientIdentity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a client on the primary for {@code window} after each successful write it makes, so it
+ * reads back its own changes even when the replica lags. Clients are told apart by
+ * {@link ClientIdentity}, as for rate limiting. The pins live in this process only.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ClientIdentity clientIdentity;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration window, ClientIdentity clientIdentity) {
+        this.clientIdentity = clientIdentity;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = clientIdentity.of(request);
+        boolean pinned = recentWriters.getIfPresent(client) != null;
+        if (pinned) {
+            ReadRoute.pinToPrimary();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (pinned) {
+                ReadRoute.unpin();
+            }
+            if (!READ_METHODS.contains(request.getMethod()) && response.getStatus() < 400) {
+                recentWriters.put(client, Boolean.TRUE);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Marks the calling thread as a replica reader for the duration of a read use case call; nested
+ * calls keep the outer mark.
+ */
+public class ReplicaReadInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!ReadRoute.enterReplica()) {
+            return invocation.proceed();
+        }
+        try {
+            return invocation.proceed();
+        } finally {
+            ReadRoute.leaveReplica();
+        }
+    }
+}
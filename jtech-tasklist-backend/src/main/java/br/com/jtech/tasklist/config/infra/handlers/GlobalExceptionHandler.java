@@ -1,16 +1,23 @@
 package br.com.jtech.tasklist.config.infra.handlers;
 
 import br.com.jtech.tasklist.application.core.usecases.TaskNotFoundException;
+import br.com.jtech.tasklist.application.core.usecases.TaskSyncExpiredException;
+import br.com.jtech.tasklist.application.core.usecases.TaskVersionConflictException;
 import br.com.jtech.tasklist.config.infra.exceptions.ProblemDetailsResponse;
+import br.com.jtech.tasklist.config.infra.ratelimit.RateLimitExceededException;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.method.ParameterValidationResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -49,6 +56,43 @@ public class GlobalExceptionHandler {
                 .body(problemDetails);
     }
 
+    /**
+     * Handle method validation errors, e.g. constraints on each element of a batch body.
+     * Element errors are reported as "[index].field".
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ProblemDetailsResponse> handleMethodValidationErrors(
+            HandlerMethodValidationException ex,
+            WebRequest request) {
+
+        List<ProblemDetailsResponse.FieldError> fieldErrors = new ArrayList<>();
+        for (ParameterValidationResult result : ex.getAllValidationResults()) {
+            String parameter = result.getContainerIndex() != null
+                    ? "[" + result.getContainerIndex() + "]"
+                    : result.getMethodParameter().getParameterName();
+            for (MessageSourceResolvable error : result.getResolvableErrors()) {
+                String field = error instanceof FieldError fieldError
+                        ? parameter + "." + fieldError.getField()
+                        : parameter;
+                fieldErrors.add(new ProblemDetailsResponse.FieldError(field, error.getDefaultMessage()));
+            }
+        }
+
+        ProblemDetailsResponse problemDetails = new ProblemDetailsResponse(
+                "about:blank",
+                "Validation error",
+                HttpStatus.BAD_REQUEST.value(),
+                "Invalid request parameters. See errors for details.",
+                getRequestUri(request),
+                fieldErrors
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(problemDetails);
+    }
+
     /**
      * Handle TaskNotFoundException.
      */
@@ -71,6 +115,79 @@ public class GlobalExceptionHandler {
                 .body(problemDetails);
     }
 
+    /**
+     * Handle TaskVersionConflictException: 412 when the stale version came from If-Match, 409 when from the body.
+     */
+    @ExceptionHandler(TaskVersionConflictException.class)
+    public ResponseEntity<ProblemDetailsResponse> handleVersionConflict(
+            TaskVersionConflictException ex,
+            WebRequest request) {
+
+        HttpStatus status = request.getHeader(HttpHeaders.IF_MATCH) != null
+                ? HttpStatus.PRECONDITION_FAILED
+                : HttpStatus.CONFLICT;
+
+        ProblemDetailsResponse problemDetails = new ProblemDetailsResponse(
+                "about:blank",
+                status == HttpStatus.PRECONDITION_FAILED ? "Precondition failed" : "Version conflict",
+                status.value(),
+                ex.getMessage(),
+                getRequestUri(request)
+        );
+
+        return ResponseEntity
+                .status(status)
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(problemDetails);
+    }
+
+    /**
+     * Handle TaskSyncExpiredException: the client must drop its copy and download the list again.
+     */
+    @ExceptionHandler(TaskSyncExpiredException.class)
+    public ResponseEntity<ProblemDetailsResponse> handleSyncExpired(
+            TaskSyncExpiredException ex,
+            WebRequest request) {
+
+        ProblemDetailsResponse problemDetails = new ProblemDetailsResponse(
+                "about:blank",
+                "Sync token expired",
+                HttpStatus.GONE.value(),
+                ex.getMessage(),
+                getRequestUri(request)
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.GONE)
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(problemDetails);
+    }
+
+    /**
+     * Handle RateLimitExceededException: Retry-After carries the whole seconds until the next token.
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ProblemDetailsResponse> handleRateLimitExceeded(
+            RateLimitExceededException ex,
+            WebRequest request) {
+
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+
+        ProblemDetailsResponse problemDetails = new ProblemDetailsResponse(
+                "about:blank",
+                "Too many requests",
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                ex.getMessage(),
+                getRequestUri(request)
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(problemDetails);
+    }
+
     /**
      * Handle invalid enum values (status field).
      */
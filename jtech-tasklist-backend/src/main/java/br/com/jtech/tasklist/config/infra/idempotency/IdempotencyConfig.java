@@ -0,0 +1,51 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import br.com.jtech.tasklist.config.infra.client.ClientIdentity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Idempotency-Key handling (tasklist.idempotency) for the write endpoints listed in
+ * {@code endpoints}. The store is selected by tasklist.idempotency.store: {@code memory} (default)
+ * keeps responses in this process, {@code jdbc} in the idempotency_keys table shared by every instance.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tasklist.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tasklist.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(@Value("${tasklist.idempotency.maximum-bytes:64MB}") DataSize maximumBytes,
+                                                     @Value("${tasklist.idempotency.ttl:PT24H}") Duration ttl) {
+        return new InMemoryIdempotencyStore(maximumBytes.toBytes(), ttl);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tasklist.idempotency", name = "store", havingValue = "jdbc")
+    public IdempotencyStore jdbcIdempotencyStore(JdbcTemplate jdbcTemplate,
+                                                 @Value("${tasklist.idempotency.ttl:PT24H}") Duration ttl,
+                                                 @Value("${tasklist.idempotency.wait:PT30S}") Duration lease) {
+        return new JdbcIdempotencyStore(jdbcTemplate, ttl, lease);
+    }
+
+    @Bean
+    public IdempotencyFilter idempotencyFilter(IdempotencyStore idempotencyStore,
+                                               ObjectMapper objectMapper,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${tasklist.idempotency.endpoints:POST /tasks,POST /tasks/batch}") List<String> endpoints,
+                                               @Value("${tasklist.idempotency.wait:PT30S}") Duration wait,
+                                               @Value("${tasklist.idempotency.max-body:4MB}") DataSize maxBody,
+                                               ClientIdentity clientIdentity) {
+        return new IdempotencyFilter(idempotencyStore, objectMapper, meterRegistry, endpoints, wait, clientIdentity,
+                maxBody.toBytes());
+    }
+}
@@ -0,0 +1,288 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import br.com.jtech.tasklist.config.infra.client.ClientIdentity;
+import br.com.jtech.tasklist.config.infra.exceptions.ProblemDetailsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@value #KEY_HEADER} on the configured endpoints ({@code "POST /tasks"}): the first request with a
+ * key runs and its response (status below 500, except 429) is recorded; retries with the same key get that
+ * response back, marked {@value #REPLAYED_HEADER}, without reaching the controller. Duplicates that
+ * arrive while the first is still running wait for it and share its response, so a retry storm
+ * executes once. Requests without the header are not affected.
+ * <p>
+ * Keys are scoped to the endpoint and to the client, told apart by {@link ClientIdentity} like the
+ * rate limiter does, so two clients picking the same key never see each other's
+ * response. The client part is hashed: it has no length limit and may be an API key.
+ * <p>
+ * A key reused with a different body is refused with 422; a key still running on another instance
+ * (JDBC store) or for longer than {@code wait} gets 409 and can be retried. The body is held in memory
+ * for the fingerprint, so a keyed request larger than {@code maxBodyBytes} (declared or read) gets 413.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> endpoints;
+    private final Duration wait;
+    private final ClientIdentity clientIdentity;
+    private final int maxBodyBytes;
+    private final ConcurrentHashMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                             Collection<String> endpoints, Duration wait, ClientIdentity clientIdentity,
+                             long maxBodyBytes) {
+        if (maxBodyBytes < 1 || maxBodyBytes >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Idempotency max-body must be between 1 byte and 2GB");
+        }
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.endpoints = Set.copyOf(endpoints);
+        this.wait = wait;
+        this.clientIdentity = clientIdentity;
+        this.maxBodyBytes = (int) maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(KEY_HEADER) == null || !endpoints.contains(endpoint(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            problem(request, response, HttpStatus.BAD_REQUEST,
+                    KEY_HEADER + " must have between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        byte[] body = readBody(request);
+        if (body == null) {
+            count("too_large");
+            problem(request, response, HttpStatus.CONTENT_TOO_LARGE,
+                    "Requests with " + KEY_HEADER + " must not exceed " + maxBodyBytes + " bytes");
+            return;
+        }
+        CachedBodyRequest cached = new CachedBodyRequest(request, body);
+        String fingerprint = fingerprint(cached.body);
+        String scopedKey = endpoint(request) + " " + fingerprint(clientIdentity.of(request).getBytes(StandardCharsets.UTF_8)) + " " + key;
+        long deadline = System.nanoTime() + wait.toNanos();
+
+        while (true) {
+            CompletableFuture<IdempotentResponse> execution = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(scopedKey, execution);
+            if (running == null) {
+                execute(cached, response, chain, scopedKey, fingerprint, execution);
+                return;
+            }
+            IdempotentResponse first;
+            try {
+                first = running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException ex) {
+                inProgress(request, response);
+                return;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                inProgress(request, response);
+                return;
+            } catch (ExecutionException ex) {
+                first = null;
+            }
+            if (first != null) {
+                replay(request, response, first, fingerprint, "collapsed");
+                return;
+            }
+            // The first attempt left nothing to replay (5xx or failure); this one takes its turn
+        }
+    }
+
+    private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain chain,
+                         String scopedKey, String fingerprint, CompletableFuture<IdempotentResponse> execution)
+            throws ServletException, IOException {
+        IdempotentResponse result = null;
+        boolean reserved = false;
+        try {
+            IdempotentResponse stored = store.find(scopedKey).orElse(null);
+            if (stored != null) {
+                result = stored;
+                replay(request, response, stored, fingerprint, "replayed");
+                return;
+            }
+            if (!store.reserve(scopedKey)) {
+                inProgress(request, response);
+                return;
+            }
+            reserved = true;
+            ContentCachingResponseWrapper captured = new ContentCachingResponseWrapper(response);
+            chain.doFilter(request, captured);
+            if (recordable(captured.getStatus())) {
+                result = new IdempotentResponse(fingerprint, captured.getStatus(), captured.getContentType(),
+                        captured.getHeader(HttpHeaders.LOCATION), captured.getContentAsByteArray());
+                store.complete(scopedKey, result);
+            }
+            count("executed");
+            captured.copyBodyToResponse();
+        } finally {
+            if (reserved && result == null) {
+                store.release(scopedKey);
+            }
+            inFlight.remove(scopedKey, execution);
+            execution.complete(result);
+        }
+    }
+
+    // Null when the body is over maxBodyBytes; a chunked body is read only one byte past the limit
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        return body.length > maxBodyBytes ? null : body;
+    }
+
+    // 5xx and 429 (rate limited before the handler ran) say nothing about the request itself
+    private static boolean recordable(int status) {
+        return status < HttpStatus.INTERNAL_SERVER_ERROR.value() && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private void replay(HttpServletRequest request, HttpServletResponse response, IdempotentResponse recorded,
+                        String fingerprint, String outcome) throws IOException {
+        if (!recorded.fingerprint().equals(fingerprint)) {
+            count("mismatch");
+            problem(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    KEY_HEADER + " was already used with a different request body");
+            return;
+        }
+        count(outcome);
+        response.setStatus(recorded.status());
+        if (recorded.contentType() != null) {
+            response.setContentType(recorded.contentType());
+        }
+        if (recorded.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, recorded.location());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(recorded.body().length);
+        response.getOutputStream().write(recorded.body());
+    }
+
+    private void inProgress(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        count("conflict");
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        problem(request, response, HttpStatus.CONFLICT,
+                "A request with this " + KEY_HEADER + " is still being processed");
+    }
+
+    private void problem(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                         String detail) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ProblemDetailsResponse(
+                "about:blank", status.getReasonPhrase(), status.value(), detail, request.getRequestURI()));
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("tasklist.idempotency.requests", "outcome", outcome).increment();
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return request.getMethod() + " " + path;
+    }
+
+    private static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /** The body is read once up front for the fingerprint and served again to the controller. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
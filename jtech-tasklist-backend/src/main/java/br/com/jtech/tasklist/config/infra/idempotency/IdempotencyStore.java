@@ -0,0 +1,27 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import java.util.Optional;
+
+/**
+ * Responses recorded per Idempotency-Key for a bounded time. Keys passed in are already scoped
+ * to the method and path they were sent with and to the client that sent them.
+ */
+public interface IdempotencyStore {
+    /**
+     * The completed response recorded under {@code key}, while it is retained.
+     */
+    Optional<IdempotentResponse> find(String key);
+
+    /**
+     * Claims {@code key} for one execution; false when another instance holds it or already
+     * completed it since the last {@link #find}.
+     */
+    boolean reserve(String key);
+
+    void complete(String key, IdempotentResponse response);
+
+    /**
+     * Drops a reservation whose outcome is not worth replaying, so a retry executes again.
+     */
+    void release(String key);
+}
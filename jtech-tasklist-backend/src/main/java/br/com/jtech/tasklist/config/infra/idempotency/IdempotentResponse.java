@@ -0,0 +1,8 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+/**
+ * What a replay sends back: the original status, Content-Type, Location and body. The fingerprint
+ * is the SHA-256 of the original request body, so a key reused for another request can be refused.
+ */
+public record IdempotentResponse(String fingerprint, int status, String contentType, String location, byte[] body) {
+}
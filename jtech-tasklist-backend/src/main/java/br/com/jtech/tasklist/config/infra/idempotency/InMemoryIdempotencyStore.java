@@ -0,0 +1,49 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Per-process store: responses totalling at most {@code maximumBytes}, each kept for {@code ttl}.
+ * Entries are weighed by their body, so a few large batch responses cannot hold more heap than the
+ * budget. Reservations always succeed; concurrent duplicates within the process are already
+ * collapsed by {@link IdempotencyFilter}.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    // Key, fingerprint, headers and object headers of one entry, on top of its body
+    static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final Cache<String, IdempotentResponse> responses;
+
+    public InMemoryIdempotencyStore(long maximumBytes, Duration ttl) {
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String key, IdempotentResponse response) ->
+                        (int) Math.min(Integer.MAX_VALUE, (long) response.body().length + ENTRY_OVERHEAD_BYTES))
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        return Optional.ofNullable(responses.getIfPresent(key));
+    }
+
+    @Override
+    public boolean reserve(String key) {
+        return true;
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        responses.put(key, response);
+    }
+
+    @Override
+    public void release(String key) {
+        // Nothing was recorded for the key
+    }
+}
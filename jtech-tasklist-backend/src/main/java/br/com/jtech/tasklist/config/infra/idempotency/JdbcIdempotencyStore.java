@@ -0,0 +1,96 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The {@code idempotency_keys} table from V11, shared by every instance. A reservation is a row
+ * without {@code completed_at}, inserted under the primary key, so only one instance executes a
+ * key; a reservation left behind by a crashed instance lapses after {@code lease}. Rows are
+ * retained for {@code ttl} and purged by {@link #purgeExpired()}.
+ */
+public class JdbcIdempotencyStore implements IdempotencyStore {
+    private static final String FIND = """
+            SELECT fingerprint, status, content_type, location, body FROM idempotency_keys
+            WHERE idem_key = ? AND completed_at IS NOT NULL AND created_at > ?""";
+
+    private static final String DELETE_LAPSED = """
+            DELETE FROM idempotency_keys
+            WHERE idem_key = ? AND (created_at <= ? OR (completed_at IS NULL AND created_at <= ?))""";
+
+    private static final String RESERVE = "INSERT INTO idempotency_keys (idem_key, created_at) VALUES (?, ?)";
+
+    private static final String COMPLETE = """
+            UPDATE idempotency_keys
+            SET fingerprint = ?, status = ?, content_type = ?, location = ?, body = ?, completed_at = ?
+            WHERE idem_key = ?""";
+
+    private static final String RELEASE = "DELETE FROM idempotency_keys WHERE idem_key = ? AND completed_at IS NULL";
+
+    private static final String PURGE = "DELETE FROM idempotency_keys WHERE created_at <= ?";
+
+    private static final RowMapper<IdempotentResponse> MAPPER = (rs, rowNum) -> new IdempotentResponse(
+            rs.getString("fingerprint"),
+            rs.getInt("status"),
+            rs.getString("content_type"),
+            rs.getString("location"),
+            rs.getBytes("body")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Duration lease;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, Duration ttl, Duration lease) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.lease = lease;
+    }
+
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        List<IdempotentResponse> rows = jdbcTemplate.query(FIND, MAPPER, key, ago(ttl));
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public boolean reserve(String key) {
+        Instant now = Instant.now();
+        jdbcTemplate.update(DELETE_LAPSED, key, Timestamp.from(now.minus(ttl)), Timestamp.from(now.minus(lease)));
+        try {
+            jdbcTemplate.update(RESERVE, key, Timestamp.from(now));
+            return true;
+        } catch (DuplicateKeyException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        jdbcTemplate.update(COMPLETE, response.fingerprint(), response.status(), response.contentType(),
+                response.location(), response.body(), Timestamp.from(Instant.now()), key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update(RELEASE, key);
+    }
+
+    @Scheduled(fixedDelayString = "${tasklist.idempotency.purge-interval:PT1H}",
+               initialDelayString = "${tasklist.idempotency.purge-interval:PT1H}")
+    public int purgeExpired() {
+        return jdbcTemplate.update(PURGE, ago(ttl));
+    }
+
+    private static Timestamp ago(Duration duration) {
+        return Timestamp.from(Instant.now().minus(duration));
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.jtech.tasklist.config.infra.metrics;
+
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.experimental.UtilityClass;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.Set;
+
+/**
+ * Timing decorators applied where the beans are composed, so neither the use cases nor the
+ * repository adapters carry metrics code. Meters: {@code tasklist.usecase} and {@code tasklist.repository}.
+ */
+@UtilityClass
+public class MeteredProxies {
+    public static final String USE_CASE_TIMER = "tasklist.usecase";
+    public static final String REPOSITORY_TIMER = "tasklist.repository";
+
+    /**
+     * Class-based proxy: use cases are plain classes, not interfaces, so the proxy subclasses them
+     * and forwards to {@code useCase}.
+     */
+    public static <T> T useCase(T useCase, MeterRegistry meterRegistry) {
+        return useCase(useCase, meterRegistry, Set.of());
+    }
+
+    /**
+     * Same, tagging {@code status} for the methods in {@code statusFilters}: their first
+     * {@code TaskStatus} parameter selects tasks rather than being a status to write.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T useCase(T useCase, MeterRegistry meterRegistry, Set<String> statusFilters) {
+        ProxyFactory factory = new ProxyFactory(useCase);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new TimedInvocationInterceptor(meterRegistry, USE_CASE_TIMER,
+                "Latency of use case calls", useCase.getClass().getSimpleName(), statusFilters));
+        return (T) factory.getProxy();
+    }
+
+    public static TaskRepositoryPort repository(TaskRepositoryPort repository, MeterRegistry meterRegistry,
+                                                Set<String> statusFilters) {
+        ProxyFactory factory = new ProxyFactory(repository);
+        factory.setInterfaces(TaskRepositoryPort.class);
+        factory.addAdvice(new TimedInvocationInterceptor(meterRegistry, REPOSITORY_TIMER,
+                "Latency of TaskRepositoryPort calls", TaskRepositoryPort.class.getSimpleName(), statusFilters));
+        return (TaskRepositoryPort) factory.getProxy();
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.jtech.tasklist.config.infra.metrics;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.usecases.TaskNotFoundException;
+import br.com.jtech.tasklist.application.core.usecases.TaskVersionConflictException;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolationException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Times every public call on the proxied object under one meter name, tagged with the component,
+ * the method, the status filter, the page size bucket and the outcome. Which calls take a filter is
+ * configured with the proxy ({@code statusFilters}): there the first {@link TaskStatus} argument
+ * selects the tasks, elsewhere it is a status being written and is not tagged.
+ * Histogram buckets and percentiles come from management.metrics.distribution in application.yml.
+ */
+public class TimedInvocationInterceptor implements MethodInterceptor {
+    static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Meter.MeterProvider<Timer> timers;
+    private final String component;
+    private final Set<String> statusFilters;
+
+    public TimedInvocationInterceptor(MeterRegistry meterRegistry, String name, String description, String component,
+                                      Set<String> statusFilters) {
+        this.meterRegistry = meterRegistry;
+        this.timers = Timer.builder(name).description(description).withRegistry(meterRegistry);
+        this.component = component;
+        this.statusFilters = Set.copyOf(statusFilters);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            Object result = invocation.proceed();
+            if (result instanceof Optional<?> optional && optional.isEmpty()) {
+                outcome = "not_found";
+            }
+            return result;
+        } catch (Throwable ex) {
+            outcome = outcome(ex);
+            throw ex;
+        } finally {
+            sample.stop(timers.withTags(tags(invocation, outcome)));
+        }
+    }
+
+    private Tags tags(MethodInvocation invocation, String outcome) {
+        String status = NONE;
+        String pageSize = NONE;
+        Class<?>[] types = invocation.getMethod().getParameterTypes();
+        Object[] arguments = invocation.getArguments();
+        boolean filtered = statusFilters.contains(invocation.getMethod().getName());
+        for (int i = 0; i < arguments.length; i++) {
+            if (filtered && types[i] == TaskStatus.class) {
+                // The first TaskStatus parameter is the filter, even when null (no filter)
+                if (arguments[i] instanceof TaskStatus taskStatus) {
+                    status = taskStatus.name().toLowerCase(Locale.ROOT);
+                }
+                filtered = false;
+            }
+            if (arguments[i] instanceof Pageable pageable && pageable.isPaged()) {
+                pageSize = pageSize(pageable.getPageSize());
+            }
+        }
+        return Tags.of(
+                "component", component,
+                "method", invocation.getMethod().getName(),
+                "status", status,
+                "page_size", pageSize,
+                "outcome", outcome);
+    }
+
+    // Buckets keep the tag bounded whatever ?size= clients send
+    static String pageSize(int size) {
+        if (size <= 20) {
+            return "<=20";
+        }
+        return size <= 100 ? "<=100" : ">100";
+    }
+
+    static String outcome(Throwable ex) {
+        if (ex instanceof TaskNotFoundException) {
+            return "not_found";
+        }
+        if (ex instanceof IllegalArgumentException || ex instanceof ConstraintViolationException) {
+            return "validation_error";
+        }
+        if (ex instanceof TaskVersionConflictException) {
+            return "conflict";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.jtech.tasklist.config.infra.ratelimit;
+
+import br.com.jtech.tasklist.config.infra.client.ClientIdentity;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-client, per-route rate limiting of the /tasks endpoints (tasklist.rate-limit). Throttled
+ * requests get 429 from GlobalExceptionHandler and count in {@code tasklist.ratelimit.throttled}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tasklist.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    @ConfigurationProperties("tasklist.rate-limit")
+    public RateLimitProperties rateLimitProperties() {
+        return new RateLimitProperties();
+    }
+
+    @Bean
+    public RateLimitInterceptor rateLimitInterceptor(RateLimitProperties rateLimitProperties,
+                                                     ClientIdentity clientIdentity,
+                                                     MeterRegistry meterRegistry) {
+        return new RateLimitInterceptor(rateLimitProperties, clientIdentity, meterRegistry);
+    }
+
+    @Bean
+    public WebMvcConfigurer rateLimitMvcConfigurer(RateLimitInterceptor rateLimitInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/tasks", "/tasks/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.jtech.tasklist.config.infra.ratelimit;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * The client used up its tokens for this route; {@code retryAfter} is when the next one is available.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.jtech.tasklist.config.infra.ratelimit;
+
+import br.com.jtech.tasklist.config.infra.client.ClientIdentity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Admission control in front of the task handlers: each request takes a token from the bucket of
+ * its client ({@link ClientIdentity}) and route, and is refused with {@link RateLimitExceededException} (429 with
+ * Retry-After) when the bucket is empty. Runs after handler mapping, so the route is the mapping
+ * pattern ({@code GET /tasks/{id}}) and every id shares one bucket.
+ * <p>
+ * Buckets live in a bounded Caffeine map, whose reads do not lock, and taking a token is a single
+ * compare-and-set on that bucket; concurrent requests only contend when they share a client and
+ * route. Async re-dispatches (SSE) and error dispatches were already admitted and are not charged.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final ClientIdentity clientIdentity;
+    private final RateLimitProperties.Limit defaultLimit;
+    private final Map<String, RateLimitProperties.Limit> routes;
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final MeterRegistry meterRegistry;
+    private final Counter admitted;
+
+    public RateLimitInterceptor(RateLimitProperties properties, ClientIdentity clientIdentity, MeterRegistry meterRegistry) {
+        this.clientIdentity = clientIdentity;
+        this.defaultLimit = properties.getDefaultLimit();
+        this.routes = Map.copyOf(properties.getRoutes());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumBuckets())
+                .expireAfterAccess(properties.getIdleExpiry())
+                .build();
+        this.meterRegistry = meterRegistry;
+        this.admitted = Counter.builder("tasklist.ratelimit.admitted")
+                .description("Requests that found a token in their bucket")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        String route = request.getMethod() + " " + pattern(request);
+        RateLimitProperties.Limit limit = routes.getOrDefault(route, defaultLimit);
+        if (limit.getCapacity() <= 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(new BucketKey(clientIdentity.of(request), route),
+                key -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos == 0) {
+            admitted.increment();
+            return true;
+        }
+        meterRegistry.counter("tasklist.ratelimit.throttled", "method", request.getMethod(), "uri", pattern(request))
+                .increment();
+        throw new RateLimitExceededException(
+                "Rate limit of " + limit.getCapacity() + " requests (refilled at " + limit.getRefillPerSecond()
+                        + "/s) exceeded for " + route,
+                Duration.ofNanos(waitNanos));
+    }
+
+    // Route template, never the raw path, so ids do not get buckets or tag values of their own
+    private static String pattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_ROUTE;
+    }
+
+    private record BucketKey(String client, String route) {
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.jtech.tasklist.config.infra.ratelimit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * tasklist.rate-limit: one token bucket per client and route. Routes are keyed by method and
+ * mapping pattern ({@code "[GET /tasks]"} in YAML); those not listed use {@code default-limit}.
+ * A capacity of 0 leaves the route unlimited. Validated when bound, so a bad limit fails startup.
+ */
+@Getter
+@Setter
+@Validated
+public class RateLimitProperties {
+    /** Buckets kept at most; the least recently used client is forgotten first. */
+    @Positive
+    private long maximumBuckets = 100_000;
+    /** A bucket unused this long is dropped; it would have refilled completely by then anyway. */
+    @NotNull
+    private Duration idleExpiry = Duration.ofMinutes(10);
+    @Valid
+    @NotNull
+    private Limit defaultLimit = new Limit(200, 100);
+    private Map<String, @Valid @NotNull Limit> routes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        /** Burst size: requests accepted back to back from a full bucket; 0 for no limit. */
+        @PositiveOrZero
+        private int capacity;
+        /** Sustained rate: tokens added per second; zero or less would make the refill interval overflow. */
+        @Positive
+        private double refillPerSecond;
+    }
+}
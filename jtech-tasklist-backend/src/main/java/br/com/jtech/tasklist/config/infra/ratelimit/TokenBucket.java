@@ -0,0 +1,42 @@
+package br.com.jtech.tasklist.config.infra.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket of {@code capacity} tokens refilled at {@code refillPerSecond}, kept as a single
+ * timestamp (the GCRA formulation): the instant at which the bucket would be full again. Taking a
+ * token is one compare-and-set on that timestamp, so callers never block each other and no refill
+ * thread is needed.
+ */
+final class TokenBucket {
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || !(refillPerSecond > 0)) {
+            throw new IllegalArgumentException("Token bucket needs a positive capacity and refill rate");
+        }
+        this.intervalNanos = Math.max(1, Math.round(1_000_000_000L / refillPerSecond));
+        this.toleranceNanos = intervalNanos * (capacity - 1L);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes a token at {@code nowNanos} ({@link System#nanoTime()} scale); returns 0 when one was
+     * available, otherwise how many nanoseconds until the next one will be.
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long allowedAt = arrival - toleranceNanos;
+            if (nowNanos - allowedAt < 0) {
+                return allowedAt - nowNanos;
+            }
+            long next = Math.max(arrival - nowNanos, 0) + nowNanos + intervalNanos;
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+}
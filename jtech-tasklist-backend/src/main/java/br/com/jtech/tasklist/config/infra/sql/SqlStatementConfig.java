@@ -0,0 +1,46 @@
+package br.com.jtech.tasklist.config.infra.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL statement counting (tasklist.sql-stats). Metrics are always recorded while it is
+ * enabled; the response headers are meant for the debug profile.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "tasklist.sql-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementConfig {
+
+    private static final String APPLICATION_DATA_SOURCE = "dataSource";
+
+    /**
+     * Wraps only the application-facing DataSource: pools behind a router are DataSource beans too,
+     * and wrapping both levels would count every statement twice. Static: post-processors are
+     * created before the DataSource they wrap.
+     */
+    @Bean
+    public static BeanPostProcessor countingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (APPLICATION_DATA_SOURCE.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof CountingDataSource)) {
+                    return new CountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlStatementFilter sqlStatementFilter(MeterRegistry meterRegistry,
+                                                 @Value("${tasklist.sql-stats.headers:false}") boolean headers) {
+        return new SqlStatementFilter(meterRegistry, headers);
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.jtech.tasklist.config.infra.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements each request runs on its own thread. The result is kept in the
+ * {@link SqlStatementStats#ATTRIBUTE} request attribute, recorded as {@code tasklist.http.sql.statements}
+ * and {@code tasklist.http.sql.time} per route and, with {@code headers}, sent as
+ * {@value #STATEMENTS_HEADER} and {@value #TIME_HEADER}.
+ * <p>
+ * Headers must go out before the body, so they carry what ran until the response started to be
+ * written; streamed responses (export, SSE) only report the statements before the first byte.
+ */
+public class SqlStatementFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final Meter.MeterProvider<DistributionSummary> statementCounts;
+    private final Meter.MeterProvider<Timer> statementTimes;
+    private final boolean headers;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry, boolean headers) {
+        this.statementCounts = DistributionSummary.builder("tasklist.http.sql.statements")
+                .description("SQL statements executed per HTTP request")
+                .baseUnit("statements")
+                .withRegistry(meterRegistry);
+        this.statementTimes = Timer.builder("tasklist.http.sql.time")
+                .description("Time spent executing SQL statements per HTTP request")
+                .withRegistry(meterRegistry);
+        this.headers = headers;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.open();
+        if (stats == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        StatsHeaderResponse wrapped = headers ? new StatsHeaderResponse(response, stats) : null;
+        try {
+            chain.doFilter(request, wrapped != null ? wrapped : response);
+        } finally {
+            SqlStatementStats.close();
+            if (wrapped != null) {
+                wrapped.writeHeaders();
+            }
+            request.setAttribute(SqlStatementStats.ATTRIBUTE, stats);
+            Tags tags = Tags.of("method", request.getMethod(), "uri", route(request));
+            statementCounts.withTags(tags).record(stats.statements());
+            statementTimes.withTags(tags).record(stats.time());
+        }
+    }
+
+    // Route template, never the raw path, so ids do not become tag values
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_ROUTE;
+    }
+
+    /** Adds the headers right before the response commits: on first body access, flush or error. */
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+        private final SqlStatementStats stats;
+        private boolean written;
+
+        StatsHeaderResponse(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(STATEMENTS_HEADER, Integer.toString(stats.statements()));
+            setHeader(TIME_HEADER, String.format(Locale.ROOT, "%.3f",
+                    stats.time().toNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.jtech.tasklist.config.infra.sql;
+
+import java.time.Duration;
+
+/**
+ * Statements executed and time spent inside them on one thread while a scope is open. Every
+ * execute call counts once: an executeBatch is one round trip however many rows it carries.
+ */
+public final class SqlStatementStats {
+    /** Request attribute holding the stats of the request once it has been handled. */
+    public static final String ATTRIBUTE = SqlStatementStats.class.getName();
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    /**
+     * Starts counting on this thread; returns null when a scope is already open, in which case the
+     * outer scope keeps counting and the caller must not close it.
+     */
+    public static SqlStatementStats open() {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    static void record(long elapsedNanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.nanos += elapsedNanos;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public Duration time() {
+        return Duration.ofNanos(nanos);
+    }
+}
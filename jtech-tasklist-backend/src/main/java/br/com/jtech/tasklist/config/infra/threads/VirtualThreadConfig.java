@@ -0,0 +1,53 @@
+package br.com.jtech.tasklist.config.infra.threads;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extras for spring.threads.virtual.enabled=true. Boot already moves Tomcat, MVC async and the
+ * task executors onto virtual threads; this adds the pinning check and the shorter pool timeout.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+    private static final long HIKARI_DEFAULT_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * With virtual threads the pool is the only queue, so pools still at Hikari's default wait get
+     * tasklist.virtual-threads.pool-timeout instead; an explicit connection-timeout (the replica's)
+     * is kept. Static: post-processors are created before the DataSource they adjust.
+     */
+    @Bean
+    public static BeanPostProcessor virtualThreadPoolTimeoutPostProcessor(Environment environment) {
+        Duration timeout = environment.getProperty("tasklist.virtual-threads.pool-timeout", Duration.class,
+                Duration.ofSeconds(3));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource pool && pool.getConnectionTimeout() == HIKARI_DEFAULT_TIMEOUT_MS) {
+                    pool.setConnectionTimeout(timeout.toMillis());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tasklist.virtual-threads", name = "pinning-monitor", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${tasklist.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+}
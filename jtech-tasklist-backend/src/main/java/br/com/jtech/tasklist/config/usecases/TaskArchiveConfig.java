@@ -0,0 +1,38 @@
+package br.com.jtech.tasklist.config.usecases;
+
+import br.com.jtech.tasklist.adapters.output.repositories.TaskArchiveAdapter;
+import br.com.jtech.tasklist.application.core.usecases.ArchiveDoneTasksUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import br.com.jtech.tasklist.config.infra.metrics.MeteredProxies;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Hot/cold split: the scheduled archival of completed tasks and the archive reads behind
+ * GET /tasks/{id} and GET /tasks?includeArchived=true.
+ */
+@Configuration
+public class TaskArchiveConfig {
+    @Bean
+    public TaskArchivePort taskArchive(NamedParameterJdbcTemplate jdbcTemplate, DataSource dataSource) {
+        return new TaskArchiveAdapter(jdbcTemplate, dataSource);
+    }
+
+    @Bean
+    public ArchiveDoneTasksUseCase archiveDoneTasksUseCase(TaskArchivePort taskArchive,
+                                                           TaskRepositoryPort taskRepository,
+                                                           TaskEventPublisherPort taskEvents,
+                                                           @Value("${tasklist.archive.age:P30D}") Duration age,
+                                                           @Value("${tasklist.archive.chunk-size:500}") int chunkSize,
+                                                           MeterRegistry meterRegistry) {
+        return MeteredProxies.useCase(new ArchiveDoneTasksUseCase(taskArchive, taskRepository, taskEvents, age, chunkSize), meterRegistry);
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.jtech.tasklist.config.usecases;
+
+import br.com.jtech.tasklist.adapters.input.protocols.TaskEventResponse;
+import br.com.jtech.tasklist.adapters.output.events.TaskEventHub;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+@Configuration
+public class TaskEventConfig {
+    /**
+     * Publisher for the create/update/delete use cases and source of GET /tasks/events. The ring
+     * holds the last tasklist.events.ring-size events for Last-Event-ID resume.
+     */
+    @Bean
+    public TaskEventHub taskEventHub(ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${tasklist.events.ring-size:10000}") int ringSize,
+                                     @Value("${tasklist.events.heartbeat:PT15S}") Duration heartbeat) {
+        return new TaskEventHub(event -> {
+            try {
+                return objectMapper.writeValueAsString(TaskEventResponse.of(event));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, ringSize, heartbeat, meterRegistry);
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.jtech.tasklist.config.usecases;
+
+import br.com.jtech.tasklist.adapters.output.repositories.PostgresTaskSearchAdapter;
+import br.com.jtech.tasklist.adapters.output.repositories.TaskRepositoryAdapter;
+import br.com.jtech.tasklist.adapters.output.repositories.TaskSpringDataRepository;
+import br.com.jtech.tasklist.adapters.output.search.InMemoryTaskSearchAdapter;
+import br.com.jtech.tasklist.adapters.output.search.InvertedTaskSearchIndex;
+import br.com.jtech.tasklist.adapters.output.search.TaskSearchIndex;
+import br.com.jtech.tasklist.application.core.usecases.SearchTasksUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskSearchPort;
+import br.com.jtech.tasklist.config.infra.metrics.MeteredProxies;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Search engine selected by tasklist.search.engine: {@code postgres} uses the tsvector column and
+ * GIN index from the PostgreSQL migrations, {@code memory} (default) an in-process inverted index.
+ */
+@Slf4j
+@Configuration
+public class TaskSearchConfig {
+    /**
+     * Built from the table before the web server accepts requests; from then on the repository
+     * decorator in {@link TaskUseCaseConfig} keeps it current.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "tasklist.search", name = "engine", havingValue = "memory", matchIfMissing = true)
+    public TaskSearchIndex taskSearchIndex(TaskRepositoryAdapter taskRepositoryAdapter) {
+        long start = System.nanoTime();
+        TaskSearchIndex index = new InvertedTaskSearchIndex();
+        taskRepositoryAdapter.forEach(null, index::put);
+        log.info("Search index built up to task id {} in {} ms", index.maxId(), (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tasklist.search", name = "engine", havingValue = "memory", matchIfMissing = true)
+    public TaskSearchPort inMemoryTaskSearch(TaskSearchIndex taskSearchIndex,
+                                             TaskSpringDataRepository taskSpringDataRepository) {
+        return new InMemoryTaskSearchAdapter(taskSearchIndex, taskSpringDataRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tasklist.search", name = "engine", havingValue = "postgres")
+    public TaskSearchPort postgresTaskSearch(NamedParameterJdbcTemplate jdbcTemplate) {
+        return new PostgresTaskSearchAdapter(jdbcTemplate);
+    }
+
+    @Bean
+    public SearchTasksUseCase searchTasksUseCase(TaskSearchPort taskSearch, MeterRegistry meterRegistry) {
+        return MeteredProxies.useCase(new SearchTasksUseCase(taskSearch), meterRegistry);
+    }
+}
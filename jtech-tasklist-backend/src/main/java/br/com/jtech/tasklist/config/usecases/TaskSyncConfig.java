@@ -0,0 +1,42 @@
+package br.com.jtech.tasklist.config.usecases;
+
+import br.com.jtech.tasklist.adapters.output.repositories.TaskChangeFeedAdapter;
+import br.com.jtech.tasklist.application.core.usecases.CompactTaskTombstonesUseCase;
+import br.com.jtech.tasklist.application.core.usecases.SyncTasksUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskChangeFeedPort;
+import br.com.jtech.tasklist.config.infra.metrics.MeteredProxies;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
+
+/**
+ * Delta sync (GET /tasks/changes) and the scheduled tombstone compaction behind it.
+ */
+@Configuration
+@EnableScheduling
+public class TaskSyncConfig {
+    @Bean
+    public TaskChangeFeedPort taskChangeFeed(NamedParameterJdbcTemplate jdbcTemplate) {
+        return new TaskChangeFeedAdapter(jdbcTemplate);
+    }
+
+    @Bean
+    public SyncTasksUseCase syncTasksUseCase(TaskChangeFeedPort taskChangeFeed,
+                                             @Value("${tasklist.changes.settle:PT5S}") Duration settle,
+                                             @Value("${tasklist.changes.tombstone-retention:P30D}") Duration retention,
+                                             MeterRegistry meterRegistry) {
+        return MeteredProxies.useCase(new SyncTasksUseCase(taskChangeFeed, settle, retention), meterRegistry);
+    }
+
+    @Bean
+    public CompactTaskTombstonesUseCase compactTaskTombstonesUseCase(
+            TaskChangeFeedPort taskChangeFeed,
+            @Value("${tasklist.changes.tombstone-retention:P30D}") Duration retention) {
+        return new CompactTaskTombstonesUseCase(taskChangeFeed, retention);
+    }
+}
@@ -1,38 +1,154 @@
 package br.com.jtech.tasklist.config.usecases;
 
+import br.com.jtech.tasklist.adapters.output.cache.CachingTaskRepositoryAdapter;
+import br.com.jtech.tasklist.adapters.output.repositories.GroupCommitTaskRepositoryAdapter;
+import br.com.jtech.tasklist.adapters.output.repositories.TaskRepositoryAdapter;
+import br.com.jtech.tasklist.adapters.output.search.SearchIndexingTaskRepositoryAdapter;
+import br.com.jtech.tasklist.adapters.output.search.TaskSearchIndex;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.usecases.CountTasksUseCase;
 import br.com.jtech.tasklist.application.core.usecases.CreateTaskUseCase;
 import br.com.jtech.tasklist.application.core.usecases.DeleteTaskUseCase;
 import br.com.jtech.tasklist.application.core.usecases.GetTaskByIdUseCase;
+import br.com.jtech.tasklist.application.core.usecases.ImportTasksUseCase;
 import br.com.jtech.tasklist.application.core.usecases.ListTasksUseCase;
+import br.com.jtech.tasklist.application.core.usecases.UpdateTaskStatusUseCase;
 import br.com.jtech.tasklist.application.core.usecases.UpdateTaskUseCase;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import br.com.jtech.tasklist.config.infra.datasource.ReadRoute;
+import br.com.jtech.tasklist.config.infra.metrics.MeteredProxies;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.Set;
 
 @Configuration
 public class TaskUseCaseConfig {
+    // Port methods whose first TaskStatus parameter filters the tasks (status tag of tasklist.repository)
+    private static final Set<String> REPOSITORY_STATUS_FILTERS =
+            Set.of("findAll", "findSlice", "findAfter", "forEach", "updateStatusByStatus");
+
+    /**
+     * The port every use case sees: the JPA adapter (behind group commit when enabled), wrapped so the
+     * in-memory search index (when tasklist.search.engine=memory) observes every write, then by the
+     * findById cache (when enabled), and timed outermost so tasklist.repository reflects what the use cases wait for, cache hits included.
+     */
+    @Bean
+    @Primary
+    public TaskRepositoryPort taskRepository(TaskRepositoryAdapter taskRepositoryAdapter,
+                                             ObjectProvider<GroupCommitTaskRepositoryAdapter> groupCommit,
+                                             ObjectProvider<TaskSearchIndex> taskSearchIndex,
+                                             ObjectProvider<Cache<Long, Task>> taskCache,
+                                             MeterRegistry meterRegistry) {
+        TaskRepositoryPort repository = groupCommit.getIfAvailable(() -> taskRepositoryAdapter);
+        TaskSearchIndex searchIndex = taskSearchIndex.getIfAvailable();
+        if (searchIndex != null) {
+            repository = new SearchIndexingTaskRepositoryAdapter(repository, searchIndex);
+        }
+        Cache<Long, Task> cache = taskCache.getIfAvailable();
+        if (cache != null) {
+            // Replica reads may be stale; they are served but never cached
+            repository = new CachingTaskRepositoryAdapter(repository, cache, ReadRoute::onReplica);
+        }
+        return MeteredProxies.repository(repository, meterRegistry, REPOSITORY_STATUS_FILTERS);
+    }
+
+    /**
+     * Coalesces concurrent single-task creates into one multi-row insert and commit per batch
+     * (tasklist.group-commit); off by default, so each POST /tasks commits on its own.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "tasklist.group-commit", name = "enabled", havingValue = "true")
+    public GroupCommitTaskRepositoryAdapter groupCommitTaskRepository(TaskRepositoryAdapter taskRepositoryAdapter,
+                                                                      @Value("${tasklist.group-commit.max-batch:50}") int maxBatch,
+                                                                      @Value("${tasklist.group-commit.max-delay:PT0.0005S}") Duration maxDelay,
+                                                                      MeterRegistry meterRegistry) {
+        return new GroupCommitTaskRepositoryAdapter(taskRepositoryAdapter, maxBatch, maxDelay, meterRegistry);
+    }
+
+    /**
+     * Caches findById in front of the JPA adapter; turn off with tasklist.cache.enabled=false.
+     * Hit/miss/eviction counters are published as cache.* meters tagged cache=tasks.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "tasklist.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public Cache<Long, Task> taskCache(MeterRegistry meterRegistry,
+                                       @Value("${tasklist.cache.maximum-size:10000}") long maximumSize,
+                                       @Value("${tasklist.cache.ttl:PT5M}") Duration ttl) {
+        Cache<Long, Task> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tasks");
+        return cache;
+    }
+
+    @Bean
+    public CreateTaskUseCase createTaskUseCase(TaskRepositoryPort taskRepository,
+                                               TaskEventPublisherPort taskEvents,
+                                               MeterRegistry meterRegistry) {
+        return MeteredProxies.useCase(new CreateTaskUseCase(taskRepository, taskEvents), meterRegistry);
+    }
+
+    @Bean
+    public ListTasksUseCase listTasksUseCase(TaskRepositoryPort taskRepository,
+                                             TaskArchivePort taskArchive,
+                                             MeterRegistry meterRegistry) {
+        return MeteredProxies.useCase(new ListTasksUseCase(taskRepository, taskArchive), meterRegistry,
+                Set.of("execute", "executeIncludingArchived", "executeSlice", "forEach"));
+    }
+
+    @Bean
+    public GetTaskByIdUseCase getTaskByIdUseCase(TaskRepositoryPort taskRepository,
+                                                 TaskArchivePort taskArchive,
+                                                 MeterRegistry meterRegistry) {
+        return MeteredProxies.useCase(new GetTaskByIdUseCase(taskRepository, taskArchive), meterRegistry);
+    }
+
     @Bean
-    public CreateTaskUseCase createTaskUseCase(TaskRepositoryPort taskRepository) {
-        return new CreateTaskUseCase(taskRepository);
+    public UpdateTaskUseCase updateTaskUseCase(TaskRepositoryPort taskRepository,
+                                               TaskEventPublisherPort taskEvents,
+                                               MeterRegistry meterRegistry) {
+        return MeteredProxies.useCase(new UpdateTaskUseCase(taskRepository, taskEvents), meterRegistry);
     }
 
     @Bean
-    public ListTasksUseCase listTasksUseCase(TaskRepositoryPort taskRepository) {
-        return new ListTasksUseCase(taskRepository);
+    public DeleteTaskUseCase deleteTaskUseCase(TaskRepositoryPort taskRepository,
+                                               TaskEventPublisherPort taskEvents,
+                                               MeterRegistry meterRegistry) {
+        return MeteredProxies.useCase(new DeleteTaskUseCase(taskRepository, taskEvents), meterRegistry);
     }
 
     @Bean
-    public GetTaskByIdUseCase getTaskByIdUseCase(TaskRepositoryPort taskRepository) {
-        return new GetTaskByIdUseCase(taskRepository);
+    public CountTasksUseCase countTasksUseCase(TaskRepositoryPort taskRepository, MeterRegistry meterRegistry) {
+        return MeteredProxies.useCase(new CountTasksUseCase(taskRepository), meterRegistry, Set.of("execute"));
     }
 
     @Bean
-    public UpdateTaskUseCase updateTaskUseCase(TaskRepositoryPort taskRepository) {
-        return new UpdateTaskUseCase(taskRepository);
+    public ImportTasksUseCase importTasksUseCase(TaskRepositoryPort taskRepository,
+                                                 TaskEventPublisherPort taskEvents,
+                                                 @Value("${tasklist.import.chunk-size:5000}") int chunkSize,
+                                                 MeterRegistry meterRegistry) {
+        return MeteredProxies.useCase(new ImportTasksUseCase(taskRepository, taskEvents, chunkSize), meterRegistry);
     }
 
     @Bean
-    public DeleteTaskUseCase deleteTaskUseCase(TaskRepositoryPort taskRepository) {
-        return new DeleteTaskUseCase(taskRepository);
+    public UpdateTaskStatusUseCase updateTaskStatusUseCase(TaskRepositoryPort taskRepository,
+                                                           TaskEventPublisherPort taskEvents,
+                                                           MeterRegistry meterRegistry) {
+        return MeteredProxies.useCase(new UpdateTaskStatusUseCase(taskRepository, taskEvents), meterRegistry,
+                Set.of("executeByStatus"));
     }
 }
@@ -0,0 +1,2 @@
+-- Optimistic locking counter, bumped by every UPDATE of a task
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
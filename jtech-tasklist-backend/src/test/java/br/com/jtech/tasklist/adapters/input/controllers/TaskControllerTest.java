@@ -1,15 +1,35 @@
 package br.com.jtech.tasklist.adapters.input.controllers;
 
 import br.com.jtech.tasklist.adapters.input.protocols.CreateTaskRequest;
+import br.com.jtech.tasklist.adapters.input.protocols.TaskCursorCodec;
 import br.com.jtech.tasklist.adapters.input.protocols.TaskResponse;
 import br.com.jtech.tasklist.adapters.input.protocols.UpdateTaskRequest;
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskChangeMarker;
+import br.com.jtech.tasklist.application.core.domains.TaskChangeSet;
+import br.com.jtech.tasklist.application.core.domains.TaskCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskCursorPage;
+import br.com.jtech.tasklist.application.core.domains.TaskImportError;
+import br.com.jtech.tasklist.application.core.domains.TaskImportRecord;
+import br.com.jtech.tasklist.application.core.domains.TaskImportReport;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchPage;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskStatusUpdate;
+import br.com.jtech.tasklist.application.core.domains.TaskSyncToken;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import br.com.jtech.tasklist.application.core.usecases.CountTasksUseCase;
 import br.com.jtech.tasklist.application.core.usecases.CreateTaskUseCase;
 import br.com.jtech.tasklist.application.core.usecases.DeleteTaskUseCase;
 import br.com.jtech.tasklist.application.core.usecases.GetTaskByIdUseCase;
+import br.com.jtech.tasklist.application.core.usecases.ImportTasksUseCase;
 import br.com.jtech.tasklist.application.core.usecases.ListTasksUseCase;
+import br.com.jtech.tasklist.application.core.usecases.SearchTasksUseCase;
+import br.com.jtech.tasklist.application.core.usecases.SyncTasksUseCase;
 import br.com.jtech.tasklist.application.core.usecases.TaskNotFoundException;
+import br.com.jtech.tasklist.application.core.usecases.TaskSyncExpiredException;
+import br.com.jtech.tasklist.application.core.usecases.TaskVersionConflictException;
+import br.com.jtech.tasklist.application.core.usecases.UpdateTaskStatusUseCase;
 import br.com.jtech.tasklist.application.core.usecases.UpdateTaskUseCase;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,21 +41,45 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
-
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.emptyString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TaskController.class)
@@ -61,13 +105,29 @@ class TaskControllerTest {
     @MockBean
     private DeleteTaskUseCase deleteTaskUseCase;
 
+    @MockBean
+    private CountTasksUseCase countTasksUseCase;
+
+    @MockBean
+    private UpdateTaskStatusUseCase updateTaskStatusUseCase;
+
+    @MockBean
+    private ImportTasksUseCase importTasksUseCase;
+
+    @MockBean
+    private SearchTasksUseCase searchTasksUseCase;
+
+    @MockBean
+    private SyncTasksUseCase syncTasksUseCase;
+
     private Task task;
     private CreateTaskRequest createTaskRequest;
 
     @BeforeEach
     void setUp() {
-        task = new Task(1L, "Test Task", "Test Description", TaskStatus.PENDING, Instant.now(), Instant.now());
+        task = new Task(1L, "Test Task", "Test Description", TaskStatus.PENDING, Instant.now(), Instant.now(), 0L);
         createTaskRequest = new CreateTaskRequest("Test Task", "Test Description", TaskStatus.PENDING);
+        when(listTasksUseCase.changeMarker()).thenReturn(new TaskChangeMarker(5));
     }
 
     @Test
@@ -92,6 +152,44 @@ class TaskControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void testCreateTasksBatchReturnsResultsInRequestOrder() throws Exception {
+        Task second = new Task(2L, "Second Task", null, TaskStatus.DONE, Instant.now(), Instant.now());
+        when(createTaskUseCase.executeBatch(anyList())).thenReturn(List.of(task, second));
+
+        mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(
+                        createTaskRequest,
+                        new CreateTaskRequest("Second Task", null, TaskStatus.DONE)))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].id").value(2))
+                .andExpect(jsonPath("$[1].status").value("concluída"));
+    }
+
+    @Test
+    void testCreateTasksBatchReportsInvalidItemByIndex() throws Exception {
+        mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(
+                        createTaskRequest,
+                        new CreateTaskRequest("", null, null)))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("[1].title"));
+
+        verify(createTaskUseCase, never()).executeBatch(anyList());
+    }
+
+    @Test
+    void testCreateTasksBatchRejectsEmptyArray() throws Exception {
+        mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetTaskByIdSuccess() throws Exception {
         when(getTaskByIdUseCase.execute(1L)).thenReturn(task);
@@ -113,7 +211,7 @@ class TaskControllerTest {
     @Test
     void testListTasksSuccess() throws Exception {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Task> page = new PageImpl<>(Arrays.asList(task));
+        Page<TaskView> page = new PageImpl<>(List.of(TaskView.of(task)));
         when(listTasksUseCase.execute(any(Pageable.class), eq(null))).thenReturn(page);
 
         mockMvc.perform(get("/tasks?page=0&size=10"))
@@ -123,9 +221,9 @@ class TaskControllerTest {
 
     @Test
     void testUpdateTaskSuccess() throws Exception {
-        UpdateTaskRequest updateRequest = new UpdateTaskRequest("Updated Task", "Updated Description", TaskStatus.DONE);
+        UpdateTaskRequest updateRequest = new UpdateTaskRequest(Optional.of("Updated Task"), Optional.of("Updated Description"), Optional.of(TaskStatus.DONE), Optional.empty());
         Task updatedTask = new Task(1L, "Updated Task", "Updated Description", TaskStatus.DONE, Instant.now(), Instant.now());
-        when(updateTaskUseCase.execute(eq(1L), any(), any(), any())).thenReturn(updatedTask);
+        when(updateTaskUseCase.execute(eq(1L), any(), any(), any(), any())).thenReturn(updatedTask);
 
         mockMvc.perform(put("/tasks/1")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -137,8 +235,8 @@ class TaskControllerTest {
 
     @Test
     void testUpdateTaskNotFound() throws Exception {
-        UpdateTaskRequest updateRequest = new UpdateTaskRequest("Updated Task", "Updated Description", TaskStatus.DONE);
-        when(updateTaskUseCase.execute(eq(999L), any(), any(), any()))
+        UpdateTaskRequest updateRequest = new UpdateTaskRequest(Optional.of("Updated Task"), Optional.of("Updated Description"), Optional.of(TaskStatus.DONE), Optional.empty());
+        when(updateTaskUseCase.execute(eq(999L), any(), any(), any(), any()))
                 .thenThrow(new TaskNotFoundException("Task not found"));
 
         mockMvc.perform(put("/tasks/999")
@@ -175,7 +273,7 @@ class TaskControllerTest {
     @Test
     void testUpdateTaskTitleExceedsMaxLength() throws Exception {
         String longTitle = "a".repeat(121); // 121 characters
-        UpdateTaskRequest updateRequest = new UpdateTaskRequest(longTitle, "Description", TaskStatus.PENDING);
+        UpdateTaskRequest updateRequest = new UpdateTaskRequest(Optional.of(longTitle), Optional.of("Description"), Optional.of(TaskStatus.PENDING), Optional.empty());
 
         mockMvc.perform(put("/tasks/1")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -188,7 +286,7 @@ class TaskControllerTest {
     void testListTasksWithStatusFilter() throws Exception {
         Task doneTask = new Task(2L, "Done Task", "Done Description", TaskStatus.DONE, Instant.now(), Instant.now());
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Task> page = new PageImpl<>(Arrays.asList(doneTask));
+        Page<TaskView> page = new PageImpl<>(List.of(TaskView.of(doneTask)));
         
         when(listTasksUseCase.execute(any(Pageable.class), eq(TaskStatus.DONE))).thenReturn(page);
 
@@ -197,4 +295,438 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.content[0].id").value(2))
                 .andExpect(jsonPath("$.content[0].status").value("concluída"));
     }
+
+    @Test
+    void testListTasksIncludingArchived() throws Exception {
+        Task archived = new Task(3L, "Archived Task", null, TaskStatus.DONE, Instant.now(), Instant.now());
+        Page<TaskView> page = new PageImpl<>(List.of(TaskView.of(archived)));
+
+        when(listTasksUseCase.executeIncludingArchived(any(Pageable.class), eq(null))).thenReturn(page);
+
+        mockMvc.perform(get("/tasks?includeArchived=true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(3));
+
+        verify(listTasksUseCase, never()).execute(any(Pageable.class), any());
+    }
+
+    @Test
+    void testListTasksByCursorReturnsNextCursor() throws Exception {
+        TaskCursor next = TaskCursor.of(task);
+        when(listTasksUseCase.execute(eq(null), eq(1), eq(null)))
+                .thenReturn(new TaskCursorPage(List.of(task), next));
+
+        mockMvc.perform(get("/tasks?limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(TaskCursorCodec.encode(next)));
+    }
+
+    @Test
+    void testListTasksByCursorDecodesAfterToken() throws Exception {
+        TaskCursor after = TaskCursor.of(task);
+        when(listTasksUseCase.execute(eq(after), eq(10), eq(TaskStatus.PENDING)))
+                .thenReturn(new TaskCursorPage(List.of(), null));
+
+        mockMvc.perform(get("/tasks")
+                        .param("after", TaskCursorCodec.encode(after))
+                        .param("limit", "10")
+                        .param("status", "pendente"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void testListTasksByCursorInvalidTokenReturns400() throws Exception {
+        mockMvc.perform(get("/tasks?limit=10&after=not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").exists());
+    }
+
+    @Test
+    void testSearchTasksReturnsRankedWindowWithSearchCursor() throws Exception {
+        TaskSearchCursor next = new TaskSearchCursor(1.4f, 1L);
+        when(searchTasksUseCase.execute(eq("relatório mensal"), isNull(), eq(1)))
+                .thenReturn(new TaskSearchPage(List.of(TaskView.of(task)), next));
+
+        String nextCursor = TaskCursorCodec.encode(next);
+        mockMvc.perform(get("/tasks/search").param("q", "relatório mensal").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor));
+
+        assertThat(TaskCursorCodec.decodeSearch(nextCursor)).isEqualTo(next);
+    }
+
+    @Test
+    void testSearchTasksRejectsKeysetCursorAndBlankQuery() throws Exception {
+        mockMvc.perform(get("/tasks/search").param("q", "report")
+                        .param("after", TaskCursorCodec.encode(TaskCursor.of(task))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").exists());
+
+        when(searchTasksUseCase.execute(eq(" "), isNull(), eq(20)))
+                .thenThrow(new IllegalArgumentException("Search query must not be blank"));
+        mockMvc.perform(get("/tasks/search").param("q", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Search query must not be blank"));
+    }
+
+    @Test
+    void testListChangesReturnsChangedAndDeletedWithNextToken() throws Exception {
+        TaskSyncToken since = new TaskSyncToken(10L, Instant.parse("2025-01-01T00:00:00Z"));
+        TaskSyncToken next = new TaskSyncToken(12L, Instant.parse("2025-01-01T00:05:00Z"));
+        when(syncTasksUseCase.execute(eq(since), eq(500)))
+                .thenReturn(new TaskChangeSet(List.of(TaskView.of(task)), List.of(7L), next, false));
+
+        mockMvc.perform(get("/tasks/changes").param("since", TaskCursorCodec.encode(since)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].id").value(1))
+                .andExpect(jsonPath("$.deleted[0]").value(7))
+                .andExpect(jsonPath("$.token").value(TaskCursorCodec.encode(next)))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void testListChangesWithExpiredTokenIsGone() throws Exception {
+        when(syncTasksUseCase.execute(any(TaskSyncToken.class), eq(500)))
+                .thenThrow(new TaskSyncExpiredException("Sync token is older than the 30-day tombstone retention; reload the full list"));
+
+        mockMvc.perform(get("/tasks/changes")
+                        .param("since", TaskCursorCodec.encode(new TaskSyncToken(1L, Instant.EPOCH))))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.title").value("Sync token expired"));
+
+        mockMvc.perform(get("/tasks/changes").param("since", "%%%"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testListTasksSliceSkipsTotalUnlessRequested() throws Exception {
+        when(listTasksUseCase.executeSlice(any(Pageable.class), eq(null)))
+                .thenReturn(new SliceImpl<>(List.of(TaskView.of(task)), PageRequest.of(0, 1), true));
+
+        mockMvc.perform(get("/tasks?slice=true&page=0&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(countTasksUseCase, never()).execute(any());
+    }
+
+    @Test
+    void testListTasksSliceWithTotal() throws Exception {
+        when(listTasksUseCase.executeSlice(any(Pageable.class), eq(TaskStatus.DONE)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+        when(countTasksUseCase.execute(TaskStatus.DONE)).thenReturn(42L);
+
+        mockMvc.perform(get("/tasks?slice=true&withTotal=true&status=concluída"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").value(42));
+    }
+
+    @Test
+    void testListTasksAppliesIndexBackedSortWithIdTiebreaker() throws Exception {
+        Sort expected = Sort.by(Sort.Order.desc("updatedAt"), Sort.Order.desc("id"));
+        when(listTasksUseCase.execute(argThat((Pageable p) -> p != null && p.getSort().equals(expected)), eq(TaskStatus.DONE)))
+                .thenReturn(new PageImpl<>(List.of(TaskView.of(task))));
+
+        mockMvc.perform(get("/tasks?status=concluída&sort=updatedAt,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1));
+    }
+
+    @Test
+    void testListTasksUnsupportedSortReturnsProblemDetails() throws Exception {
+        mockMvc.perform(get("/tasks?sort=title,asc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.detail").value(containsString("Unsupported sort")));
+
+        verify(listTasksUseCase, never()).execute(any(Pageable.class), any());
+    }
+
+    @Test
+    void testUpdateTasksStatusByIds() throws Exception {
+        when(updateTaskStatusUseCase.execute(List.of(1L, 2L, 9L), TaskStatus.DONE))
+                .thenReturn(new TaskStatusUpdate(TaskStatus.DONE, 2, List.of(1L, 2L), List.of(9L)));
+
+        mockMvc.perform(patch("/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [1, 2, 9], \"status\": \"concluída\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("concluída"))
+                .andExpect(jsonPath("$.updatedCount").value(2))
+                .andExpect(jsonPath("$.updatedIds[1]").value(2))
+                .andExpect(jsonPath("$.missingIds[0]").value(9));
+    }
+
+    @Test
+    void testUpdateTasksStatusByFilter() throws Exception {
+        when(updateTaskStatusUseCase.executeByStatus(TaskStatus.PENDING, TaskStatus.DONE))
+                .thenReturn(new TaskStatusUpdate(TaskStatus.DONE, 3, List.of(), List.of()));
+
+        mockMvc.perform(patch("/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"fromStatus\": \"pendente\", \"status\": \"concluída\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(3))
+                .andExpect(jsonPath("$.updatedIds").isEmpty());
+    }
+
+    @Test
+    void testUpdateTasksStatusRequiresExactlyOneSelector() throws Exception {
+        mockMvc.perform(patch("/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [1], \"fromStatus\": \"pendente\", \"status\": \"concluída\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [1]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(updateTaskStatusUseCase, never()).execute(any(), any());
+    }
+
+    @Test
+    void testGetTaskByIdReturnsETagAndAnswers304WhenUnchanged() throws Exception {
+        when(getTaskByIdUseCase.execute(1L)).thenReturn(task);
+
+        String etag = mockMvc.perform(get("/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/tasks/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(emptyString()));
+
+        task.setVersion(1L);
+        mockMvc.perform(get("/tasks/1").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testListTasksAnswers304WithoutQueryingWhenMarkerUnchanged() throws Exception {
+        Page<TaskView> page = new PageImpl<>(List.of(TaskView.of(task)), PageRequest.of(0, 10), 1);
+        when(listTasksUseCase.execute(any(Pageable.class), eq(null))).thenReturn(page);
+
+        String etag = mockMvc.perform(get("/tasks?page=0&size=10"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/tasks?page=0&size=10").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        verify(listTasksUseCase, times(1)).execute(any(Pageable.class), eq(null));
+
+        // Another page of the same table is a different representation
+        mockMvc.perform(get("/tasks?page=1&size=10").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+
+        when(listTasksUseCase.changeMarker()).thenReturn(new TaskChangeMarker(6));
+        mockMvc.perform(get("/tasks?page=0&size=10").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testUpdateTaskPassesIfMatchVersionAndReturnsNewETag() throws Exception {
+        Task updatedTask = new Task(1L, "Updated Task", "Test Description", TaskStatus.PENDING, Instant.now(), Instant.now(), 4L);
+        when(updateTaskUseCase.execute(eq(1L), eq("Updated Task"), any(), any(), eq(3L))).thenReturn(updatedTask);
+
+        mockMvc.perform(put("/tasks/1")
+                .header("If-Match", "\"1-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Updated Task\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-4\""))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    void testUpdateTaskStaleIfMatchReturns412AndStaleBodyVersionReturns409() throws Exception {
+        when(updateTaskUseCase.execute(eq(1L), any(), any(), any(), eq(3L)))
+                .thenThrow(new TaskVersionConflictException(1L, 3L, 5L));
+
+        mockMvc.perform(put("/tasks/1")
+                .header("If-Match", "\"1-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Late edit\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412))
+                .andExpect(jsonPath("$.detail").value(containsString("version 5")));
+
+        mockMvc.perform(put("/tasks/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Late edit\", \"version\": 3}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+    }
+
+    @Test
+    void testUpdateTaskRejectsDisagreeingIfMatchAndBodyVersion() throws Exception {
+        mockMvc.perform(put("/tasks/1")
+                .header("If-Match", "\"1-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Edit\", \"version\": 2}"))
+                .andExpect(status().isBadRequest());
+
+        verify(updateTaskUseCase, never()).execute(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testExportTasksStreamsNdjsonLines() throws Exception {
+        Task second = new Task(2L, "Second", null, TaskStatus.DONE,
+                Instant.parse("2025-01-02T10:00:00Z"), Instant.parse("2025-01-02T11:00:00Z"), 3L);
+        streamTasks(task, second);
+
+        MvcResult started = mockMvc.perform(get("/tasks/export").param("status", "concluída"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", containsString("tasks.ndjson")))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("Test Task");
+        assertThat(lines[1]).isEqualTo("{\"id\":2,\"title\":\"Second\",\"description\":null,\"status\":\"concluída\","
+                + "\"createdAt\":\"2025-01-02T10:00:00Z\",\"updatedAt\":\"2025-01-02T11:00:00Z\",\"version\":3}");
+        verify(listTasksUseCase).forEach(eq(TaskStatus.DONE), any());
+    }
+
+    @Test
+    void testExportTasksWritesEscapedCsv() throws Exception {
+        Task tricky = new Task(7L, "Comma, \"quoted\"", "line one\nline two", TaskStatus.PENDING,
+                Instant.parse("2025-01-02T10:00:00Z"), Instant.parse("2025-01-02T10:00:00Z"), 0L);
+        streamTasks(tricky);
+
+        MvcResult started = mockMvc.perform(get("/tasks/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string("id,title,description,status,createdAt,updatedAt,version\r\n"
+                        + "7,\"Comma, \"\"quoted\"\"\",\"line one\nline two\",pendente,"
+                        + "2025-01-02T10:00:00Z,2025-01-02T10:00:00Z,0\r\n"));
+        verify(listTasksUseCase).forEach(isNull(), any());
+    }
+
+    @Test
+    void testExportTasksRejectsUnknownFormat() throws Exception {
+        mockMvc.perform(get("/tasks/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verify(listTasksUseCase, never()).forEach(any(), any());
+    }
+
+    @Test
+    void testImportNdjsonValidatesEachLine() throws Exception {
+        List<TaskImportRecord> records = drainImport(new TaskImportReport(1, 3,
+                List.of(new TaskImportError(3, "title", "Title is required")), false));
+        String body = String.join("\n",
+                "{\"title\": \"Imported\", \"status\": \"concluída\", \"id\": 99}",
+                "",
+                "{\"title\": \"\"}",
+                "{\"title\": \"Bad status\", \"status\": \"bogus\"}",
+                "not json") + "\n";
+
+        mockMvc.perform(post("/tasks/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].field").value("title"))
+                .andExpect(jsonPath("$.errorsTruncated").value(false));
+
+        assertThat(records).extracting(TaskImportRecord::line).containsExactly(1L, 3L, 4L, 5L);
+        assertThat(records.get(0).isValid()).isTrue();
+        assertThat(records.get(0).task().getTitle()).isEqualTo("Imported");
+        assertThat(records.get(0).task().getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(records.get(1).errors()).extracting(TaskImportError::field).containsExactly("title");
+        assertThat(records.get(2).errors().get(0).field()).isEqualTo("status");
+        assertThat(records.get(2).errors().get(0).message()).contains("bogus");
+        assertThat(records.get(3).errors().get(0).field()).isNull();
+    }
+
+    @Test
+    void testImportCsvReadsQuotedFieldsAcrossLines() throws Exception {
+        List<TaskImportRecord> records = drainImport(new TaskImportReport(1, 2, List.of(), false));
+        String body = "id,title,description,status\r\n"
+                + "1,\"Multi, \"\"quoted\"\"\",\"first\nsecond\",pendente\r\n"
+                + "2,,no title,\r\n"
+                + "3,Too few columns\r\n";
+
+        mockMvc.perform(post("/tasks/import")
+                .contentType("text/csv")
+                .content(body))
+                .andExpect(status().isOk());
+
+        assertThat(records).extracting(TaskImportRecord::line).containsExactly(2L, 4L, 5L);
+        assertThat(records.get(0).task().getTitle()).isEqualTo("Multi, \"quoted\"");
+        assertThat(records.get(0).task().getDescription()).isEqualTo("first\nsecond");
+        assertThat(records.get(0).task().getStatus()).isEqualTo(TaskStatus.PENDING);
+        assertThat(records.get(1).errors()).extracting(TaskImportError::field).containsExactly("title");
+        assertThat(records.get(2).errors().get(0).message()).isEqualTo("Expected 4 columns, found 2");
+    }
+
+    @Test
+    void testImportCsvWithoutTitleColumnReturns400() throws Exception {
+        drainImport(new TaskImportReport(0, 0, List.of(), false));
+
+        mockMvc.perform(post("/tasks/import")
+                .contentType("text/csv")
+                .content("name,status\nSomething,pendente\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testImportRejectsUnsupportedContentType() throws Exception {
+        mockMvc.perform(post("/tasks/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verify(importTasksUseCase, never()).execute(any());
+    }
+
+    /**
+     * Makes the mocked use case consume the parsed records like the real one and return {@code report}.
+     */
+    private List<TaskImportRecord> drainImport(TaskImportReport report) {
+        List<TaskImportRecord> records = new ArrayList<>();
+        when(importTasksUseCase.execute(any())).thenAnswer(invocation -> {
+            Iterator<TaskImportRecord> iterator = invocation.getArgument(0);
+            iterator.forEachRemaining(records::add);
+            return report;
+        });
+        return records;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamTasks(Task... tasks) {
+        doAnswer(invocation -> {
+            Consumer<Task> sink = invocation.getArgument(1);
+            Arrays.stream(tasks).forEach(sink);
+            return null;
+        }).when(listTasksUseCase).forEach(any(), any(Consumer.class));
+    }
 }
@@ -0,0 +1,208 @@
+package br.com.jtech.tasklist.adapters.output.cache;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskPatch;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingTaskRepositoryAdapterTest {
+    @Mock
+    private TaskRepositoryPort delegate;
+
+    private Cache<Long, Task> cache;
+
+    private CachingTaskRepositoryAdapter cachingTaskRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cache = Caffeine.newBuilder().maximumSize(100).recordStats().build();
+        cachingTaskRepository = new CachingTaskRepositoryAdapter(delegate, cache);
+    }
+
+    @Test
+    void testFindByIdReadsThroughOnce() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(task(1L, "Cached")));
+
+        Optional<Task> first = cachingTaskRepository.findById(1L);
+        Optional<Task> second = cachingTaskRepository.findById(1L);
+
+        assertThat(first).map(Task::getTitle).contains("Cached");
+        assertThat(second).map(Task::getTitle).contains("Cached");
+        verify(delegate, times(1)).findById(1L);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFindByIdDoesNotCacheMisses() {
+        when(delegate.findById(2L)).thenReturn(Optional.empty());
+
+        assertThat(cachingTaskRepository.findById(2L)).isEmpty();
+        assertThat(cachingTaskRepository.findById(2L)).isEmpty();
+
+        verify(delegate, times(2)).findById(2L);
+    }
+
+    @Test
+    void testReplicaLoadsAreServedButNotCached() {
+        AtomicBoolean onReplica = new AtomicBoolean(true);
+        CachingTaskRepositoryAdapter replicaAware = new CachingTaskRepositoryAdapter(delegate, cache, onReplica::get);
+        when(delegate.findById(1L)).thenReturn(Optional.of(task(1L, "Stale")), Optional.of(task(1L, "Fresh")));
+
+        assertThat(replicaAware.findById(1L)).map(Task::getTitle).contains("Stale");
+        assertThat(cache.getIfPresent(1L)).isNull();
+
+        onReplica.set(false);
+        assertThat(replicaAware.findById(1L)).map(Task::getTitle).contains("Fresh");
+        assertThat(cache.getIfPresent(1L)).extracting(Task::getTitle).isEqualTo("Fresh");
+    }
+
+    @Test
+    void testSaveRefreshesCachedEntry() {
+        when(delegate.findById(3L)).thenReturn(Optional.of(task(3L, "Before")));
+        when(delegate.save(any(Task.class))).thenReturn(task(3L, "After"));
+        cachingTaskRepository.findById(3L);
+
+        cachingTaskRepository.save(task(3L, "After"));
+
+        assertThat(cachingTaskRepository.findById(3L)).map(Task::getTitle).contains("After");
+        verify(delegate, times(1)).findById(3L);
+    }
+
+    @Test
+    void testSaveAllPopulatesCache() {
+        when(delegate.saveAll(anyList())).thenReturn(List.of(task(6L, "Batch 1"), task(7L, "Batch 2")));
+
+        cachingTaskRepository.saveAll(List.of(task(null, "Batch 1"), task(null, "Batch 2")));
+
+        assertThat(cachingTaskRepository.findById(7L)).map(Task::getTitle).contains("Batch 2");
+        verify(delegate, never()).findById(7L);
+    }
+
+    @Test
+    void testDeleteByIdInvalidatesCachedEntry() {
+        when(delegate.findById(4L)).thenReturn(Optional.of(task(4L, "Doomed")), Optional.empty());
+        cachingTaskRepository.findById(4L);
+
+        when(delegate.deleteById(4L)).thenReturn(1);
+        cachingTaskRepository.deleteById(4L);
+
+        assertThat(cachingTaskRepository.findById(4L)).isEmpty();
+        verify(delegate).deleteById(4L);
+        verify(delegate, times(2)).findById(4L);
+    }
+
+    @Test
+    void testForgottenIdsAreEvicted() {
+        when(delegate.findById(10L)).thenReturn(Optional.of(task(10L, "Archived")));
+        cachingTaskRepository.findById(10L);
+
+        cachingTaskRepository.forget(List.of(10L));
+
+        assertThat(cache.getIfPresent(10L)).isNull();
+        verify(delegate).forget(List.of(10L));
+    }
+
+    @Test
+    void testBulkStatusUpdateInvalidatesRequestedIds() {
+        when(delegate.findById(8L)).thenReturn(Optional.of(task(8L, "Bulk")));
+        when(delegate.updateStatus(any(), eq(TaskStatus.DONE), any())).thenReturn(List.of(8L));
+        cachingTaskRepository.findById(8L);
+
+        cachingTaskRepository.updateStatus(List.of(8L, 9L), TaskStatus.DONE, Instant.now());
+
+        assertThat(cache.getIfPresent(8L)).isNull();
+    }
+
+    @Test
+    void testPartialUpdateRefreshesOrEvictsEntry() {
+        when(delegate.findById(10L)).thenReturn(Optional.of(task(10L, "Before")));
+        when(delegate.update(eq(10L), any())).thenReturn(Optional.of(task(10L, "After")));
+        when(delegate.update(eq(11L), any())).thenReturn(Optional.empty());
+        cachingTaskRepository.findById(10L);
+        cache.put(11L, task(11L, "Deleted elsewhere"));
+
+        cachingTaskRepository.update(10L, new TaskPatch("After", null, null, Instant.now(), null));
+        cachingTaskRepository.update(11L, new TaskPatch("Gone", null, null, Instant.now(), null));
+
+        assertThat(cachingTaskRepository.findById(10L)).map(Task::getTitle).contains("After");
+        assertThat(cache.getIfPresent(11L)).isNull();
+        verify(delegate, times(1)).findById(10L);
+    }
+
+    @Test
+    void testOutOfOrderWriteDoesNotReplaceNewerVersion() {
+        Instant now = Instant.now();
+        when(delegate.update(eq(12L), any())).thenReturn(
+                Optional.of(new Task(12L, "Second write", null, TaskStatus.PENDING, now, now, 2L)),
+                Optional.of(new Task(12L, "First write", null, TaskStatus.PENDING, now, now, 1L)));
+
+        cachingTaskRepository.update(12L, new TaskPatch("Second write", null, null, now, null));
+        cachingTaskRepository.update(12L, new TaskPatch("First write", null, null, now, null));
+
+        assertThat(cache.getIfPresent(12L)).extracting(Task::getVersion).isEqualTo(2L);
+    }
+
+    @Test
+    void testLoadRacingADeleteDoesNotResurrectTheEntry() {
+        when(delegate.deleteById(13L)).thenReturn(1);
+        when(delegate.findById(13L)).thenAnswer(invocation -> {
+            // The row is deleted after this read saw it but before the result reaches the cache
+            cachingTaskRepository.deleteById(13L);
+            return Optional.of(task(13L, "Read before delete"));
+        });
+
+        assertThat(cachingTaskRepository.findById(13L)).map(Task::getTitle).contains("Read before delete");
+
+        assertThat(cache.getIfPresent(13L)).isNull();
+    }
+
+    @Test
+    void testEvictionOfAnotherTaskDuringALoadStillCachesIt() {
+        when(delegate.deleteById(15L)).thenReturn(1);
+        when(delegate.findById(14L)).thenAnswer(invocation -> {
+            // Write traffic on other ids must not keep this miss from being cached
+            cachingTaskRepository.deleteById(15L);
+            return Optional.of(task(14L, "Unrelated delete"));
+        });
+
+        cachingTaskRepository.findById(14L);
+
+        assertThat(cache.getIfPresent(14L)).isNotNull();
+    }
+
+    @Test
+    void testCallerMutationsDoNotLeakIntoCache() {
+        when(delegate.findById(5L)).thenReturn(Optional.of(task(5L, "Original")));
+
+        cachingTaskRepository.findById(5L).orElseThrow().setTitle("Mutated but never saved");
+
+        assertThat(cachingTaskRepository.findById(5L)).map(Task::getTitle).contains("Original");
+    }
+
+    private Task task(Long id, String title) {
+        Instant now = Instant.now();
+        return new Task(id, title, "Description", TaskStatus.PENDING, now, now);
+    }
+}
@@ -0,0 +1,175 @@
+package br.com.jtech.tasklist.adapters.output.events;
+
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskEventHubTest {
+    private final AtomicInteger renders = new AtomicInteger();
+    private TaskEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new TaskEventHub(event -> "{\"taskId\":" + event.taskId() + ",\"n\":" + renders.incrementAndGet() + "}",
+                4, Duration.ofHours(1), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testNewSubscriberGetsReadyThenLiveEventsRenderedOnce() {
+        hub.publish(TaskEvent.deleted(1L));
+        RecordingSink first = new RecordingSink(10);
+        RecordingSink second = new RecordingSink(10);
+        hub.subscribe(first, null);
+        hub.subscribe(second, null);
+
+        hub.publish(TaskEvent.deleted(2L));
+
+        assertThat(first.names()).containsExactly(TaskEventHub.READY, "deleted");
+        assertThat(first.frames.get(0).id()).endsWith("-1");
+        assertThat(first.frames.get(1).id()).endsWith("-2");
+        // Both subscribers share the same rendered frame
+        assertThat(second.frames.get(1)).isSameAs(first.frames.get(1));
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void testLastEventIdReplaysOnlyTheMissedEvents() {
+        RecordingSink before = new RecordingSink(10);
+        hub.subscribe(before, null);
+        hub.publish(TaskEvent.deleted(1L));
+        hub.publish(TaskEvent.deleted(2L));
+        hub.publish(TaskEvent.deleted(3L));
+        String seen = before.frames.get(1).id();
+
+        RecordingSink resumed = new RecordingSink(10);
+        hub.subscribe(resumed, seen);
+        hub.publish(TaskEvent.deleted(4L));
+
+        assertThat(resumed.frames).extracting(TaskEventFrame::data)
+                .containsExactly("{\"taskId\":2,\"n\":2}", "{\"taskId\":3,\"n\":3}", "{\"taskId\":4,\"n\":4}");
+    }
+
+    @Test
+    void testGapsThatCannotBeReplayedAnswerWithReset() {
+        RecordingSink before = new RecordingSink(10);
+        hub.subscribe(before, null);
+        for (long id = 1; id <= 6; id++) {
+            hub.publish(TaskEvent.deleted(id));
+        }
+        String epoch = before.frames.get(0).id().split("-")[0];
+
+        // Older than the 4-slot ring
+        RecordingSink evicted = new RecordingSink(10);
+        hub.subscribe(evicted, epoch + "-1");
+        // Issued by another run of the server
+        RecordingSink foreign = new RecordingSink(10);
+        hub.subscribe(foreign, "42-5");
+        // More missed events than the sink may queue
+        RecordingSink small = new RecordingSink(2);
+        hub.subscribe(small, epoch + "-3");
+        RecordingSink garbage = new RecordingSink(10);
+        hub.subscribe(garbage, "not-an-id");
+
+        for (RecordingSink sink : List.of(evicted, foreign, small, garbage)) {
+            assertThat(sink.names()).containsExactly(TaskEventHub.RESET);
+            assertThat(sink.frames.get(0).id()).isEqualTo(epoch + "-6");
+        }
+        assertThat(hub.subscriberCount()).isEqualTo(5);
+    }
+
+    @Test
+    void testSinkThatStopsAcceptingIsDroppedWithoutAffectingOthers() {
+        RecordingSink slow = new RecordingSink(2);
+        RecordingSink healthy = new RecordingSink(10);
+        hub.subscribe(slow, null);
+        hub.subscribe(healthy, null);
+
+        hub.publish(TaskEvent.deleted(1L));
+        hub.publish(TaskEvent.deleted(2L));
+        hub.heartbeat();
+
+        assertThat(slow.frames).hasSize(2);
+        assertThat(healthy.names()).containsExactly(TaskEventHub.READY, "deleted", "deleted");
+        assertThat(healthy.heartbeats).isEqualTo(1);
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testEventsInsideATransactionWaitForTheCommit() {
+        RecordingSink sink = new RecordingSink(10);
+        hub.subscribe(sink, null);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            hub.publish(TaskEvent.deleted(1L));
+            assertThat(sink.names()).containsExactly(TaskEventHub.READY);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(sink.names()).containsExactly(TaskEventHub.READY, "deleted");
+    }
+
+    @Test
+    void testStopClosesEveryStream() {
+        RecordingSink sink = new RecordingSink(10);
+        hub.start();
+        hub.subscribe(sink, null);
+
+        hub.stop();
+
+        assertThat(sink.closed).isTrue();
+        assertThat(hub.subscriberCount()).isZero();
+        assertThat(hub.isRunning()).isFalse();
+    }
+
+    private static class RecordingSink implements TaskEventSink {
+        private final int capacity;
+        private final List<TaskEventFrame> frames = new ArrayList<>();
+        private int heartbeats;
+        private boolean closed;
+
+        RecordingSink(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public boolean offer(TaskEventFrame frame) {
+            if (frame.isHeartbeat()) {
+                heartbeats++;
+                return !closed;
+            }
+            if (closed || frames.size() == capacity) {
+                closed = true;
+                return false;
+            }
+            frames.add(frame);
+            return true;
+        }
+
+        @Override
+        public int capacity() {
+            return capacity;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        List<String> names() {
+            return frames.stream().map(TaskEventFrame::name).toList();
+        }
+    }
+}
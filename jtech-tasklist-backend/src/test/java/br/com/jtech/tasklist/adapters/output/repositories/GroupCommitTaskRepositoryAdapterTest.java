@@ -0,0 +1,137 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GroupCommitTaskRepositoryAdapterTest {
+    @Mock
+    private TaskRepositoryPort delegate;
+
+    private final AtomicLong ids = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GroupCommitTaskRepositoryAdapter groupCommit;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(delegate.saveAll(anyList())).thenAnswer(invocation -> invocation.<List<Task>>getArgument(0).stream()
+                .map(this::stored)
+                .toList());
+        when(delegate.save(any(Task.class))).thenAnswer(invocation -> stored(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (groupCommit != null) {
+            groupCommit.stop();
+        }
+    }
+
+    @Test
+    void testConcurrentCreatesShareOneInsert() throws Exception {
+        start(4, Duration.ofSeconds(10));
+
+        List<Task> saved = saveConcurrently("Um", "Dois", "Três", "Quatro");
+
+        assertThat(saved).extracting(Task::getTitle).containsExactly("Um", "Dois", "Três", "Quatro");
+        assertThat(saved).extracting(Task::getId).doesNotContainNull().doesNotHaveDuplicates();
+        verify(delegate, times(1)).saveAll(anyList());
+        verify(delegate, never()).save(any(Task.class));
+        assertThat(meterRegistry.get("tasklist.groupcommit.batch.size").summary().max()).isEqualTo(4);
+    }
+
+    @Test
+    void testLoneCreateIsFlushedAfterMaxDelay() {
+        start(50, Duration.ofMillis(5));
+
+        Task saved = groupCommit.save(new Task("Sozinha", null, TaskStatus.PENDING));
+
+        assertThat(saved.getId()).isNotNull();
+        verify(delegate, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void testFailedBatchIsRetriedTaskByTask() throws Exception {
+        doThrow(new IllegalStateException("constraint violated")).when(delegate).saveAll(anyList());
+        doThrow(new IllegalStateException("constraint violated"))
+                .when(delegate).save(argThat(task -> task != null && "Ruim".equals(task.getTitle())));
+        start(2, Duration.ofSeconds(10));
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Task> good = callers.submit(() -> groupCommit.save(new Task("Boa", null, TaskStatus.PENDING)));
+            Future<Task> bad = callers.submit(() -> groupCommit.save(new Task("Ruim", null, TaskStatus.PENDING)));
+
+            assertThat(good.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+            assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void testExistingTasksAndStoppedAdapterBypassTheQueue() {
+        groupCommit = new GroupCommitTaskRepositoryAdapter(delegate, 4, Duration.ofSeconds(10), meterRegistry);
+
+        assertThat(groupCommit.save(new Task("Direta", null, TaskStatus.PENDING)).getId()).isNotNull();
+        groupCommit.start();
+        assertThat(groupCommit.save(stored(new Task("Existente", null, TaskStatus.DONE))).getTitle()).isEqualTo("Existente");
+
+        verify(delegate, times(2)).save(any(Task.class));
+        verify(delegate, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testMaxBatchMustBePositive() {
+        assertThatThrownBy(() -> new GroupCommitTaskRepositoryAdapter(delegate, 0, Duration.ofMillis(1), meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void start(int maxBatch, Duration maxDelay) {
+        groupCommit = new GroupCommitTaskRepositoryAdapter(delegate, maxBatch, maxDelay, meterRegistry);
+        groupCommit.start();
+    }
+
+    private List<Task> saveConcurrently(String... titles) throws Exception {
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Task>> futures = Arrays.stream(titles)
+                    .map(title -> callers.submit(() -> groupCommit.save(new Task(title, null, TaskStatus.PENDING))))
+                    .toList();
+            List<Task> saved = new ArrayList<>();
+            for (Future<Task> future : futures) {
+                saved.add(future.get(5, TimeUnit.SECONDS));
+            }
+            return saved;
+        }
+    }
+
+    private Task stored(Task task) {
+        Long id = task.getId() != null ? task.getId() : ids.incrementAndGet();
+        return new Task(id, task.getTitle(), task.getDescription(), task.getStatus(), null, null);
+    }
+}
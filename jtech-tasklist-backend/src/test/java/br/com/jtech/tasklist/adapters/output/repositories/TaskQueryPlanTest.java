@@ -0,0 +1,174 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import br.com.jtech.tasklist.adapters.input.controllers.TaskSortPolicy;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN for every sort accepted by {@link TaskSortPolicy} (and the keyset reads) against
+ * the Flyway schema, to catch a supported query that silently falls back to a full scan or sort.
+ * <p>
+ * H2 runs in its default and PostgreSQL compatibility modes. H2 cannot read an index backwards
+ * nor sort through an equality prefix, so descending and status-filtered orderings are only
+ * checked for index use there; set {@code TASKLIST_PLAN_PG_URL} (plus {@code TASKLIST_PLAN_PG_USER}
+ * and {@code TASKLIST_PLAN_PG_PASSWORD}) to also verify against a real PostgreSQL that no Sort node is planned.
+ */
+class TaskQueryPlanTest {
+    private static final String SELECT = "SELECT id, title, description, status, created_at, updated_at FROM tasks";
+    private static final String KEYSET = " created_at >= ? AND (created_at > ? OR id > ?)";
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "jdbc:h2:mem:plan_check;DB_CLOSE_DELAY=-1",
+            "jdbc:h2:mem:plan_check_pg;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+    })
+    void testSupportedSortsUseIndexesOnH2(String url) throws SQLException {
+        migrate(url, "sa", "", "classpath:db/vendor/h2");
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            seed(connection);
+            for (Map.Entry<String, String> sortable : TaskSortPolicy.SORTABLE_COLUMNS.entrySet()) {
+                String column = sortable.getValue();
+
+                String ascending = explain(connection, SELECT + orderBy(column, "ASC"));
+                assertThat(ascending).as("sort=%s,asc", sortable.getKey()).containsIgnoringCase("index sorted");
+                if (!column.equals("id")) {
+                    assertThat(ascending).as("sort=%s,asc", sortable.getKey())
+                            .containsIgnoringCase("idx_tasks_" + column + "_id");
+                }
+
+                for (String direction : List.of("ASC", "DESC")) {
+                    String filtered = explain(connection, SELECT + " WHERE status = 'DONE'" + orderBy(column, direction));
+                    assertThat(filtered).as("status=DONE&sort=%s,%s", sortable.getKey(), direction)
+                            .containsIgnoringCase("idx_tasks_status_")
+                            .doesNotContainIgnoringCase("tableScan");
+                }
+            }
+
+            String keyset = explain(connection, SELECT + " WHERE" + KEYSET + orderBy("created_at", "ASC"));
+            assertThat(keyset).containsIgnoringCase("idx_tasks_created_at_id");
+
+            String keysetByStatus = explain(connection,
+                    SELECT + " WHERE status = 'DONE' AND" + KEYSET + orderBy("created_at", "ASC"));
+            assertThat(keysetByStatus).containsIgnoringCase("idx_tasks_status_")
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "TASKLIST_PLAN_PG_URL", matches = ".+")
+    void testSupportedSortsNeedNoSortOnPostgres() throws SQLException {
+        String url = System.getenv("TASKLIST_PLAN_PG_URL");
+        String user = System.getenv().getOrDefault("TASKLIST_PLAN_PG_USER", "postgres");
+        String password = System.getenv().getOrDefault("TASKLIST_PLAN_PG_PASSWORD", "postgres");
+        Flyway flyway = Flyway.configure()
+                .dataSource(url, user, password)
+                .schemas("plan_check")
+                .defaultSchema("plan_check")
+                .cleanDisabled(false)
+                // Same reason as spring.flyway.postgresql.transactional-lock in application-docker.yml
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, user, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO plan_check");
+            seed(connection);
+            statement.execute("ANALYZE tasks");
+            // Small tables favour sequential scans; take them off the table so the plan shows
+            // whether an index can deliver the order at all
+            statement.execute("SET enable_seqscan = off");
+            statement.execute("SET enable_sort = off");
+
+            for (Map.Entry<String, String> sortable : TaskSortPolicy.SORTABLE_COLUMNS.entrySet()) {
+                String column = sortable.getValue();
+                for (String direction : List.of("ASC", "DESC")) {
+                    String unfiltered = explain(connection, SELECT + orderBy(column, direction));
+                    String filtered = explain(connection, SELECT + " WHERE status = 'DONE'" + orderBy(column, direction));
+                    assertNoSort(unfiltered, "sort=" + sortable.getKey() + "," + direction);
+                    assertNoSort(filtered, "status=DONE&sort=" + sortable.getKey() + "," + direction);
+                    assertThat(filtered).contains("idx_tasks_status_" + (column.equals("id") ? "" : column + "_") + "id");
+                }
+            }
+
+            assertNoSort(explain(connection, SELECT + " WHERE status = 'DONE' AND" + KEYSET + orderBy("created_at", "ASC")),
+                    "keyset by status");
+        } finally {
+            flyway.clean();
+        }
+    }
+
+    private static void migrate(String url, String user, String password, String vendorLocation) {
+        Flyway.configure()
+                .dataSource(url, user, password)
+                .locations("classpath:db/migration", vendorLocation)
+                .load()
+                .migrate();
+    }
+
+    private static void seed(Connection connection) throws SQLException {
+        // Mostly PENDING, so a status = 'DONE' predicate is selective
+        Instant base = Instant.parse("2026-01-01T00:00:00Z");
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO tasks (title, description, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < 2000; i++) {
+                Timestamp at = Timestamp.from(base.plusSeconds(i));
+                insert.setString(1, "Plan task " + i);
+                insert.setString(2, null);
+                insert.setString(3, i % 20 == 0 ? "DONE" : "PENDING");
+                insert.setTimestamp(4, at);
+                insert.setTimestamp(5, at);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private static String orderBy(String column, String direction) {
+        String order = " ORDER BY " + column + " " + direction;
+        if (!column.equals("id")) {
+            order += ", id " + direction;
+        }
+        return order + " LIMIT 20";
+    }
+
+    private static String explain(Connection connection, String sql) throws SQLException {
+        String bound = sql.replace(KEYSET,
+                " created_at >= TIMESTAMP '2026-01-01 00:10:00' AND (created_at > TIMESTAMP '2026-01-01 00:10:00' OR id > 600)");
+        List<String> lines = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet plan = statement.executeQuery("EXPLAIN " + bound)) {
+            while (plan.next()) {
+                lines.add(plan.getString(1));
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    private static void assertNoSort(String plan, String description) {
+        assertThat(plan).as(description).contains("Index");
+        assertThat(plan.lines().map(String::trim))
+                .as(description)
+                .noneMatch(line -> line.startsWith("Sort") || line.startsWith("->  Sort"));
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.jtech.tasklist.adapters.output.repositories;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UtcTimestampsTest {
+    private static final Instant WRITTEN = Instant.parse("2025-03-10T12:30:00Z");
+
+    private TimeZone jvmZone;
+
+    @BeforeEach
+    void setUp() {
+        jvmZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("America/Sao_Paulo"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TimeZone.setDefault(jvmZone);
+    }
+
+    @Test
+    void testStoresUtcWallTimeWhateverTheJvmZone() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:utc_timestamps", "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE stamps (at TIMESTAMP)");
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO stamps VALUES (?)")) {
+                insert.setObject(1, UtcTimestamps.toUtc(WRITTEN));
+                insert.executeUpdate();
+            }
+
+            try (ResultSet rs = statement.executeQuery("SELECT at FROM stamps")) {
+                rs.next();
+                assertThat(rs.getObject("at", LocalDateTime.class)).isEqualTo(LocalDateTime.parse("2025-03-10T12:30:00"));
+                assertThat(UtcTimestamps.read(rs, "at")).isEqualTo(WRITTEN);
+            }
+        }
+    }
+
+    @Test
+    void testNullStaysNull() {
+        assertThat(UtcTimestamps.toUtc(null)).isNull();
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.jtech.tasklist.adapters.output.search;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedTaskSearchIndexTest {
+    private InvertedTaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedTaskSearchIndex();
+    }
+
+    @Test
+    void testTitleMatchesOutrankDescriptionMatchesAndEveryWordMustMatch() {
+        index.put(task(1L, "Revisar contrato", "Enviar o relatório ao cliente", 0L));
+        index.put(task(2L, "Relatório mensal", "Fechar números do mês", 0L));
+        index.put(task(3L, "Relatório anual", null, 0L));
+
+        assertThat(ids(index.search("relatório", null, 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(index.search("RELATÓRIO, mensal!", null, 10))).containsExactly(2L);
+        assertThat(index.search("relatório trimestral", null, 10)).isEmpty();
+        assertThat(index.search("  ?! ", null, 10)).isEmpty();
+    }
+
+    @Test
+    void testWebSearchOperatorsMatchWebsearchToTsquery() {
+        index.put(task(1L, "Relatório mensal", null, 0L));
+        index.put(task(2L, "Relatório anual", null, 0L));
+        index.put(task(3L, "Planilha mensal", null, 0L));
+        index.put(task(4L, "Reunião", "sem relatório", 0L));
+
+        // AND binds tighter than or: (relatório AND anual) OR planilha
+        assertThat(ids(index.search("relatório anual or planilha", null, 10))).containsExactly(2L, 3L);
+        assertThat(ids(index.search("relatório -mensal", null, 10))).containsExactly(2L, 4L);
+        assertThat(ids(index.search("\"relatório mensal\"", null, 10))).containsExactly(1L);
+        assertThat(ids(index.search("-relatório", null, 10))).containsExactly(3L);
+        // A leading or trailing "or" is not an operator and is dropped
+        assertThat(ids(index.search("or reunião or", null, 10))).containsExactly(4L);
+    }
+
+    @Test
+    void testTaskMatchingSeveralAlternativesIsRankedOnceWithAllItsWords() {
+        index.put(task(1L, "alpha beta", null, 0L));
+        index.put(task(2L, "alpha", null, 0L));
+
+        List<TaskSearchIndex.Match> matches = index.search("alpha or beta", null, 10);
+
+        assertThat(ids(matches)).containsExactly(1L, 2L);
+        assertThat(matches.get(0).score()).isEqualTo(2.0f);
+    }
+
+    @Test
+    void testRepeatedWordsScoreHigherAndTiesBreakById() {
+        index.put(task(5L, "Deploy", "deploy deploy", 0L));
+        index.put(task(3L, "Deploy", null, 0L));
+        index.put(task(4L, "Deploy", null, 0L));
+
+        List<TaskSearchIndex.Match> matches = index.search("deploy", null, 10);
+
+        assertThat(ids(matches)).containsExactly(5L, 3L, 4L);
+        assertThat(matches.get(0).score()).isEqualTo(1.0f + 0.4f + 0.4f);
+    }
+
+    @Test
+    void testCursorWalksEveryMatchOnceInRankOrder() {
+        for (long id = 1; id <= 25; id++) {
+            index.put(task(id, "Task " + id, id % 3 == 0 ? "task" : null, 0L));
+        }
+
+        List<Long> walked = new ArrayList<>();
+        TaskSearchCursor after = null;
+        List<TaskSearchIndex.Match> window;
+        while (!(window = index.search("task", after, 4)).isEmpty()) {
+            walked.addAll(ids(window));
+            TaskSearchIndex.Match last = window.get(window.size() - 1);
+            after = new TaskSearchCursor(last.score(), last.id());
+        }
+
+        assertThat(walked).hasSize(25).doesNotHaveDuplicates();
+        assertThat(walked.subList(0, 8)).containsExactly(3L, 6L, 9L, 12L, 15L, 18L, 21L, 24L);
+    }
+
+    @Test
+    void testReindexReplacesTextUnlessOlderAndRemoveUnindexes() {
+        index.put(task(1L, "Comprar café", null, 1L));
+        index.put(task(1L, "Comprar chá", null, 2L));
+        // A late writer carrying an older version must not bring the old text back
+        index.put(task(1L, "Comprar café", null, 1L));
+
+        assertThat(index.search("café", null, 10)).isEmpty();
+        assertThat(ids(index.search("chá", null, 10))).containsExactly(1L);
+
+        index.remove(1L);
+
+        assertThat(index.search("comprar", null, 10)).isEmpty();
+        assertThat(index.maxId()).isEqualTo(1L);
+    }
+
+    @Test
+    void testOutOfOrderIdsStaySorted() {
+        index.put(task(10L, "alpha", null, 0L));
+        index.put(task(2L, "alpha", null, 0L));
+        index.put(task(7L, "alpha", null, 0L));
+
+        assertThat(ids(index.search("alpha", null, 10))).containsExactly(2L, 7L, 10L);
+        assertThat(index.maxId()).isEqualTo(10L);
+    }
+
+    private static Task task(Long id, String title, String description, Long version) {
+        Instant now = Instant.now();
+        return new Task(id, title, description, TaskStatus.PENDING, now, now, version);
+    }
+
+    private static List<Long> ids(List<TaskSearchIndex.Match> matches) {
+        return matches.stream().map(TaskSearchIndex.Match::id).toList();
+    }
+}
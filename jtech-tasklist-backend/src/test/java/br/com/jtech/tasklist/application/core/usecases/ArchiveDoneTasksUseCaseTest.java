@@ -0,0 +1,90 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArchiveDoneTasksUseCaseTest {
+    @Mock
+    private TaskArchivePort taskArchive;
+
+    @Mock
+    private TaskRepositoryPort taskRepository;
+
+    @Mock
+    private TaskEventPublisherPort taskEvents;
+
+    private ArchiveDoneTasksUseCase archiveDoneTasksUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        archiveDoneTasksUseCase = new ArchiveDoneTasksUseCase(taskArchive, taskRepository, taskEvents, Duration.ofDays(30), 2);
+    }
+
+    @Test
+    void testArchivesInChunksUntilOneComesBackShort() {
+        when(taskArchive.archiveDone(any(), eq(2))).thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+
+        long archived = archiveDoneTasksUseCase.execute();
+
+        assertThat(archived).isEqualTo(5);
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(taskArchive, times(3)).archiveDone(cutoff.capture(), eq(2));
+        assertThat(cutoff.getAllValues()).containsOnly(cutoff.getValue());
+        assertThat(cutoff.getValue()).isBefore(Instant.now().minus(Duration.ofDays(29)));
+        // Each chunk leaves the cache and the search index once it has moved
+        verify(taskRepository).forget(List.of(1L, 2L));
+        verify(taskRepository).forget(List.of(3L, 4L));
+        verify(taskRepository).forget(List.of(5L));
+        // One reset for the whole run
+        verify(taskEvents, times(1)).publish(TaskEvent.reset());
+    }
+
+    @Test
+    void testNothingToArchiveStopsAfterOneChunk() {
+        when(taskArchive.archiveDone(any(), eq(2))).thenReturn(List.of());
+
+        assertThat(archiveDoneTasksUseCase.execute()).isZero();
+        verify(taskArchive, times(1)).archiveDone(any(), eq(2));
+        verify(taskRepository, never()).forget(anyCollection());
+        verify(taskEvents, never()).publish(any());
+    }
+
+    @Test
+    void testChunksMovedBeforeAFailureAreStillAnnounced() {
+        when(taskArchive.archiveDone(any(), eq(2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenThrow(new IllegalStateException("database down"));
+
+        assertThatThrownBy(() -> archiveDoneTasksUseCase.execute()).isInstanceOf(IllegalStateException.class);
+        verify(taskRepository).forget(List.of(1L, 2L));
+        verify(taskEvents).publish(TaskEvent.reset());
+    }
+
+    @Test
+    void testChunkSizeMustBePositive() {
+        assertThatThrownBy(() -> new ArchiveDoneTasksUseCase(taskArchive, taskRepository, taskEvents, Duration.ofDays(30), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
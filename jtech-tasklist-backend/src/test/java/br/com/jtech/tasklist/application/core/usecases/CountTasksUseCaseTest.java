@@ -0,0 +1,38 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+class CountTasksUseCaseTest {
+    @Mock
+    private TaskRepositoryPort taskRepository;
+
+    private CountTasksUseCase countTasksUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        countTasksUseCase = new CountTasksUseCase(taskRepository);
+        when(taskRepository.countByStatus()).thenReturn(Map.of(TaskStatus.PENDING, 7L, TaskStatus.DONE, 3L));
+    }
+
+    @Test
+    void testCountByStatus() {
+        assertThat(countTasksUseCase.execute(TaskStatus.PENDING)).isEqualTo(7L);
+        assertThat(countTasksUseCase.execute(TaskStatus.DONE)).isEqualTo(3L);
+    }
+
+    @Test
+    void testCountWithoutStatusSumsAllCounters() {
+        assertThat(countTasksUseCase.execute(null)).isEqualTo(10L);
+    }
+}
@@ -1,15 +1,23 @@
 package br.com.jtech.tasklist.application.core.usecases;
 
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,12 +26,15 @@ class CreateTaskUseCaseTest {
     @Mock
     private TaskRepositoryPort taskRepository;
 
+    @Mock
+    private TaskEventPublisherPort taskEvents;
+
     private CreateTaskUseCase createTaskUseCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        createTaskUseCase = new CreateTaskUseCase(taskRepository);
+        createTaskUseCase = new CreateTaskUseCase(taskRepository, taskEvents);
     }
 
     @Test
@@ -41,6 +52,7 @@ class CreateTaskUseCaseTest {
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getStatus()).isEqualTo(TaskStatus.DONE);
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskEvents).publish(TaskEvent.created(savedTask));
     }
 
     @Test
@@ -57,4 +69,36 @@ class CreateTaskUseCaseTest {
         assertThat(result.getStatus()).isEqualTo(TaskStatus.PENDING);
         verify(taskRepository, times(1)).save(any(Task.class));
     }
+
+    @Test
+    void testCreateBatchDefaultsMissingStatusAndKeepsOrder() {
+        List<Task> drafts = List.of(
+                new Task("First", null, null),
+                new Task("Second", null, TaskStatus.DONE)
+        );
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Task> result = createTaskUseCase.executeBatch(drafts);
+
+        assertThat(result).extracting(Task::getTitle).containsExactly("First", "Second");
+        assertThat(result).extracting(Task::getStatus).containsExactly(TaskStatus.PENDING, TaskStatus.DONE);
+        verify(taskRepository, times(1)).saveAll(anyList());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskEvents, times(2)).publish(any(TaskEvent.class));
+    }
+
+    @Test
+    void testCreateBatchRejectsEmptyAndOversizedBatches() {
+        List<Task> oversized = IntStream.rangeClosed(0, CreateTaskUseCase.MAX_BATCH_SIZE)
+                .mapToObj(i -> new Task("Task " + i, null, null))
+                .toList();
+
+        assertThatThrownBy(() -> createTaskUseCase.executeBatch(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> createTaskUseCase.executeBatch(oversized))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("between 1 and 500");
+        verify(taskRepository, never()).saveAll(anyList());
+        verify(taskEvents, never()).publish(any());
+    }
 }
@@ -1,18 +1,17 @@
 package br.com.jtech.tasklist.application.core.usecases;
 
-import br.com.jtech.tasklist.application.core.domains.Task;
-import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import java.time.Instant;
-import java.util.Optional;
-
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,56 +20,54 @@ class DeleteTaskUseCaseTest {
     @Mock
     private TaskRepositoryPort taskRepository;
 
+    @Mock
+    private TaskEventPublisherPort taskEvents;
+
     private DeleteTaskUseCase deleteTaskUseCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        deleteTaskUseCase = new DeleteTaskUseCase(taskRepository);
+        deleteTaskUseCase = new DeleteTaskUseCase(taskRepository, taskEvents);
     }
 
     @Test
     void testDeleteTaskSuccess() throws TaskNotFoundException {
         Long taskId = 1L;
-        Task task = new Task(taskId, "Title", "Description", TaskStatus.PENDING, Instant.now(), Instant.now());
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.deleteById(taskId)).thenReturn(1);
 
         deleteTaskUseCase.execute(taskId);
 
-        verify(taskRepository, times(1)).findById(taskId);
         verify(taskRepository, times(1)).deleteById(eq(taskId));
+        verify(taskEvents).publish(TaskEvent.deleted(taskId));
     }
 
     @Test
     void testDeleteTaskNotFound() {
         Long taskId = 999L;
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.deleteById(taskId)).thenReturn(0);
 
         assertThatThrownBy(() -> deleteTaskUseCase.execute(taskId))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessageContaining("Task with id 999 was not found");
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(0)).deleteById(eq(taskId));
+        verify(taskRepository, times(1)).deleteById(eq(taskId));
+        verify(taskEvents, never()).publish(any());
     }
 
     @Test
     void testDeleteTaskMultipleTasks() throws TaskNotFoundException {
         Long taskId1 = 1L;
         Long taskId2 = 2L;
-        Task task1 = new Task(taskId1, "Title 1", "Description 1", TaskStatus.PENDING, Instant.now(), Instant.now());
-        Task task2 = new Task(taskId2, "Title 2", "Description 2", TaskStatus.DONE, Instant.now(), Instant.now());
 
-        when(taskRepository.findById(taskId1)).thenReturn(Optional.of(task1));
-        when(taskRepository.findById(taskId2)).thenReturn(Optional.of(task2));
+        when(taskRepository.deleteById(taskId1)).thenReturn(1);
+        when(taskRepository.deleteById(taskId2)).thenReturn(1);
 
         deleteTaskUseCase.execute(taskId1);
         deleteTaskUseCase.execute(taskId2);
 
-        verify(taskRepository, times(1)).findById(taskId1);
-        verify(taskRepository, times(1)).findById(taskId2);
         verify(taskRepository, times(1)).deleteById(eq(taskId1));
         verify(taskRepository, times(1)).deleteById(eq(taskId2));
     }
@@ -78,9 +75,8 @@ class DeleteTaskUseCaseTest {
     @Test
     void testDeleteTaskDeletesCorrectId() throws TaskNotFoundException {
         Long taskId = 42L;
-        Task task = new Task(taskId, "Title", "Description", TaskStatus.PENDING, Instant.now(), Instant.now());
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.deleteById(taskId)).thenReturn(1);
 
         deleteTaskUseCase.execute(taskId);
 
@@ -88,16 +84,26 @@ class DeleteTaskUseCaseTest {
     }
 
     @Test
-    void testDeleteTaskChecksFindByIdFirst() throws TaskNotFoundException {
+    void testDeleteTaskDoesNotReadBeforeDeleting() throws TaskNotFoundException {
         Long taskId = 1L;
-        Task task = new Task(taskId, "Title", "Description", TaskStatus.PENDING, Instant.now(), Instant.now());
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.deleteById(taskId)).thenReturn(1);
 
         deleteTaskUseCase.execute(taskId);
 
-        // Verify that findById is called first (order of verification is important)
-        verify(taskRepository, times(1)).findById(taskId);
+        // A single DELETE decides existence; no lookup first
+        verify(taskRepository, never()).findById(any());
         verify(taskRepository, times(1)).deleteById(eq(taskId));
     }
+
+    @Test
+    void testSecondOfTwoRacingDeletesIsNotFound() throws TaskNotFoundException {
+        Long taskId = 7L;
+
+        when(taskRepository.deleteById(taskId)).thenReturn(1, 0);
+
+        deleteTaskUseCase.execute(taskId);
+        assertThatThrownBy(() -> deleteTaskUseCase.execute(taskId))
+                .isInstanceOf(TaskNotFoundException.class);
+    }
 }
@@ -2,6 +2,7 @@ package br.com.jtech.tasklist.application.core.usecases;
 
 import br.com.jtech.tasklist.application.core.domains.Task;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,18 +13,23 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class GetTaskByIdUseCaseTest {
     @Mock
     private TaskRepositoryPort taskRepository;
 
+    @Mock
+    private TaskArchivePort taskArchive;
+
     private GetTaskByIdUseCase getTaskByIdUseCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        getTaskByIdUseCase = new GetTaskByIdUseCase(taskRepository);
+        getTaskByIdUseCase = new GetTaskByIdUseCase(taskRepository, taskArchive);
     }
 
     @Test
@@ -37,12 +43,24 @@ class GetTaskByIdUseCaseTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(taskId);
         assertThat(result.getTitle()).isEqualTo("Test Task");
+        verify(taskArchive, never()).findById(taskId);
+    }
+
+    @Test
+    void testGetTaskByIdFallsBackToTheArchive() throws TaskNotFoundException {
+        Long taskId = 7L;
+        Task archived = new Task(taskId, "Old Task", null, TaskStatus.DONE, null, null);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskArchive.findById(taskId)).thenReturn(Optional.of(archived));
+
+        assertThat(getTaskByIdUseCase.execute(taskId)).isSameAs(archived);
     }
 
     @Test
     void testGetTaskByIdNotFound() {
         Long taskId = 999L;
         when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskArchive.findById(taskId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> getTaskByIdUseCase.execute(taskId))
                 .isInstanceOf(TaskNotFoundException.class)
@@ -0,0 +1,112 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
+import br.com.jtech.tasklist.application.core.domains.TaskImportError;
+import br.com.jtech.tasklist.application.core.domains.TaskImportRecord;
+import br.com.jtech.tasklist.application.core.domains.TaskImportReport;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ImportTasksUseCaseTest {
+    @Mock
+    private TaskRepositoryPort taskRepository;
+
+    @Mock
+    private TaskEventPublisherPort taskEvents;
+
+    private ImportTasksUseCase importTasksUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        importTasksUseCase = new ImportTasksUseCase(taskRepository, taskEvents, 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testValidRecordsAreCommittedInChunks() {
+        List<TaskImportRecord> records = List.of(
+                valid(1, TaskStatus.DONE),
+                valid(2, null),
+                invalid(3, "title", "Title is required"),
+                valid(4, null),
+                valid(5, TaskStatus.PENDING),
+                valid(6, null)
+        );
+
+        TaskImportReport report = importTasksUseCase.execute(records.iterator());
+
+        ArgumentCaptor<List<Task>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository, times(3)).insertAll(chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        // One reset per committed chunk
+        verify(taskEvents, times(3)).publish(TaskEvent.reset());
+        assertThat(chunks.getAllValues().get(0)).extracting(Task::getStatus)
+                .containsExactly(TaskStatus.DONE, TaskStatus.PENDING);
+        assertThat(report.imported()).isEqualTo(5);
+        assertThat(report.rejected()).isEqualTo(1);
+        assertThat(report.errors()).containsExactly(new TaskImportError(3, "title", "Title is required"));
+        assertThat(report.errorsTruncated()).isFalse();
+    }
+
+    @Test
+    void testReportedErrorsAreCappedButAllRejectionsCounted() {
+        List<TaskImportRecord> records = new ArrayList<>();
+        IntStream.rangeClosed(1, ImportTasksUseCase.MAX_REPORTED_ERRORS + 5)
+                .forEach(line -> records.add(invalid(line, "title", "Title is required")));
+
+        TaskImportReport report = importTasksUseCase.execute(records.iterator());
+
+        verify(taskRepository, never()).insertAll(anyList());
+        verify(taskEvents, never()).publish(any());
+        assertThat(report.imported()).isZero();
+        assertThat(report.rejected()).isEqualTo(ImportTasksUseCase.MAX_REPORTED_ERRORS + 5);
+        assertThat(report.errors()).hasSize(ImportTasksUseCase.MAX_REPORTED_ERRORS);
+        assertThat(report.errorsTruncated()).isTrue();
+    }
+
+    @Test
+    void testFailedChunkStopsTheImport() {
+        doThrow(new IllegalStateException("database down")).when(taskRepository).insertAll(anyList());
+        List<TaskImportRecord> records = List.of(valid(1, null), valid(2, null), valid(3, null));
+
+        assertThatThrownBy(() -> importTasksUseCase.execute(records.iterator()))
+                .isInstanceOf(IllegalStateException.class);
+        verify(taskRepository, times(1)).insertAll(anyList());
+        verify(taskEvents, never()).publish(any());
+    }
+
+    @Test
+    void testRejectsNonPositiveChunkSize() {
+        assertThatThrownBy(() -> new ImportTasksUseCase(taskRepository, taskEvents, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static TaskImportRecord valid(long line, TaskStatus status) {
+        return TaskImportRecord.valid(line, new Task("Task " + line, null, status));
+    }
+
+    private static TaskImportRecord invalid(long line, String field, String message) {
+        return TaskImportRecord.invalid(line, List.of(new TaskImportError(line, field, message)));
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskCursorPage;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ListTasksUseCaseTest {
+    @Mock
+    private TaskRepositoryPort taskRepository;
+
+    @Mock
+    private TaskArchivePort taskArchive;
+
+    private ListTasksUseCase listTasksUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        listTasksUseCase = new ListTasksUseCase(taskRepository, taskArchive);
+    }
+
+    @Test
+    void testCursorPageReadsOneExtraRowToDetectNextWindow() {
+        Instant now = Instant.now();
+        Task first = new Task(1L, "Task 1", null, TaskStatus.PENDING, now, now);
+        Task second = new Task(2L, "Task 2", null, TaskStatus.PENDING, now, now);
+        Task third = new Task(3L, "Task 3", null, TaskStatus.PENDING, now, now);
+        when(taskRepository.findAfter(null, 3)).thenReturn(List.of(first, second, third));
+
+        TaskCursorPage page = listTasksUseCase.execute(null, 2, null);
+
+        assertThat(page.tasks()).containsExactly(first, second);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(new TaskCursor(now, 2L));
+    }
+
+    @Test
+    void testCursorPageLastWindowHasNoNextCursor() {
+        Instant now = Instant.now();
+        TaskCursor after = new TaskCursor(now, 2L);
+        Task last = new Task(3L, "Task 3", null, TaskStatus.DONE, now, now);
+        when(taskRepository.findAfter(after, 3, TaskStatus.DONE)).thenReturn(List.of(last));
+
+        TaskCursorPage page = listTasksUseCase.execute(after, 2, TaskStatus.DONE);
+
+        assertThat(page.tasks()).containsExactly(last);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void testCursorPageRejectsLimitOutOfRange() {
+        assertThatThrownBy(() -> listTasksUseCase.execute(null, 0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> listTasksUseCase.execute(null, ListTasksUseCase.MAX_CURSOR_LIMIT + 1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(taskRepository, never()).findAfter(any(), anyInt());
+    }
+
+    @Test
+    void testIncludingArchivedSkipsTheArchiveForStatusesItCannotHold() {
+        PageRequest pageable = PageRequest.of(0, 20);
+        Page<TaskView> live = new PageImpl<>(List.of());
+        Page<TaskView> both = new PageImpl<>(List.of());
+        when(taskRepository.findAll(pageable, TaskStatus.PENDING)).thenReturn(live);
+        when(taskArchive.findAllIncludingArchived(pageable, TaskStatus.DONE)).thenReturn(both);
+
+        assertThat(listTasksUseCase.executeIncludingArchived(pageable, TaskStatus.PENDING)).isSameAs(live);
+        assertThat(listTasksUseCase.executeIncludingArchived(pageable, TaskStatus.DONE)).isSameAs(both);
+        verify(taskArchive, never()).findAllIncludingArchived(pageable, TaskStatus.PENDING);
+    }
+}
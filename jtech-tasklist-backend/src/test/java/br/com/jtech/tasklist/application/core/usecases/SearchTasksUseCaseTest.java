@@ -0,0 +1,80 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.TaskSearchCursor;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchHit;
+import br.com.jtech.tasklist.application.core.domains.TaskSearchPage;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskSearchPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchTasksUseCaseTest {
+    @Mock
+    private TaskSearchPort taskSearch;
+
+    private SearchTasksUseCase searchTasksUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        searchTasksUseCase = new SearchTasksUseCase(taskSearch);
+    }
+
+    @Test
+    void testReadsOneExtraHitToDetectNextWindow() {
+        TaskSearchHit first = hit(7L, 2.0f);
+        TaskSearchHit second = hit(3L, 1.4f);
+        TaskSearchHit third = hit(9L, 1.4f);
+        when(taskSearch.search("relatório", null, 3)).thenReturn(List.of(first, second, third));
+
+        TaskSearchPage page = searchTasksUseCase.execute("  relatório ", null, 2);
+
+        assertThat(page.tasks()).containsExactly(first.task(), second.task());
+        assertThat(page.nextCursor()).isEqualTo(new TaskSearchCursor(1.4f, 3L));
+    }
+
+    @Test
+    void testLastWindowHasNoNextCursor() {
+        TaskSearchCursor after = new TaskSearchCursor(1.4f, 3L);
+        when(taskSearch.search("relatório", after, 3)).thenReturn(List.of(hit(9L, 1.4f)));
+
+        TaskSearchPage page = searchTasksUseCase.execute("relatório", after, 2);
+
+        assertThat(page.tasks()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void testRejectsBlankOrLongQueriesAndLimitsOutOfRange() {
+        assertThatThrownBy(() -> searchTasksUseCase.execute(" ", null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchTasksUseCase.execute("x".repeat(SearchTasksUseCase.MAX_QUERY_LENGTH + 1), null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchTasksUseCase.execute("report", null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchTasksUseCase.execute("report", null, SearchTasksUseCase.MAX_LIMIT + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(taskSearch, never()).search(anyString(), any(), anyInt());
+    }
+
+    private static TaskSearchHit hit(Long id, float score) {
+        Instant now = Instant.now();
+        return new TaskSearchHit(new TaskView(id, "Relatório " + id, null, TaskStatus.PENDING, now, now, 0L), score);
+    }
+}
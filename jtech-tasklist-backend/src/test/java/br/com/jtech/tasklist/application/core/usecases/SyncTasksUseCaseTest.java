@@ -0,0 +1,111 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.TaskChange;
+import br.com.jtech.tasklist.application.core.domains.TaskChangeSet;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskSyncToken;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import br.com.jtech.tasklist.application.ports.output.TaskChangeFeedPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SyncTasksUseCaseTest {
+    private static final Duration SETTLE = Duration.ofSeconds(5);
+    private static final Duration RETENTION = Duration.ofDays(30);
+
+    @Mock
+    private TaskChangeFeedPort taskChangeFeed;
+
+    private SyncTasksUseCase syncTasksUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        syncTasksUseCase = new SyncTasksUseCase(taskChangeFeed, SETTLE, RETENTION);
+    }
+
+    @Test
+    void testFirstSyncPagesThroughTasksWithoutTombstones() throws Exception {
+        Instant old = Instant.now().minus(Duration.ofMinutes(1));
+        when(taskChangeFeed.changesSince(0L, false, 3))
+                .thenReturn(List.of(changed(4L, 1L, old), changed(9L, 2L, old), changed(11L, 3L, old)));
+
+        TaskChangeSet result = syncTasksUseCase.execute(null, 2);
+
+        assertThat(result.changed()).extracting(TaskView::id).containsExactly(1L, 2L);
+        assertThat(result.deletedIds()).isEmpty();
+        assertThat(result.next().sequence()).isEqualTo(9L);
+        assertThat(result.hasMore()).isTrue();
+    }
+
+    @Test
+    void testDeltaReturnsChangesAndDeletionsAfterTheToken() throws Exception {
+        Instant old = Instant.now().minus(Duration.ofMinutes(1));
+        when(taskChangeFeed.changesSince(9L, true, 501))
+                .thenReturn(List.of(changed(10L, 2L, old), deleted(12L, 1L, old)));
+
+        TaskChangeSet result = syncTasksUseCase.execute(new TaskSyncToken(9L, Instant.now().minus(Duration.ofDays(1))), 500);
+
+        assertThat(result.changed()).extracting(TaskView::id).containsExactly(2L);
+        assertThat(result.deletedIds()).containsExactly(1L);
+        assertThat(result.next().sequence()).isEqualTo(12L);
+        assertThat(result.next().issuedAt()).isAfter(old);
+        assertThat(result.hasMore()).isFalse();
+    }
+
+    @Test
+    void testTokenStopsBeforeChangesInsideTheSettleWindow() throws Exception {
+        Instant old = Instant.now().minus(Duration.ofMinutes(1));
+        Instant recent = Instant.now();
+        when(taskChangeFeed.changesSince(5L, true, 3))
+                .thenReturn(List.of(changed(6L, 1L, old), changed(7L, 2L, recent), changed(8L, 3L, old)));
+
+        TaskChangeSet result = syncTasksUseCase.execute(new TaskSyncToken(5L, Instant.now()), 2);
+
+        // Both are returned, but a lower sequence may still commit behind the recent one
+        assertThat(result.changed()).extracting(TaskView::id).containsExactly(1L, 2L);
+        assertThat(result.next().sequence()).isEqualTo(6L);
+        assertThat(result.hasMore()).isFalse();
+    }
+
+    @Test
+    void testTokenOlderThanTheRetentionIsExpired() {
+        TaskSyncToken stale = new TaskSyncToken(1L, Instant.now().minus(RETENTION));
+
+        assertThatThrownBy(() -> syncTasksUseCase.execute(stale, 500))
+                .isInstanceOf(TaskSyncExpiredException.class)
+                .hasMessageContaining("30-day");
+        verify(taskChangeFeed, never()).changesSince(anyLong(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    void testRejectsLimitOutOfRange() {
+        assertThatThrownBy(() -> syncTasksUseCase.execute(null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> syncTasksUseCase.execute(null, SyncTasksUseCase.MAX_LIMIT + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static TaskChange changed(long sequence, long id, Instant at) {
+        return new TaskChange(sequence, id, new TaskView(id, "Task " + id, null, TaskStatus.PENDING, at, at, 0L), at);
+    }
+
+    private static TaskChange deleted(long sequence, long id, Instant at) {
+        return new TaskChange(sequence, id, null, at);
+    }
+}
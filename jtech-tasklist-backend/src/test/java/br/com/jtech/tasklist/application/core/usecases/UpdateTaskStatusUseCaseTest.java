@@ -0,0 +1,123 @@
+package br.com.jtech.tasklist.application.core.usecases;
+
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskStatusUpdate;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UpdateTaskStatusUseCaseTest {
+    @Mock
+    private TaskRepositoryPort taskRepository;
+
+    @Mock
+    private TaskEventPublisherPort taskEvents;
+
+    private UpdateTaskStatusUseCase updateTaskStatusUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        updateTaskStatusUseCase = new UpdateTaskStatusUseCase(taskRepository, taskEvents);
+    }
+
+    @Test
+    void testUpdateStatusReportsMissingIdsInRequestOrder() {
+        when(taskRepository.updateStatus(anyCollection(), eq(TaskStatus.DONE), any(Instant.class)))
+                .thenReturn(List.of(1L, 3L));
+
+        TaskStatusUpdate result = updateTaskStatusUseCase.execute(List.of(4L, 3L, 2L, 1L, 3L), TaskStatus.DONE);
+
+        assertThat(result.status()).isEqualTo(TaskStatus.DONE);
+        assertThat(result.updatedIds()).containsExactly(1L, 3L);
+        assertThat(result.missingIds()).containsExactly(4L, 2L);
+        // Duplicates are collapsed before hitting the database
+        verify(taskRepository).updateStatus(
+                argThat((Collection<Long> ids) -> ids.size() == 4), eq(TaskStatus.DONE), any(Instant.class));
+        // Only the rows that changed are announced
+        verify(taskEvents).publish(TaskEvent.updated(1L));
+        verify(taskEvents).publish(TaskEvent.updated(3L));
+        verify(taskEvents, never()).publish(TaskEvent.updated(4L));
+    }
+
+    @Test
+    void testUpdateStatusRejectsEmptyOrOversizedIdList() {
+        List<Long> tooMany = LongStream.rangeClosed(0, UpdateTaskStatusUseCase.MAX_IDS).boxed().toList();
+
+        assertThatThrownBy(() -> updateTaskStatusUseCase.execute(List.of(), TaskStatus.DONE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> updateTaskStatusUseCase.execute(tooMany, TaskStatus.DONE))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(taskRepository, never()).updateStatus(anyCollection(), any(), any());
+    }
+
+    @Test
+    void testUpdateStatusByFilterCommitsChunkByChunkAndReturnsTheCount() {
+        when(taskRepository.updateStatusByStatus(eq(TaskStatus.PENDING), eq(TaskStatus.DONE), any(Instant.class),
+                eq(UpdateTaskStatusUseCase.STATUS_CHUNK_SIZE)))
+                .thenReturn(List.of(5L, 6L), List.of(7L), List.of());
+
+        TaskStatusUpdate result = updateTaskStatusUseCase.executeByStatus(TaskStatus.PENDING, TaskStatus.DONE);
+
+        assertThat(result.updatedCount()).isEqualTo(3);
+        assertThat(result.updatedIds()).isEmpty();
+        assertThat(result.missingIds()).isEmpty();
+        verify(taskRepository, times(3)).updateStatusByStatus(
+                eq(TaskStatus.PENDING), eq(TaskStatus.DONE), any(Instant.class), anyInt());
+        verify(taskEvents).publish(TaskEvent.updated(5L));
+        verify(taskEvents).publish(TaskEvent.updated(6L));
+        verify(taskEvents).publish(TaskEvent.updated(7L));
+    }
+
+    @Test
+    void testLargeStatusChangeIsAnnouncedAsASingleReset() {
+        List<Long> firstChunk = LongStream.rangeClosed(1, UpdateTaskStatusUseCase.MAX_TASK_EVENTS).boxed().toList();
+        when(taskRepository.updateStatusByStatus(eq(TaskStatus.PENDING), eq(TaskStatus.DONE), any(Instant.class), anyInt()))
+                .thenReturn(firstChunk, List.of(1_000L), List.of());
+
+        TaskStatusUpdate result = updateTaskStatusUseCase.executeByStatus(TaskStatus.PENDING, TaskStatus.DONE);
+
+        assertThat(result.updatedCount()).isEqualTo(UpdateTaskStatusUseCase.MAX_TASK_EVENTS + 1);
+        verify(taskEvents).publish(TaskEvent.reset());
+        verify(taskEvents, times(1)).publish(any());
+    }
+
+    @Test
+    void testUpdateStatusOfManyIdsIsAnnouncedAsASingleReset() {
+        List<Long> ids = LongStream.rangeClosed(1, UpdateTaskStatusUseCase.MAX_TASK_EVENTS + 1).boxed().toList();
+        when(taskRepository.updateStatus(anyCollection(), eq(TaskStatus.DONE), any(Instant.class))).thenReturn(ids);
+
+        updateTaskStatusUseCase.execute(ids, TaskStatus.DONE);
+
+        verify(taskEvents).publish(TaskEvent.reset());
+        verify(taskEvents, times(1)).publish(any());
+    }
+
+    @Test
+    void testUpdateStatusByFilterRejectsSameStatus() {
+        assertThatThrownBy(() -> updateTaskStatusUseCase.executeByStatus(TaskStatus.DONE, TaskStatus.DONE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must differ");
+    }
+}
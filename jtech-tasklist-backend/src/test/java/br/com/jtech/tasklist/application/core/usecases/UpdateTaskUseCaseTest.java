@@ -1,7 +1,10 @@
 package br.com.jtech.tasklist.application.core.usecases;
 
 import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskEvent;
+import br.com.jtech.tasklist.application.core.domains.TaskPatch;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.ports.output.TaskEventPublisherPort;
 import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,7 +17,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,12 +28,15 @@ class UpdateTaskUseCaseTest {
     @Mock
     private TaskRepositoryPort taskRepository;
 
+    @Mock
+    private TaskEventPublisherPort taskEvents;
+
     private UpdateTaskUseCase updateTaskUseCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        updateTaskUseCase = new UpdateTaskUseCase(taskRepository);
+        updateTaskUseCase = new UpdateTaskUseCase(taskRepository, taskEvents);
     }
 
     @Test
@@ -38,11 +46,9 @@ class UpdateTaskUseCaseTest {
         String newDescription = "Updated Description";
         TaskStatus newStatus = TaskStatus.DONE;
 
-        Task existingTask = new Task(taskId, "Old Title", "Old Description", TaskStatus.PENDING, Instant.now(), Instant.now());
         Task updatedTask = new Task(taskId, newTitle, newDescription, newStatus, Instant.now(), Instant.now());
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.update(eq(taskId), any(TaskPatch.class))).thenReturn(Optional.of(updatedTask));
 
         Task result = updateTaskUseCase.execute(taskId, newTitle, newDescription, newStatus);
 
@@ -51,8 +57,14 @@ class UpdateTaskUseCaseTest {
         assertThat(result.getTitle()).isEqualTo(newTitle);
         assertThat(result.getDescription()).isEqualTo(newDescription);
         assertThat(result.getStatus()).isEqualTo(newStatus);
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, times(1)).update(eq(taskId), argThat(patch ->
+                newTitle.equals(patch.title())
+                        && newDescription.equals(patch.description())
+                        && patch.status() == newStatus
+                        && patch.updatedAt() != null));
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskEvents).publish(TaskEvent.updated(updatedTask));
     }
 
     @Test
@@ -61,32 +73,31 @@ class UpdateTaskUseCaseTest {
         String newTitle = "Updated Title";
         TaskStatus newStatus = TaskStatus.DONE;
 
-        Task existingTask = new Task(taskId, "Old Title", "Old Description", TaskStatus.PENDING, Instant.now(), Instant.now());
-        Task updatedTask = new Task(taskId, newTitle, null, newStatus, Instant.now(), Instant.now());
+        Task updatedTask = new Task(taskId, newTitle, "Old Description", newStatus, Instant.now(), Instant.now());
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.update(eq(taskId), any(TaskPatch.class))).thenReturn(Optional.of(updatedTask));
 
         Task result = updateTaskUseCase.execute(taskId, newTitle, null, newStatus);
 
+        // A null description is "not supplied": the stored value is kept
         assertThat(result).isNotNull();
-        assertThat(result.getDescription()).isNull();
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        assertThat(result.getDescription()).isEqualTo("Old Description");
+        verify(taskRepository, times(1)).update(eq(taskId), argThat(patch -> patch.description() == null));
     }
 
     @Test
     void testUpdateTaskNotFound() {
         Long taskId = 999L;
-        
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+
+        when(taskRepository.update(eq(taskId), any(TaskPatch.class))).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> updateTaskUseCase.execute(taskId, "Title", "Description", TaskStatus.PENDING))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessageContaining("Task with id 999 was not found");
 
-        verify(taskRepository, times(1)).findById(taskId);
+        verify(taskRepository, times(1)).update(eq(taskId), any(TaskPatch.class));
         verify(taskRepository, times(0)).save(any(Task.class));
+        verify(taskEvents, never()).publish(any());
     }
 
     @Test
@@ -96,31 +107,69 @@ class UpdateTaskUseCaseTest {
         String existingDescription = "Existing Description";
         TaskStatus existingStatus = TaskStatus.PENDING;
 
-        Task existingTask = new Task(taskId, "Old Title", existingDescription, existingStatus, Instant.now(), Instant.now());
         Task updatedTask = new Task(taskId, newTitle, existingDescription, existingStatus, Instant.now(), Instant.now());
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.update(eq(taskId), any(TaskPatch.class))).thenReturn(Optional.of(updatedTask));
 
-        Task result = updateTaskUseCase.execute(taskId, newTitle, existingDescription, existingStatus);
+        Task result = updateTaskUseCase.execute(taskId, newTitle, null, null);
 
         assertThat(result.getTitle()).isEqualTo(newTitle);
         assertThat(result.getDescription()).isEqualTo(existingDescription);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, times(1)).update(eq(taskId), argThat(patch ->
+                newTitle.equals(patch.title()) && patch.description() == null && patch.status() == null));
     }
 
     @Test
     void testUpdateTaskStatusChange() throws TaskNotFoundException {
         Long taskId = 1L;
-        Task existingTask = new Task(taskId, "Title", "Description", TaskStatus.PENDING, Instant.now(), Instant.now());
         Task updatedTask = new Task(taskId, "Title", "Description", TaskStatus.DONE, Instant.now(), Instant.now());
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.update(eq(taskId), any(TaskPatch.class))).thenReturn(Optional.of(updatedTask));
 
-        Task result = updateTaskUseCase.execute(taskId, "Title", "Description", TaskStatus.DONE);
+        Task result = updateTaskUseCase.execute(taskId, null, null, TaskStatus.DONE);
 
         assertThat(result.getStatus()).isEqualTo(TaskStatus.DONE);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, times(1)).update(eq(taskId), argThat(patch -> patch.status() == TaskStatus.DONE));
+    }
+
+    @Test
+    void testUpdateTaskRejectsBlankTitleWithoutWriting() {
+        assertThatThrownBy(() -> updateTaskUseCase.execute(1L, "  ", null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Title must not be blank");
+
+        verify(taskRepository, never()).update(any(), any());
+    }
+
+    @Test
+    void testUpdateTaskWithMatchingVersionIsConditional() throws Exception {
+        Task updatedTask = new Task(1L, "Title", "Description", TaskStatus.DONE, Instant.now(), Instant.now(), 4L);
+        when(taskRepository.update(eq(1L), any(TaskPatch.class))).thenReturn(Optional.of(updatedTask));
+
+        Task result = updateTaskUseCase.execute(1L, null, null, TaskStatus.DONE, 3L);
+
+        assertThat(result.getVersion()).isEqualTo(4L);
+        verify(taskRepository).update(eq(1L), argThat(patch -> Long.valueOf(3L).equals(patch.expectedVersion())));
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void testUpdateTaskWithStaleVersionThrowsConflict() {
+        Task current = new Task(1L, "Title", "Description", TaskStatus.DONE, Instant.now(), Instant.now(), 5L);
+        when(taskRepository.update(eq(1L), any(TaskPatch.class))).thenReturn(Optional.empty());
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(current));
+
+        assertThatThrownBy(() -> updateTaskUseCase.execute(1L, "Late", null, null, 3L))
+                .isInstanceOf(TaskVersionConflictException.class)
+                .hasMessageContaining("is at version 5, expected 3");
+    }
+
+    @Test
+    void testUpdateTaskWithVersionOnMissingTaskThrowsNotFound() {
+        when(taskRepository.update(eq(999L), any(TaskPatch.class))).thenReturn(Optional.empty());
+        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> updateTaskUseCase.execute(999L, "Title", null, null, 1L))
+                .isInstanceOf(TaskNotFoundException.class);
     }
 }
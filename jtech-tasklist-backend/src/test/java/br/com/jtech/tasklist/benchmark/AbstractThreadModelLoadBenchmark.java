@@ -0,0 +1,216 @@
+package br.com.jtech.tasklist.benchmark;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 1,000 concurrent HTTP clients against a database that holds every connection for
+ * {@value #DB_LATENCY_MILLIS} ms: 90% cached GET /tasks/{id}, 10% PUT /tasks/{id} that need
+ * one of the {@value #POOL_SIZE} pooled connections. Subclasses pick the request thread model;
+ * compare the throughput and p50/p99 TestReporter entries of the two runs. Asserts only relations
+ * that hold for either model (under 1% errors, writes capped by the pool, cached reads not starved by
+ * them),
+ * never absolute numbers. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "tasklist.cache.enabled=true",
+        "spring.datasource.hikari.maximum-pool-size=" + AbstractThreadModelLoadBenchmark.POOL_SIZE,
+        "spring.datasource.hikari.connection-timeout=3000"
+})
+@ActiveProfiles("test")
+@Import(AbstractThreadModelLoadBenchmark.SlowDatabase.class)
+abstract class AbstractThreadModelLoadBenchmark {
+    static final int POOL_SIZE = 10;
+    static final long DB_LATENCY_MILLIS = 20;
+    private static final int CLIENTS = 1_000;
+    private static final int HOT_TASKS = 100;
+    private static final int WRITE_PERCENT = 10;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(15);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    protected abstract String threadModel();
+
+    @Test
+    void throughputAndTailLatencyUnderSlowDatabase(TestReporter reporter) throws Exception {
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("""
+                INSERT INTO tasks (title, description, status, created_at, updated_at)
+                SELECT 'Load task ' || X, NULL, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)""", HOT_TASKS);
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM tasks", Long.class);
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clients)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            run(http, clients, ids, WARMUP, new SimpleMeterRegistry());
+
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            Result result = run(http, clients, ids, MEASUREMENT, registry);
+            Timer reads = registry.get("load.requests").tag("op", "read").timer();
+            Timer writes = registry.get("load.requests").tag("op", "write").timer();
+
+            reporter.publishEntry(report(reads, writes, result));
+
+            // Pool timeouts under overload are tolerated, as long as they stay rare
+            assertThat(result.errors()).isLessThanOrEqualTo((reads.count() + writes.count()) / 100);
+            // Every write holds a pooled connection for at least the injected latency
+            double writesPerSecond = writes.count() / (double) MEASUREMENT.toSeconds();
+            assertThat(writesPerSecond).isLessThanOrEqualTo(POOL_SIZE * 1000.0 / DB_LATENCY_MILLIS);
+            assertThat(reads.count()).isGreaterThan(writes.count());
+        }
+    }
+
+    private Map<String, String> report(Timer reads, Timer writes, Result result) {
+        String model = threadModel();
+        Map<String, String> entry = new LinkedHashMap<>();
+        entry.put(model + ".requests_per_second", String.format(Locale.ROOT, "%.0f",
+                (reads.count() + writes.count()) / (double) MEASUREMENT.toSeconds()));
+        entry.put(model + ".read.p50_ms", String.format(Locale.ROOT, "%.1f", percentile(reads, 0.5)));
+        entry.put(model + ".read.p99_ms", String.format(Locale.ROOT, "%.1f", percentile(reads, 0.99)));
+        entry.put(model + ".write.p50_ms", String.format(Locale.ROOT, "%.1f", percentile(writes, 0.5)));
+        entry.put(model + ".write.p99_ms", String.format(Locale.ROOT, "%.1f", percentile(writes, 0.99)));
+        entry.put(model + ".errors", Long.toString(result.errors()));
+        return entry;
+    }
+
+    private Result run(HttpClient http, ExecutorService clients, List<Long> ids, Duration duration,
+                       SimpleMeterRegistry registry) throws InterruptedException {
+        Timer reads = latencyTimer(registry, "read");
+        Timer writes = latencyTimer(registry, "write");
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<?>> running = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            running.add(clients.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    long id = ids.get(random.nextInt(ids.size()));
+                    boolean write = random.nextInt(100) < WRITE_PERCENT;
+                    HttpRequest request = write
+                            ? HttpRequest.newBuilder(uri("/tasks/" + id))
+                                .header("Content-Type", "application/json")
+                                .PUT(HttpRequest.BodyPublishers.ofString("{\"status\": \"" + (random.nextBoolean() ? "pendente" : "concluída") + "\"}"))
+                                .build()
+                            : HttpRequest.newBuilder(uri("/tasks/" + id)).GET().build();
+                    long start = System.nanoTime();
+                    try {
+                        int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status >= 500) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        errors.incrementAndGet();
+                    }
+                    (write ? writes : reads).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }));
+        }
+        for (Future<?> client : running) {
+            try {
+                client.get();
+            } catch (ExecutionException ex) {
+                errors.incrementAndGet();
+            }
+        }
+        return new Result(errors.get());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static Timer latencyTimer(SimpleMeterRegistry registry, String op) {
+        return Timer.builder("load.requests")
+                .tag("op", op)
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    private static double percentile(Timer timer, double percentile) {
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Double.NaN;
+    }
+
+    private record Result(long errors) {
+    }
+
+    /**
+     * Holds every checked-out connection for {@link #DB_LATENCY_MILLIS} before use, like a slow network or a busy database.
+     */
+    @TestConfiguration
+    static class SlowDatabase {
+        @Bean
+        static BeanPostProcessor slowDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+                            ? new DelegatingDataSource(dataSource) {
+                                @Override
+                                public Connection getConnection() throws SQLException {
+                                    Connection connection = super.getConnection();
+                                    try {
+                                        Thread.sleep(DB_LATENCY_MILLIS);
+                                    } catch (InterruptedException ex) {
+                                        Thread.currentThread().interrupt();
+                                    }
+                                    return connection;
+                                }
+                            }
+                            : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.jtech.tasklist.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Baseline: Tomcat's pool of 200 platform threads.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadsLoadBenchmarkTest extends AbstractThreadModelLoadBenchmark {
+
+    @Override
+    protected String threadModel() {
+        return "platform";
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.jtech.tasklist.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rows/sec and peak heap of GET /tasks/export over a real socket at growing table sizes, published
+ * as TestReporter entries; the heap figure should stay roughly flat while the row count grows. Asserts
+ * only that rows/sec at the largest table keeps at least half of the smallest one, i.e. the per-row
+ * cost does not grow with the table. Excluded from {@code test}; run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class TaskExportThroughputBenchmarkTest {
+    private static final int[] TABLE_SIZES = {10_000, 100_000, 500_000};
+    private static final String[] FORMATS = {"ndjson", "csv"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void exportThroughputAndHeapAtGrowingTableSizes(TestReporter reporter) throws Exception {
+        jdbcTemplate.update("DELETE FROM tasks");
+        Map<String, Result> smallest = new HashMap<>();
+        Map<String, Result> largest = new HashMap<>();
+        int seeded = 0;
+        for (int rows : TABLE_SIZES) {
+            seed(seeded + 1, rows);
+            seeded = rows;
+            for (String format : FORMATS) {
+                // The first run warms up the code path; the second one is reported
+                export(format);
+                Result result = export(format);
+                reporter.publishEntry(report(format + "." + rows, result));
+                smallest.putIfAbsent(format, result);
+                largest.put(format, result);
+            }
+        }
+        for (String format : FORMATS) {
+            assertThat(largest.get(format).rowsPerSecond())
+                    .isGreaterThanOrEqualTo(smallest.get(format).rowsPerSecond() / 2);
+        }
+    }
+
+    private static Map<String, String> report(String key, Result result) {
+        Map<String, String> entry = new LinkedHashMap<>();
+        entry.put(key + ".rows_per_second", String.format(Locale.ROOT, "%.0f", result.rowsPerSecond()));
+        entry.put(key + ".mb_per_second", String.format(Locale.ROOT, "%.1f", result.megabytesPerSecond()));
+        entry.put(key + ".peak_heap_mb", String.format(Locale.ROOT, "%.1f", result.peakHeapMegabytes()));
+        return entry;
+    }
+
+    private void seed(int fromRow, int toRow) {
+        jdbcTemplate.update("""
+                INSERT INTO tasks (title, description, status, created_at, updated_at)
+                SELECT 'Export task ' || X, 'Benchmark row with a moderately long description', 'PENDING',
+                       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(?, ?)""", fromRow, toRow);
+    }
+
+    private Result export(String format) throws Exception {
+        long expectedRows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+        AtomicLong peak = new AtomicLong(baseline);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, 10, TimeUnit.MILLISECONDS);
+
+        long lines = 0;
+        long bytes = 0;
+        long start = System.nanoTime();
+        try {
+            HttpResponse<InputStream> response = client.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks/export?format=" + format)).build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    bytes += read;
+                    for (int i = 0; i < read; i++) {
+                        if (buffer[i] == '\n') {
+                            lines++;
+                        }
+                    }
+                }
+            }
+        } finally {
+            sampler.shutdownNow();
+        }
+        long nanos = System.nanoTime() - start;
+
+        long rows = "csv".equals(format) ? lines - 1 : lines;
+        assertThat(rows).isEqualTo(expectedRows);
+        return new Result(rows / (nanos / 1e9), bytes / (nanos / 1e9) / 1e6, (peak.get() - baseline) / 1e6);
+    }
+
+    private record Result(double rowsPerSecond, double megabytesPerSecond, double peakHeapMegabytes) {
+    }
+}
@@ -0,0 +1,211 @@
+package br.com.jtech.tasklist.benchmark;
+
+import br.com.jtech.tasklist.adapters.output.repositories.GroupCommitTaskRepositoryAdapter;
+import br.com.jtech.tasklist.adapters.output.repositories.TaskRepositoryAdapter;
+import br.com.jtech.tasklist.application.core.domains.Task;
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@value #CLIENTS} concurrent creators against a database that spends {@value #FSYNC_MICROS} µs
+ * in every commit, like a synchronous WAL flush: one commit per task (the direct path behind
+ * POST /tasks) against {@link GroupCommitTaskRepositoryAdapter}. Commits per second, rows per second
+ * and p50/p99 latency of each save for both paths go to the JUnit report (TestReporter entries), not
+ * to the console. Asserts only relations (fewer commits, more rows per second, grouped p99 bounded by
+ * max-delay plus the flushes measured in the same run), never absolute numbers, so the result does
+ * not depend on the machine. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.datasource.hikari.maximum-pool-size=" + TaskGroupCommitBenchmarkTest.POOL_SIZE)
+@ActiveProfiles("test")
+@Import(TaskGroupCommitBenchmarkTest.SlowCommits.class)
+class TaskGroupCommitBenchmarkTest {
+    static final int POOL_SIZE = 10;
+    static final long FSYNC_MICROS = 2_000;
+    private static final int CLIENTS = 200;
+    private static final int TASKS_PER_CLIENT = 25;
+    private static final int MAX_BATCH = 50;
+    private static final Duration MAX_DELAY = Duration.ofNanos(500_000);
+    private static final AtomicLong COMMITS = new AtomicLong();
+
+    @Autowired
+    private TaskRepositoryAdapter taskRepositoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        GroupCommitTaskRepositoryAdapter warmup = groupCommit(new SimpleMeterRegistry());
+        try {
+            run(taskRepositoryAdapter);
+            run(warmup);
+        } finally {
+            warmup.stop();
+        }
+        jdbcTemplate.update("DELETE FROM tasks");
+    }
+
+    @Test
+    void compareDirectAndGroupCommit(TestReporter reporter) throws Exception {
+        Result direct = run(taskRepositoryAdapter);
+        SimpleMeterRegistry groupMeters = new SimpleMeterRegistry();
+        GroupCommitTaskRepositoryAdapter grouped = groupCommit(groupMeters);
+        Result group;
+        try {
+            group = run(grouped);
+        } finally {
+            grouped.stop();
+        }
+
+        int rows = CLIENTS * TASKS_PER_CLIENT;
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class)).isEqualTo(2L * rows);
+        assertThat(direct.commits()).isGreaterThanOrEqualTo(rows);
+        assertThat(group.commits()).isLessThan(direct.commits());
+        assertThat(group.rowsPerSecond()).isGreaterThan(direct.rowsPerSecond());
+
+        // At most CLIENTS saves are pending, so a call waits out max-delay and at most that many
+        // batches flushing ahead of and including its own; the slowest flush includes the commit
+        double slowestFlush = groupMeters.get("tasklist.groupcommit.flush").timer().max(TimeUnit.NANOSECONDS);
+        long batchesAhead = CLIENTS / MAX_BATCH + 1;
+        assertThat((double) group.percentileNanos(0.99))
+                .isLessThanOrEqualTo(MAX_DELAY.toNanos() + batchesAhead * slowestFlush);
+
+        reporter.publishEntry(report("direct", direct));
+        reporter.publishEntry(report("group", group));
+    }
+
+    private static Map<String, String> report(String path, Result result) {
+        Map<String, String> entry = new LinkedHashMap<>();
+        entry.put(path + ".commits_per_second", String.format(Locale.ROOT, "%.0f", result.commitsPerSecond()));
+        entry.put(path + ".rows_per_second", String.format(Locale.ROOT, "%.0f", result.rowsPerSecond()));
+        entry.put(path + ".p50_ms", String.format(Locale.ROOT, "%.3f", result.percentileNanos(0.50) / 1e6));
+        entry.put(path + ".p99_ms", String.format(Locale.ROOT, "%.3f", result.percentileNanos(0.99) / 1e6));
+        return entry;
+    }
+
+    private GroupCommitTaskRepositoryAdapter groupCommit(MeterRegistry meterRegistry) {
+        GroupCommitTaskRepositoryAdapter adapter = new GroupCommitTaskRepositoryAdapter(
+                taskRepositoryAdapter, MAX_BATCH, MAX_DELAY, meterRegistry);
+        adapter.start();
+        return adapter;
+    }
+
+    private Result run(TaskRepositoryPort repository) throws Exception {
+        long[] latencies = new long[CLIENTS * TASKS_PER_CLIENT];
+        AtomicInteger saved = new AtomicInteger();
+        long commitsBefore = COMMITS.get();
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int client = c;
+                running.add(clients.submit(() -> {
+                    for (int i = 0; i < TASKS_PER_CLIENT; i++) {
+                        Task task = new Task("Benchmark " + client + "-" + i, "Group commit run", TaskStatus.PENDING);
+                        long called = System.nanoTime();
+                        repository.save(task);
+                        latencies[saved.getAndIncrement()] = System.nanoTime() - called;
+                    }
+                }));
+            }
+            for (Future<?> client : running) {
+                client.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        // Futures joined above, so every slot written by the clients is visible here
+        long[] sorted = Arrays.copyOf(latencies, saved.get());
+        Arrays.sort(sorted);
+        return new Result(sorted.length, COMMITS.get() - commitsBefore, elapsed, sorted);
+    }
+
+    private record Result(long rows, long commits, long elapsedNanos, long[] sortedLatencies) {
+        double rowsPerSecond() {
+            return rows / (elapsedNanos / 1e9);
+        }
+
+        double commitsPerSecond() {
+            return commits / (elapsedNanos / 1e9);
+        }
+
+        long percentileNanos(double quantile) {
+            int rank = (int) Math.ceil(quantile * sortedLatencies.length);
+            return sortedLatencies[Math.max(rank, 1) - 1];
+        }
+    }
+
+    /**
+     * Counts every commit and holds it for {@link #FSYNC_MICROS}; H2 in memory has no log to flush.
+     */
+    @TestConfiguration
+    static class SlowCommits {
+        @Bean
+        static BeanPostProcessor slowCommitDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+                            ? new DelegatingDataSource(dataSource) {
+                                @Override
+                                public Connection getConnection() throws SQLException {
+                                    return slowCommits(super.getConnection());
+                                }
+                            }
+                            : bean;
+                }
+            };
+        }
+
+        private static Connection slowCommits(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("commit".equals(method.getName())) {
+                            COMMITS.incrementAndGet();
+                            Thread.sleep(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(FSYNC_MICROS)));
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException ex) {
+                            throw ex.getCause();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.jtech.tasklist.benchmark;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Rows/sec of POST /tasks (one INSERT per request) against POST /tasks/batch (JDBC batches
+ * in one transaction), published as TestReporter entries. Asserts only that batches are faster, so
+ * the result does not depend on the machine. Excluded from {@code test}; run with
+ * {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskInsertThroughputBenchmarkTest {
+    private static final int ROWS = 2_000;
+    private static final int BATCH_SIZE = 500;
+    private static final int WARMUP_ROWS = 500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        insertOneByOne(WARMUP_ROWS);
+        insertInBatches(WARMUP_ROWS);
+        jdbcTemplate.update("DELETE FROM tasks");
+    }
+
+    @Test
+    void compareSingleAndBatchInsertThroughput(TestReporter reporter) throws Exception {
+        long singleNanos = insertOneByOne(ROWS);
+        long batchNanos = insertInBatches(ROWS);
+
+        double singleRowsPerSecond = ROWS / (singleNanos / 1e9);
+        double batchRowsPerSecond = ROWS / (batchNanos / 1e9);
+        reporter.publishEntry(Map.of(
+                "single.rows_per_second", String.format(Locale.ROOT, "%.0f", singleRowsPerSecond),
+                "batch.rows_per_second", String.format(Locale.ROOT, "%.0f", batchRowsPerSecond),
+                "speedup", String.format(Locale.ROOT, "%.1f", batchRowsPerSecond / singleRowsPerSecond)));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class)).isEqualTo(2L * ROWS);
+        assertThat(batchRowsPerSecond).isGreaterThan(singleRowsPerSecond);
+    }
+
+    private long insertOneByOne(int rows) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            mockMvc.perform(post("/tasks")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(taskJson(i)))
+                    .andExpect(status().isCreated());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long insertInBatches(int rows) throws Exception {
+        long start = System.nanoTime();
+        for (int offset = 0; offset < rows; offset += BATCH_SIZE) {
+            StringJoiner body = new StringJoiner(",", "[", "]");
+            for (int i = offset; i < Math.min(rows, offset + BATCH_SIZE); i++) {
+                body.add(taskJson(i));
+            }
+            mockMvc.perform(post("/tasks/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body.toString()))
+                    .andExpect(status().isCreated());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static String taskJson(int i) {
+        return "{\"title\": \"Benchmark task " + i + "\", \"description\": \"Throughput run\"}";
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.jtech.tasklist.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * One virtual thread per request; pinned carriers are logged by the pinning monitor during the run.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadsLoadBenchmarkTest extends AbstractThreadModelLoadBenchmark {
+
+    @Override
+    protected String threadModel() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Two separate in-memory databases, each naming itself
+        primary = database("routing_primary");
+        replica = database("routing_replica");
+    }
+
+    @Test
+    void testOnlyReadUseCasesGoToTheReplica() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new ReadWriteRoutingDataSource(primary, replica, Duration.ofSeconds(30), meterRegistry));
+
+        assertThat(node(jdbcTemplate)).isEqualTo("routing_primary");
+        assertThat(readThroughUseCase(jdbcTemplate)).isEqualTo("routing_replica");
+        assertThat(node(jdbcTemplate)).isEqualTo("routing_primary");
+        assertThat(meterRegistry.get("tasklist.datasource.connections").tag("target", "replica").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testPinnedThreadReadsFromThePrimary() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new ReadWriteRoutingDataSource(primary, replica, Duration.ofSeconds(30), meterRegistry));
+
+        ReadRoute.pinToPrimary();
+        try {
+            assertThat(readThroughUseCase(jdbcTemplate)).isEqualTo("routing_primary");
+        } finally {
+            ReadRoute.unpin();
+        }
+        assertThat(readThroughUseCase(jdbcTemplate)).isEqualTo("routing_replica");
+    }
+
+    @Test
+    void testUnreachableReplicaFallsBackToThePrimaryAndIsSkippedForAWhile() {
+        DataSource down = new DriverManagerDataSource("jdbc:h2:mem:routing_missing;IFEXISTS=TRUE", "sa", "");
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, down, Duration.ofMinutes(1), meterRegistry);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+
+        assertThat(readThroughUseCase(jdbcTemplate)).isEqualTo("routing_primary");
+        assertThat(readThroughUseCase(jdbcTemplate)).isEqualTo("routing_primary");
+
+        // Only the first read paid for the failed attempt
+        assertThat(meterRegistry.get("tasklist.datasource.replica.fallbacks").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("tasklist.datasource.replica.available").gauge().value()).isZero();
+        assertThat(routing.replicaAvailable()).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String readThroughUseCase(JdbcTemplate jdbcTemplate) {
+        Supplier<String> read = () -> node(jdbcTemplate);
+        ProxyFactory factory = new ProxyFactory(read);
+        factory.addAdvice(new ReplicaReadInterceptor());
+        return ((Supplier<String>) factory.getProxy()).get();
+    }
+
+    private static String node(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(50))");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.jtech.tasklist.config.infra.datasource;
+
+import br.com.jtech.tasklist.config.infra.client.ClientIdentity;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(
+            Duration.ofMinutes(1), new ClientIdentity(Set.of("writer", "someone-else", "rejected")));
+
+    @Test
+    void testClientThatJustWroteReadsFromThePrimary() throws Exception {
+        send("POST", "writer", 201);
+
+        assertThat(readsFromReplica("writer")).isFalse();
+        assertThat(readsFromReplica("someone-else")).isTrue();
+    }
+
+    @Test
+    void testFailedWritesDoNotPin() throws Exception {
+        send("PUT", "rejected", 400);
+
+        assertThat(readsFromReplica("rejected")).isTrue();
+    }
+
+    private void send(String method, String client, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/tasks");
+        request.addHeader(ClientIdentity.HEADER, client);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                resp.setStatus(status);
+            }
+        }));
+    }
+
+    private boolean readsFromReplica(String client) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        request.addHeader(ClientIdentity.HEADER, client);
+        AtomicBoolean onReplica = new AtomicBoolean();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                ReadRoute.enterReplica();
+                try {
+                    onReplica.set(ReadRoute.onReplica());
+                } finally {
+                    ReadRoute.leaveReplica();
+                }
+            }
+        }));
+        return onReplica.get();
+    }
+}
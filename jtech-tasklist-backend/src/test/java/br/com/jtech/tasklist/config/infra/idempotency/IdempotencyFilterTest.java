@@ -0,0 +1,203 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import br.com.jtech.tasklist.config.infra.client.ClientIdentity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+    private static final int MAX_BODY = 1_024;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotencyFilter filter = new IdempotencyFilter(
+            new InMemoryIdempotencyStore(1_000_000, Duration.ofHours(1)), new ObjectMapper(), meterRegistry,
+            List.of("POST /tasks"), Duration.ofSeconds(5),
+            new ClientIdentity(Set.of("client-b")), MAX_BODY);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void testRetryGetsTheFirstResponseWithoutExecutingAgain() throws Exception {
+        MockHttpServletResponse first = send("key-1", "{\"title\": \"A\"}", null);
+        MockHttpServletResponse retry = send("key-1", "{\"title\": \"A\"}", null);
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void testConcurrentDuplicatesCollapseIntoOneExecution() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<MockHttpServletResponse>> responses = IntStream.range(0, 20)
+                    .mapToObj(i -> clients.submit(() -> send("storm", "{\"title\": \"A\"}", release)))
+                    .toList();
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<MockHttpServletResponse> response : responses) {
+                assertThat(response.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+            }
+        }
+
+        assertThat(executions).hasValue(1);
+        assertThat(meterRegistry.get("tasklist.idempotency.requests").tag("outcome", "collapsed").counter().count()).isEqualTo(19);
+    }
+
+    @Test
+    void testKeyReusedWithAnotherBodyIsRefused() throws Exception {
+        send("key-2", "{\"title\": \"A\"}", null);
+
+        MockHttpServletResponse other = send("key-2", "{\"title\": \"B\"}", null);
+
+        assertThat(other.getStatus()).isEqualTo(422);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void testServerErrorsAreNotRecorded() throws Exception {
+        assertThat(send("key-3", "{\"fail\": true}", null).getStatus()).isEqualTo(503);
+        assertThat(send("key-3", "{\"fail\": true}", null).getStatus()).isEqualTo(503);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void testOversizedBodyIsRefusedBeforeReachingTheController() throws Exception {
+        String body = "{\"title\": \"" + "A".repeat(MAX_BODY) + "\"}";
+
+        MockHttpServletResponse response = send("key-5", body, null);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(response.getContentType()).isEqualTo("application/problem+json");
+        assertThat(executions).hasValue(0);
+        assertThat(meterRegistry.get("tasklist.idempotency.requests").tag("outcome", "too_large").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testOversizedBodyWithoutContentLengthIsRefused() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/tasks") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setContentType("application/json");
+        request.setContent(new byte[MAX_BODY + 1]);
+        request.addHeader(IdempotencyFilter.KEY_HEADER, "key-6");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(controller(null)));
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    void testBodyAtTheLimitIsAccepted() throws Exception {
+        String prefix = "{\"title\": \"";
+        String body = prefix + "A".repeat(MAX_BODY - prefix.length() - 2) + "\"}";
+
+        assertThat(send("key-7", body, null).getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void testSameKeyFromAnotherClientExecutesAgain() throws Exception {
+        send("shared-key", "{\"title\": \"A\"}", null);
+
+        MockHttpServletResponse other = send("shared-key", "{\"title\": \"A\"}", null, "client-b");
+
+        assertThat(executions).hasValue(2);
+        assertThat(other.getContentAsString()).isEqualTo("{\"id\":2}");
+        assertThat(other.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void testUnknownClientKeyDoesNotEscapeTheAddressScope() throws Exception {
+        send("shared-key", "{\"title\": \"A\"}", null);
+
+        MockHttpServletResponse retry = send("shared-key", "{\"title\": \"A\"}", null, "made-up");
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void testRequestsWithoutKeyOrOnOtherEndpointsPassThrough() throws Exception {
+        send(null, "{\"title\": \"A\"}", null);
+        send(null, "{\"title\": \"A\"}", null);
+
+        MockHttpServletRequest other = new MockHttpServletRequest("POST", "/tasks/import");
+        other.addHeader(IdempotencyFilter.KEY_HEADER, "key-4");
+        filter.doFilter(other, new MockHttpServletResponse(), new MockFilterChain(controller(null)));
+        filter.doFilter(other, new MockHttpServletResponse(), new MockFilterChain(controller(null)));
+
+        assertThat(executions).hasValue(4);
+    }
+
+    private MockHttpServletResponse send(String key, String body, CountDownLatch release) throws Exception {
+        return send(key, body, release, null);
+    }
+
+    private MockHttpServletResponse send(String key, String body, CountDownLatch release, String client) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/tasks");
+        if (client != null) {
+            request.addHeader(ClientIdentity.HEADER, client);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.KEY_HEADER, key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(controller(release)));
+        return response;
+    }
+
+    private HttpServlet controller(CountDownLatch release) {
+        return new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                int execution = executions.incrementAndGet();
+                String body = new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                if (release != null) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                if (body.contains("fail")) {
+                    resp.setStatus(503);
+                    return;
+                }
+                resp.setStatus(201);
+                resp.setContentType("application/json");
+                resp.getWriter().write("{\"id\":" + execution + "}");
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.jtech.tasklist.config.infra.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcIdempotencyStoreTest {
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:idempotency;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS idempotency_keys (
+                    idem_key VARCHAR(400) PRIMARY KEY, fingerprint VARCHAR(64), status INT,
+                    content_type VARCHAR(200), location VARCHAR(500), body VARBINARY,
+                    created_at TIMESTAMP NOT NULL, completed_at TIMESTAMP)""");
+        jdbcTemplate.update("DELETE FROM idempotency_keys");
+    }
+
+    @Test
+    void testOnlyOneInstanceReservesAKeyAndOthersReadTheResponse() {
+        JdbcIdempotencyStore first = new JdbcIdempotencyStore(jdbcTemplate, Duration.ofHours(1), Duration.ofSeconds(30));
+        JdbcIdempotencyStore second = new JdbcIdempotencyStore(jdbcTemplate, Duration.ofHours(1), Duration.ofSeconds(30));
+
+        assertThat(first.reserve("POST /tasks k")).isTrue();
+        assertThat(second.reserve("POST /tasks k")).isFalse();
+        assertThat(second.find("POST /tasks k")).isEmpty();
+
+        first.complete("POST /tasks k", new IdempotentResponse("abc", 201, "application/json", null,
+                "{\"id\":7}".getBytes(StandardCharsets.UTF_8)));
+
+        IdempotentResponse replay = second.find("POST /tasks k").orElseThrow();
+        assertThat(replay.status()).isEqualTo(201);
+        assertThat(new String(replay.body(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":7}");
+    }
+
+    @Test
+    void testReleasedAndLapsedReservationsCanBeTakenAgain() {
+        JdbcIdempotencyStore store = new JdbcIdempotencyStore(jdbcTemplate, Duration.ofHours(1), Duration.ofSeconds(30));
+
+        assertThat(store.reserve("released")).isTrue();
+        store.release("released");
+        assertThat(store.reserve("released")).isTrue();
+
+        // Left behind by an instance that died mid-request
+        assertThat(store.reserve("lapsed")).isTrue();
+        jdbcTemplate.update("UPDATE idempotency_keys SET created_at = DATEADD('MINUTE', -1, created_at) WHERE idem_key = 'lapsed'");
+        assertThat(store.reserve("lapsed")).isTrue();
+    }
+
+    @Test
+    void testExpiredResponsesArePurged() {
+        JdbcIdempotencyStore store = new JdbcIdempotencyStore(jdbcTemplate, Duration.ofHours(1), Duration.ofSeconds(30));
+        store.reserve("old");
+        store.complete("old", new IdempotentResponse("abc", 201, null, null, new byte[0]));
+        jdbcTemplate.update("UPDATE idempotency_keys SET created_at = DATEADD('HOUR', -2, created_at)");
+
+        assertThat(store.find("old")).isEmpty();
+        assertThat(store.purgeExpired()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.jtech.tasklist.config.infra.metrics;
+
+import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskView;
+import br.com.jtech.tasklist.application.core.usecases.GetTaskByIdUseCase;
+import br.com.jtech.tasklist.application.core.usecases.ListTasksUseCase;
+import br.com.jtech.tasklist.application.core.usecases.TaskNotFoundException;
+import br.com.jtech.tasklist.application.ports.output.TaskArchivePort;
+import br.com.jtech.tasklist.application.ports.output.TaskRepositoryPort;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+class MeteredProxiesTest {
+    @Mock
+    private TaskRepositoryPort taskRepository;
+
+    @Mock
+    private TaskArchivePort taskArchive;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskRepositoryPort meteredRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        meteredRepository = MeteredProxies.repository(taskRepository, meterRegistry, Set.of("findAll", "updateStatusByStatus"));
+    }
+
+    @Test
+    void testUseCaseAndRepositoryCallsAreTimedWithFilterAndPageSize() {
+        Page<TaskView> page = new PageImpl<>(List.of());
+        when(taskRepository.findAll(any(), any(TaskStatus.class))).thenReturn(page);
+        ListTasksUseCase listTasksUseCase = MeteredProxies.useCase(
+                new ListTasksUseCase(meteredRepository, taskArchive), meterRegistry, Set.of("execute"));
+
+        assertThat(listTasksUseCase.execute(PageRequest.of(0, 20), TaskStatus.DONE)).isSameAs(page);
+
+        Timer useCase = meterRegistry.get(MeteredProxies.USE_CASE_TIMER)
+                .tags("component", "ListTasksUseCase", "method", "execute",
+                        "status", "done", "page_size", "<=20", "outcome", "success")
+                .timer();
+        Timer repository = meterRegistry.get(MeteredProxies.REPOSITORY_TIMER)
+                .tags("component", "TaskRepositoryPort", "method", "findAll",
+                        "status", "done", "page_size", "<=20", "outcome", "success")
+                .timer();
+        assertThat(useCase.count()).isEqualTo(1);
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void testStatusBeingWrittenIsNotTaggedAsAFilter() {
+        when(taskRepository.updateStatusByStatus(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        meteredRepository.updateStatus(List.of(1L), TaskStatus.DONE, Instant.now());
+        meteredRepository.updateStatusByStatus(TaskStatus.PENDING, TaskStatus.DONE, Instant.now(), 10);
+
+        assertThat(meterRegistry.get(MeteredProxies.REPOSITORY_TIMER)
+                .tags("method", "updateStatus", "status", "none").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MeteredProxies.REPOSITORY_TIMER)
+                .tags("method", "updateStatusByStatus", "status", "pending").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testPageSizeIsBucketed() {
+        assertThat(TimedInvocationInterceptor.pageSize(1)).isEqualTo("<=20");
+        assertThat(TimedInvocationInterceptor.pageSize(20)).isEqualTo("<=20");
+        assertThat(TimedInvocationInterceptor.pageSize(21)).isEqualTo("<=100");
+        assertThat(TimedInvocationInterceptor.pageSize(100)).isEqualTo("<=100");
+        assertThat(TimedInvocationInterceptor.pageSize(5_000)).isEqualTo(">100");
+    }
+
+    @Test
+    void testFailuresAreTaggedByOutcomeAndRethrown() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        GetTaskByIdUseCase getTaskByIdUseCase = MeteredProxies.useCase(new GetTaskByIdUseCase(meteredRepository, taskArchive), meterRegistry);
+
+        assertThatThrownBy(() -> getTaskByIdUseCase.execute(1L)).isInstanceOf(TaskNotFoundException.class);
+
+        assertThat(meterRegistry.get(MeteredProxies.USE_CASE_TIMER)
+                .tags("method", "execute", "status", "none", "page_size", "none", "outcome", "not_found")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MeteredProxies.REPOSITORY_TIMER)
+                .tags("method", "findById", "outcome", "not_found")
+                .timer().count()).isEqualTo(1);
+        assertThat(TimedInvocationInterceptor.outcome(new IllegalArgumentException())).isEqualTo("validation_error");
+        assertThat(TimedInvocationInterceptor.outcome(new IllegalStateException())).isEqualTo("error");
+    }
+
+    @Test
+    void testObjectMethodsAreNotTimed() {
+        meteredRepository.toString();
+
+        assertThat(meterRegistry.find(MeteredProxies.REPOSITORY_TIMER).timers()).isEmpty();
+    }
+}
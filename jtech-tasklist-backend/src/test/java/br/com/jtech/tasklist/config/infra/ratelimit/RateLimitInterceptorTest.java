@@ -0,0 +1,106 @@
+package br.com.jtech.tasklist.config.infra.ratelimit;
+
+import br.com.jtech.tasklist.config.infra.client.ClientIdentity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitInterceptorTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitInterceptor interceptor = new RateLimitInterceptor(
+            properties(), new ClientIdentity(Set.of("client-a", "client-b")), meterRegistry);
+
+    @Test
+    void testRequestsOverTheRouteLimitAreRefusedWithRetryAfter() {
+        assertThat(admit("GET", "/tasks", "client-a")).isTrue();
+        assertThat(admit("GET", "/tasks", "client-a")).isTrue();
+
+        assertThatThrownBy(() -> admit("GET", "/tasks", "client-a"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, ex -> {
+                    assertThat(ex.getRetryAfter()).isPositive();
+                    assertThat(ex.getMessage()).contains("GET /tasks");
+                });
+        assertThat(meterRegistry.get("tasklist.ratelimit.throttled")
+                .tag("method", "GET").tag("uri", "/tasks").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("tasklist.ratelimit.admitted").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testClientsAndRoutesHaveSeparateBuckets() {
+        admit("GET", "/tasks", "client-a");
+        admit("GET", "/tasks", "client-a");
+
+        assertThat(admit("GET", "/tasks", "client-b")).isTrue();
+        assertThat(admit("GET", "/tasks/{id}", "client-a")).isTrue();
+        assertThat(admit("POST", "/tasks", "client-a")).isTrue();
+    }
+
+    @Test
+    void testRequestsWithoutClientHeaderAreKeyedByRemoteAddress() {
+        admit("GET", "/tasks", null);
+        admit("GET", "/tasks", null);
+
+        assertThatThrownBy(() -> admit("GET", "/tasks", null)).isInstanceOf(RateLimitExceededException.class);
+        MockHttpServletRequest otherHost = request("GET", "/tasks", null);
+        otherHost.setRemoteAddr("10.0.0.2");
+        assertThat(interceptor.preHandle(otherHost, new MockHttpServletResponse(), new Object())).isTrue();
+    }
+
+    @Test
+    void testUnknownKeysShareTheBucketOfTheirAddress() {
+        admit("GET", "/tasks", "made-up-1");
+        admit("GET", "/tasks", "made-up-2");
+
+        assertThatThrownBy(() -> admit("GET", "/tasks", "made-up-3")).isInstanceOf(RateLimitExceededException.class);
+        assertThatThrownBy(() -> admit("GET", "/tasks", null)).isInstanceOf(RateLimitExceededException.class);
+        assertThat(admit("GET", "/tasks", "client-a")).isTrue();
+    }
+
+    @Test
+    void testUnlimitedRouteIsNeverThrottled() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(admit("GET", "/tasks/changes", "client-a")).isTrue();
+        }
+    }
+
+    @Test
+    void testAsyncDispatchIsNotCharged() {
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletRequest dispatch = request("GET", "/tasks", "client-a");
+            dispatch.setDispatcherType(DispatcherType.ASYNC);
+            assertThat(interceptor.preHandle(dispatch, new MockHttpServletResponse(), new Object())).isTrue();
+        }
+
+        assertThat(admit("GET", "/tasks", "client-a")).isTrue();
+    }
+
+    private boolean admit(String method, String pattern, String client) {
+        return interceptor.preHandle(request(method, pattern, client), new MockHttpServletResponse(), new Object());
+    }
+
+    private static MockHttpServletRequest request(String method, String pattern, String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        if (client != null) {
+            request.addHeader(ClientIdentity.HEADER, client);
+        }
+        return request;
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(Map.of(
+                "GET /tasks", new RateLimitProperties.Limit(2, 0.01),
+                "GET /tasks/changes", new RateLimitProperties.Limit(0, 1)));
+        return properties;
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.jtech.tasklist.config.infra.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void testFullBucketAcceptsABurstOfCapacity() {
+        TokenBucket bucket = new TokenBucket(5, 1, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(0)).isZero();
+        }
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void testTokensComeBackAtTheRefillRate() {
+        TokenBucket bucket = new TokenBucket(2, 10, 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        assertThat(bucket.tryAcquire(SECOND / 20)).isEqualTo(SECOND / 20);
+        assertThat(bucket.tryAcquire(SECOND / 10)).isZero();
+        assertThat(bucket.tryAcquire(SECOND / 10)).isEqualTo(SECOND / 10);
+    }
+
+    @Test
+    void testIdleBucketRefillsOnlyUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        long later = 60 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryAcquire(later)).isZero();
+        }
+        assertThat(bucket.tryAcquire(later)).isPositive();
+    }
+
+    @Test
+    void testConcurrentCallersNeverTakeMoreThanCapacity() throws Exception {
+        TokenBucket bucket = new TokenBucket(100, 0.001, 0);
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(8)) {
+            List<Future<Long>> admitted = IntStream.range(0, 8)
+                    .mapToObj(i -> callers.submit(() -> IntStream.range(0, 1_000)
+                            .filter(n -> bucket.tryAcquire(SECOND) == 0)
+                            .count()))
+                    .toList();
+            long total = 0;
+            for (Future<Long> count : admitted) {
+                total += count.get(5, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(100);
+        }
+    }
+
+    @Test
+    void testNonPositiveRefillIsRejected() {
+        assertThatThrownBy(() -> new TokenBucket(5, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(5, -1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
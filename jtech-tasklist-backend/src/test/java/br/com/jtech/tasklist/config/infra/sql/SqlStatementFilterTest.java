@@ -0,0 +1,84 @@
+package br.com.jtech.tasklist.config.infra.sql;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementFilterTest {
+    private HikariDataSource pool;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:sqlstats;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(new CountingDataSource(pool));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS items (id BIGINT)");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void testStatementsOfTheRequestAreCountedAndSentBeforeTheBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new SqlStatementFilter(meterRegistry, true).doFilter(request, response, chain(() -> {
+            jdbcTemplate.update("INSERT INTO items VALUES (1)");
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Long.class);
+            jdbcTemplate.batchUpdate("INSERT INTO items VALUES (?)", List.of(new Object[]{2}, new Object[]{3}));
+        }));
+
+        SqlStatementStats stats = (SqlStatementStats) request.getAttribute(SqlStatementStats.ATTRIBUTE);
+        // The batch is one round trip
+        assertThat(stats.statements()).isEqualTo(3);
+        assertThat(response.getHeader(SqlStatementFilter.STATEMENTS_HEADER)).isEqualTo("3");
+        assertThat(response.getHeader(SqlStatementFilter.TIME_HEADER)).matches("\\d+\\.\\d{3}");
+        assertThat(meterRegistry.get("tasklist.http.sql.statements").tags("method", "GET", "uri", "UNKNOWN")
+                .summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void testStatementsOutsideARequestAreNotCountedAndHeadersAreOptional() throws Exception {
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Long.class);
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/items/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new SqlStatementFilter(meterRegistry, false).doFilter(request, response, chain(() ->
+                jdbcTemplate.update("DELETE FROM items WHERE id = 1")));
+
+        assertThat(((SqlStatementStats) request.getAttribute(SqlStatementStats.ATTRIBUTE)).statements()).isEqualTo(1);
+        assertThat(response.getHeader(SqlStatementFilter.STATEMENTS_HEADER)).isNull();
+        // The pool is still reachable behind the wrapper
+        assertThat(jdbcTemplate.getDataSource().unwrap(HikariDataSource.class)).isSameAs(pool);
+    }
+
+    private static MockFilterChain chain(Runnable work) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                work.run();
+                response.getWriter().write("ok");
+            }
+        });
+    }
+}
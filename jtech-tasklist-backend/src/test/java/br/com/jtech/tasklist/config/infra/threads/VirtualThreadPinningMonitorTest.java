@@ -0,0 +1,65 @@
+package br.com.jtech.tasklist.config.infra.threads;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void testBlockingInsideSynchronizedIsRecorded() throws Exception {
+        Object lock = new Object();
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(100);
+            }
+        }).join();
+
+        // JFR hands events to the stream about once per second
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pinnedCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(pinnedCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void testBlockingOutsideMonitorsIsNotRecorded() throws Exception {
+        Thread.ofVirtual().start(() -> sleep(100)).join();
+
+        Thread.sleep(2_000);
+        assertThat(pinnedCount()).isZero();
+    }
+
+    private long pinnedCount() {
+        return meterRegistry.get("jvm.threads.virtual.pinned").timer().count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
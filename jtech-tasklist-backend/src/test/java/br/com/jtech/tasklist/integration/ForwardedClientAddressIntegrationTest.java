@@ -0,0 +1,49 @@
+package br.com.jtech.tasklist.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rate limiting over real connections with the trusted proxy set to another host (192.0.2.1): the
+ * test client is then an ordinary caller, and the X-Forwarded-For it sends must not pick its bucket.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:forwarded_test;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false",
+        "server.tomcat.remoteip.internal-proxies=192\\\\.0\\\\.2\\\\.1",
+        "tasklist.rate-limit.enabled=true",
+        "tasklist.rate-limit.default-limit.capacity=1",
+        "tasklist.rate-limit.default-limit.refill-per-second=0.001"
+})
+@ActiveProfiles("test")
+class ForwardedClientAddressIntegrationTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void testSpoofedForwardedForDoesNotGetANewBucket() throws Exception {
+        assertThat(getTask("203.0.113.1").statusCode()).isEqualTo(200);
+
+        HttpResponse<String> spoofed = getTask("203.0.113.2");
+
+        assertThat(spoofed.statusCode()).isEqualTo(429);
+        assertThat(spoofed.headers().firstValue("Retry-After")).isPresent();
+    }
+
+    private HttpResponse<String> getTask(String forwardedFor) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks/1"))
+                        .header("X-Forwarded-For", forwardedFor)
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
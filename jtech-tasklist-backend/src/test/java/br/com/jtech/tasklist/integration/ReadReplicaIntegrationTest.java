@@ -0,0 +1,71 @@
+package br.com.jtech.tasklist.integration;
+
+import br.com.jtech.tasklist.config.infra.client.ClientIdentity;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Replica routing against a replica that never catches up: a second H2 database migrated once and
+ * then left alone, so every write made through the API is missing from it.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaIntegrationTest.PRIMARY_URL,
+        "tasklist.datasource.replica.enabled=true",
+        "tasklist.datasource.replica.jdbc-url=" + ReadReplicaIntegrationTest.REPLICA_URL,
+        "tasklist.datasource.replica.username=sa",
+        "tasklist.datasource.replica.password=",
+        "tasklist.datasource.replica.read-your-writes=1m",
+        "tasklist.clients.api-keys=writer,reader"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaIntegrationTest {
+    static final String PRIMARY_URL = "jdbc:h2:mem:replica_test_primary;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false";
+    static final String REPLICA_URL = "jdbc:h2:mem:replica_test_replica;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false";
+    // First seeded task, PENDING in both databases after the migrations
+    private static final long TASK_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void testStaleReplicaReadIsNotCachedForTheWriter() throws Exception {
+        mockMvc.perform(patch("/tasks/status")
+                        .header(ClientIdentity.HEADER, "writer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [" + TASK_ID + "], \"status\": \"concluída\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(1));
+
+        // Another client reads from the lagging replica and gets the old status
+        mockMvc.perform(get("/tasks/{id}", TASK_ID).header(ClientIdentity.HEADER, "reader"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("pendente"));
+
+        // The writer is pinned to the primary and must not be served that read from the cache
+        mockMvc.perform(get("/tasks/{id}", TASK_ID).header(ClientIdentity.HEADER, "writer"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("concluída"));
+    }
+}
@@ -1,23 +1,69 @@
 package br.com.jtech.tasklist.integration;
 
+import br.com.jtech.tasklist.adapters.input.protocols.TaskCursorCodec;
 import br.com.jtech.tasklist.adapters.input.protocols.TaskResponse;
+import br.com.jtech.tasklist.adapters.output.search.TaskSearchIndex;
+import br.com.jtech.tasklist.application.core.domains.Task;
 import br.com.jtech.tasklist.application.core.domains.TaskStatus;
+import br.com.jtech.tasklist.application.core.domains.TaskSyncToken;
+import br.com.jtech.tasklist.application.core.usecases.ArchiveDoneTasksUseCase;
+import br.com.jtech.tasklist.application.core.usecases.CompactTaskTombstonesUseCase;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.jtech.tasklist.support.SqlStatementMatchers.sqlStatements;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -35,10 +81,36 @@ class TaskIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CompactTaskTombstonesUseCase compactTaskTombstonesUseCase;
+
+    @Autowired
+    private ArchiveDoneTasksUseCase archiveDoneTasksUseCase;
+
+    @Autowired
+    private Cache<Long, Task> taskCache;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @LocalServerPort
+    private int port;
+
     @BeforeEach
     void setUp() throws Exception {
-        // Cleanup tasks before each test (optional, depends on test isolation needs)
-        // In this case, Flyway migrations and schema reset handle it
+        // The schema comes from Flyway and is shared by every test in this context,
+        // so start each test from an empty table (triggers keep the counters in step)
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM tasks_archive");
     }
 
     @Test
@@ -151,6 +223,39 @@ class TaskIntegrationTest {
                 .andExpect(jsonPath("$.content[0].status").value("pendente"));
     }
 
+    @Test
+    void testListPagesProjectRowsWithoutLoadingEntities() throws Exception {
+        jdbcTemplate.update("""
+                INSERT INTO tasks (title, description, status, created_at, updated_at)
+                VALUES ('First', 'One', 'PENDING', TIMESTAMP '2025-01-01 10:00:00', TIMESTAMP '2025-01-01 10:00:00'),
+                       ('Second', NULL, 'DONE', TIMESTAMP '2025-01-02 10:00:00', TIMESTAMP '2025-01-03 10:00:00')""");
+        jdbcTemplate.update("UPDATE tasks SET version = 4 WHERE title = 'Second'");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            mockMvc.perform(get("/tasks?sort=updatedAt,desc"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").value(2))
+                    .andExpect(jsonPath("$.content[0].title").value("Second"))
+                    .andExpect(jsonPath("$.content[0].status").value("concluída"))
+                    .andExpect(jsonPath("$.content[0].version").value(4))
+                    .andExpect(jsonPath("$.content[1].title").value("First"))
+                    .andExpect(jsonPath("$.content[1].description").value("One"));
+
+            mockMvc.perform(get("/tasks?slice=true&status=pendente"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.content[0].title").value("First"));
+
+            // Rows went straight into TaskView: nothing was hydrated into the persistence context
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     void testDeleteTask() throws Exception {
         // Create a task
@@ -198,14 +303,798 @@ class TaskIntegrationTest {
 
     @Test
     void testFlywayMigrationExecuted() throws Exception {
-        // If Flyway migrations executed successfully, we should be able to create tasks
+        // If Flyway migrations executed successfully, every script is recorded as applied.
         // This proves that:
         // 1. The database schema was created
-        // 2. Seed data was inserted (V2__seed_tasks.sql)
-        
+        // 2. Seed data was inserted (V2__seed_tasks.sql), before setUp cleared it for isolation
+        Integer failed = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE success = FALSE", Integer.class);
+        Integer seeded = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE script = 'V2__seed_tasks.sql' AND success = TRUE",
+                Integer.class);
+        assertThat(failed).isZero();
+        assertThat(seeded).isEqualTo(1);
+
+        mockMvc.perform(post("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"After migrations\"}"))
+                .andExpect(status().isCreated());
+
         mockMvc.perform(get("/tasks?page=0&size=100"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.content.length()").value(greaterThan(0))) // Seed data exists
+                .andExpect(jsonPath("$.content.length()").value(greaterThan(0)))
                 .andExpect(jsonPath("$.totalElements").value(greaterThan(0)));
     }
+
+    @Test
+    void testListTasksByCursorWalksEveryTaskOnce() throws Exception {
+        for (int i = 1; i <= 7; i++) {
+            mockMvc.perform(post("/tasks")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"title\": \"Cursor Task " + i + "\", \"status\": \"pendente\"}"))
+                    .andExpect(status().isCreated());
+        }
+
+        Set<Long> seen = new HashSet<>();
+        String after = null;
+        int pages = 0;
+        do {
+            String url = "/tasks?limit=3&status=pendente" + (after != null ? "&after=" + after : "");
+            String body = mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            JsonNode page = objectMapper.readTree(body);
+            for (JsonNode item : page.get("content")) {
+                long id = item.get("id").asLong();
+                assertThat(seen.add(id)).isTrue();
+                assertThat(item.get("status").asText()).isEqualTo("pendente");
+            }
+            after = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (after != null && pages < 1000);
+
+        assertThat(seen.size()).isGreaterThanOrEqualTo(7);
+    }
+
+    @Test
+    void testListTasksSliceWithMaintainedTotals() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(post("/tasks")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"title\": \"Slice Task " + i + "\", \"status\": \"pendente\"}"))
+                    .andExpect(status().isCreated());
+        }
+        String created = mockMvc.perform(post("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Slice Task 4\", \"status\": \"pendente\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        TaskResponse task = objectMapper.readValue(created, TaskResponse.class);
+
+        mockMvc.perform(get("/tasks?slice=true&page=0&size=2&withTotal=true&status=pendente"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").value(4));
+
+        // Status change and delete move the counters without a table scan
+        mockMvc.perform(put("/tasks/" + task.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"concluída\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/tasks?slice=true&withTotal=true&status=concluída"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+
+        mockMvc.perform(delete("/tasks/" + task.id()))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/tasks?slice=true&page=1&size=2&withTotal=true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").value(3));
+    }
+
+    @Test
+    void testRepeatedGetIsServedFromCacheAndReported() throws Exception {
+        String created = mockMvc.perform(post("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Cached Task\", \"status\": \"pendente\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        TaskResponse task = objectMapper.readValue(created, TaskResponse.class);
+
+        mockMvc.perform(get("/tasks/" + task.id())).andExpect(status().isOk());
+        mockMvc.perform(get("/tasks/" + task.id()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Cached Task"));
+
+        mockMvc.perform(get("/actuator/metrics/cache.gets?tag=cache:tasks&tag=result:hit"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").value(greaterThan(0.0)));
+    }
+
+    @Test
+    void testCreateTasksBatchInsertsAllInOrder() throws Exception {
+        String body = "[{\"title\": \"Batch 1\"}, {\"title\": \"Batch 2\", \"status\": \"concluída\"}, {\"title\": \"Batch 3\"}]";
+
+        String response = mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].title").value("Batch 1"))
+                .andExpect(jsonPath("$[1].status").value("concluída"))
+                .andExpect(jsonPath("$[2].status").value("pendente"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        TaskResponse[] created = objectMapper.readValue(response, TaskResponse[].class);
+        // Ids come from one pre-allocated sequence block
+        assertThat(created[1].id()).isGreaterThan(created[0].id());
+        assertThat(created[2].id()).isGreaterThan(created[1].id());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class)).isEqualTo(3L);
+    }
+
+    @Test
+    void testCreateTasksBatchWithInvalidItemCreatesNothing() throws Exception {
+        String body = "[{\"title\": \"Valid\"}, {\"title\": \"" + "a".repeat(121) + "\"}]";
+
+        mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("[1].title"));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class)).isZero();
+    }
+
+    @Test
+    void testBulkStatusTransitionByIdsAndByFilter() throws Exception {
+        String response = mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"title\": \"Bulk 1\"}, {\"title\": \"Bulk 2\"}, {\"title\": \"Bulk 3\"}]"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        TaskResponse[] created = objectMapper.readValue(response, TaskResponse[].class);
+        long missingId = created[2].id() + 1_000_000;
+
+        // Warm the cache so the bulk path has to invalidate it
+        mockMvc.perform(get("/tasks/" + created[0].id())).andExpect(jsonPath("$.status").value("pendente"));
+
+        mockMvc.perform(patch("/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [" + created[0].id() + ", " + created[1].id() + ", " + missingId + "], \"status\": \"concluída\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(2))
+                .andExpect(jsonPath("$.missingIds[0]").value(missingId));
+
+        mockMvc.perform(get("/tasks/" + created[0].id())).andExpect(jsonPath("$.status").value("concluída"));
+        mockMvc.perform(get("/tasks?slice=true&withTotal=true&status=concluída"))
+                .andExpect(jsonPath("$.totalElements").value(2));
+
+        mockMvc.perform(patch("/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"fromStatus\": \"concluída\", \"status\": \"pendente\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(2));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE status = 'PENDING'", Long.class))
+                .isEqualTo(3L);
+    }
+
+    @Test
+    void testUpdateWritesOnlySuppliedFieldsAndReturnsStoredRow() throws Exception {
+        String created = mockMvc.perform(post("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Patch me\", \"description\": \"Keep me\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        TaskResponse task = objectMapper.readValue(created, TaskResponse.class);
+
+        mockMvc.perform(put("/tasks/" + task.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Patched\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(task.id()))
+                .andExpect(jsonPath("$.title").value("Patched"))
+                .andExpect(jsonPath("$.description").value("Keep me"))
+                .andExpect(jsonPath("$.status").value("pendente"))
+                .andExpect(jsonPath("$.createdAt").value(task.createdAt().toString()));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT title FROM tasks WHERE id = ?", String.class, task.id())).isEqualTo("Patched");
+
+        mockMvc.perform(put("/tasks/" + (task.id() + 1_000_000))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Nobody\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testConcurrentDeletesOfSameTaskSucceedExactlyOnce() throws Exception {
+        String created = mockMvc.perform(post("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Raced\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        TaskResponse task = objectMapper.readValue(created, TaskResponse.class);
+
+        int racers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(racers);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < racers; i++) {
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(delete("/tasks/" + task.id())).andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+
+            List<Integer> results = new ArrayList<>();
+            for (Future<Integer> status : statuses) {
+                results.add(status.get());
+            }
+            assertThat(results).containsOnlyOnce(204);
+            assertThat(results).filteredOn(code -> code == 404).hasSize(racers - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testListETagChangesOnEveryKindOfWrite() throws Exception {
+        String created = mockMvc.perform(post("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Polled\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        TaskResponse task = objectMapper.readValue(created, TaskResponse.class);
+
+        String etag = currentListETag();
+        mockMvc.perform(get("/tasks?page=0&size=10").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/tasks/" + task.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"concluída\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"));
+        mockMvc.perform(get("/tasks?page=0&size=10").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+
+        etag = currentListETag();
+        mockMvc.perform(delete("/tasks/" + task.id())).andExpect(status().isNoContent());
+        mockMvc.perform(get("/tasks?page=0&size=10").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testListETagChangesForAWriteStampedBeforeTheLatestOne() throws Exception {
+        long latest = create("{\"title\": \"Latest\"}").id();
+        long late = create("{\"title\": \"Late\"}").id();
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ? WHERE id = ?", LocalDateTime.of(2100, 1, 1, 0, 0), latest);
+        String etag = currentListETag();
+
+        // Commits last but carries an older updated_at, leaving max(updated_at) and the total alone
+        jdbcTemplate.update("UPDATE tasks SET title = 'Renamed late', updated_at = ? WHERE id = ?",
+                LocalDateTime.of(2000, 1, 1, 0, 0), late);
+
+        mockMvc.perform(get("/tasks?page=0&size=10").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+        jdbcTemplate.update("DELETE FROM tasks WHERE id IN (?, ?)", latest, late);
+    }
+
+    private String currentListETag() throws Exception {
+        return mockMvc.perform(get("/tasks?page=0&size=10"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+    }
+
+    @Test
+    void testConcurrentIfMatchUpdatesLoseNothing() throws Exception {
+        String created = mockMvc.perform(post("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"count:0\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        TaskResponse task = objectMapper.readValue(created, TaskResponse.class);
+
+        int writers = 8;
+        int incrementsPerWriter = 10;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                runs.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < incrementsPerWriter; i++) {
+                        // Read-modify-write, retried until the If-Match precondition holds
+                        while (true) {
+                            MvcResult read = mockMvc.perform(get("/tasks/" + task.id())).andReturn();
+                            String etag = read.getResponse().getHeader("ETag");
+                            TaskResponse current = objectMapper.readValue(read.getResponse().getContentAsString(), TaskResponse.class);
+                            int count = Integer.parseInt(current.title().substring("count:".length()));
+
+                            int status = mockMvc.perform(put("/tasks/" + task.id())
+                                            .header("If-Match", etag)
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .content("{\"title\": \"count:" + (count + 1) + "\"}"))
+                                    .andReturn()
+                                    .getResponse()
+                                    .getStatus();
+                            if (status == 200) {
+                                break;
+                            }
+                            // A concurrent writer won; without If-Match this would be a lost update
+                            assertThat(status).isEqualTo(412);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int expected = writers * incrementsPerWriter;
+        mockMvc.perform(get("/tasks/" + task.id()))
+                .andExpect(jsonPath("$.title").value("count:" + expected))
+                .andExpect(jsonPath("$.version").value(expected));
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM tasks WHERE id = ?", Long.class, task.id()))
+                .isEqualTo((long) expected);
+    }
+
+    @Test
+    void testExportStreamsFilteredTasksInIdOrder() throws Exception {
+        mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"title\": \"Export A\"}, {\"title\": \"Export B\", \"status\": \"concluída\"}, "
+                        + "{\"title\": \"Export, C\", \"description\": \"has \\\"quotes\\\"\"}]"))
+                .andExpect(status().isCreated());
+
+        MvcResult ndjson = mockMvc.perform(get("/tasks/export").param("status", "pendente"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String[] lines = mockMvc.perform(asyncDispatch(ndjson))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8)
+                .split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("Export A");
+        assertThat(objectMapper.readTree(lines[1]).get("title").asText()).isEqualTo("Export, C");
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong())
+                .isLessThan(objectMapper.readTree(lines[1]).get("id").asLong());
+
+        MvcResult csv = mockMvc.perform(get("/tasks/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(csv))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body.split("\r\n")).hasSize(4);
+        assertThat(body).contains("\"Export, C\",\"has \"\"quotes\"\"\",pendente");
+    }
+
+    @Test
+    void testImportingAnExportRecreatesEveryTask() throws Exception {
+        mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"title\": \"Round trip A\", \"status\": \"concluída\"}, "
+                        + "{\"title\": \"Round, \\\"trip\\\" B\", \"description\": \"two\\nlines\"}]"))
+                .andExpect(status().isCreated());
+
+        MvcResult export = mockMvc.perform(get("/tasks/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String csv = mockMvc.perform(asyncDispatch(export))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        mockMvc.perform(post("/tasks/import")
+                .contentType("text/csv")
+                .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(0));
+
+        List<String> rows = jdbcTemplate.queryForList(
+                "SELECT title || '|' || COALESCE(description, '') || '|' || status FROM tasks ORDER BY id", String.class);
+        assertThat(rows).hasSize(4);
+        assertThat(rows.subList(2, 4)).containsExactlyElementsOf(rows.subList(0, 2));
+        // Imported rows get fresh ids, version 0 and maintained counters
+        mockMvc.perform(get("/tasks").param("slice", "true").param("withTotal", "true").param("status", "concluída"))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    void testImportNdjsonCommitsValidLinesAndReportsTheRest() throws Exception {
+        String body = "{\"title\": \"Imported 1\"}\n"
+                + "{\"title\": \"" + "x".repeat(121) + "\"}\n"
+                + "{\"title\": \"Imported 2\", \"status\": \"concluída\"}\n";
+
+        mockMvc.perform(post("/tasks/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[0].field").value("title"))
+                .andExpect(jsonPath("$.errors[0].message").value("Title must not exceed 120 characters"));
+
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM tasks ORDER BY id", String.class))
+                .containsExactly("Imported 1", "Imported 2");
+        assertThat(jdbcTemplate.queryForList("SELECT version FROM tasks", Long.class)).containsOnly(0L);
+    }
+
+    @Test
+    void testSearchRanksPagesAndFollowsEveryKindOfWrite() throws Exception {
+        String response = mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"title\": \"Descrever o ornitorrinco\", \"description\": \"Relatório curto\"}, "
+                        + "{\"title\": \"Planilha\", \"description\": \"Ornitorrinco no apêndice\"}, "
+                        + "{\"title\": \"Ornitorrinco: revisão\", \"description\": \"Relatório do ornitorrinco\"}]"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        TaskResponse[] created = objectMapper.readValue(response, TaskResponse[].class);
+
+        // Title and description match > title only > description only; one task per window
+        List<Long> walked = new ArrayList<>();
+        String after = null;
+        do {
+            var request = get("/tasks/search").param("q", "ornitorrinco").param("limit", "1");
+            if (after != null) {
+                request.param("after", after);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString(StandardCharsets.UTF_8));
+            page.get("content").forEach(task -> walked.add(task.get("id").asLong()));
+            after = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+        } while (after != null);
+        assertThat(walked).containsExactly(created[2].id(), created[0].id(), created[1].id());
+
+        mockMvc.perform(get("/tasks/search").param("q", "relatório ornitorrinco"))
+                .andExpect(jsonPath("$.content.length()").value(2));
+
+        mockMvc.perform(put("/tasks/" + created[0].id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Descrever a capivara\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/tasks/" + created[1].id()))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(post("/tasks/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"title\": \"Capivara importada\"}\n".getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/tasks/search").param("q", "ornitorrinco"))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(created[2].id()));
+        mockMvc.perform(get("/tasks/search").param("q", "CAPIVARA"))
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(created[0].id()))
+                .andExpect(jsonPath("$.content[1].title").value("Capivara importada"));
+    }
+
+    @Test
+    void testAbortedExportReleasesItsConnection() throws Exception {
+        // Far more than the socket buffers hold, so the server is still writing when the client leaves
+        jdbcTemplate.update("""
+                INSERT INTO tasks (title, description, status, created_at, updated_at)
+                SELECT 'Export ' || X, REPEAT('x', 500), 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, 50000)""");
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<InputStream> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks/export")).build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            assertThat(reader.readLine()).contains("\"title\":\"Export 1\"");
+        }
+
+        // The next failed write ends the scan; the cursor's connection must go back to the pool
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pool.getActiveConnections() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(pool.getActiveConnections()).isZero();
+        mockMvc.perform(get("/tasks").param("slice", "true").param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(50000));
+    }
+
+    @Test
+    void testEventStreamPushesCommittedChangesAndResumesFromLastEventId() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            HttpResponse<InputStream> live = client.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks/events")).build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            assertThat(live.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type).startsWith("text/event-stream"));
+            BufferedReader stream = new BufferedReader(new InputStreamReader(live.body(), StandardCharsets.UTF_8));
+            assertThat(nextEvent(reader, stream).get("event")).isEqualTo("ready");
+
+            String response = mockMvc.perform(post("/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\": \"Evento ao vivo\", \"status\": \"pendente\"}"))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            TaskResponse created = objectMapper.readValue(response, TaskResponse.class);
+            mockMvc.perform(put("/tasks/" + created.id())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\": \"Evento editado\", \"status\": \"concluída\"}"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(delete("/tasks/" + created.id()))
+                    .andExpect(status().isNoContent());
+
+            Map<String, String> createdEvent = nextEvent(reader, stream);
+            assertThat(createdEvent.get("event")).isEqualTo("created");
+            JsonNode createdData = objectMapper.readTree(createdEvent.get("data"));
+            assertThat(createdData.get("taskId").asLong()).isEqualTo(created.id());
+            assertThat(createdData.get("task").get("title").asText()).isEqualTo("Evento ao vivo");
+            Map<String, String> updatedEvent = nextEvent(reader, stream);
+            assertThat(updatedEvent.get("event")).isEqualTo("updated");
+            assertThat(objectMapper.readTree(updatedEvent.get("data")).get("task").get("status").asText()).isEqualTo("concluída");
+            assertThat(nextEvent(reader, stream).get("event")).isEqualTo("deleted");
+            live.body().close();
+
+            // A client that saw only the creation gets the rest replayed from the ring
+            HttpResponse<InputStream> resumed = client.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks/events"))
+                            .header("Last-Event-ID", createdEvent.get("id"))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            BufferedReader replay = new BufferedReader(new InputStreamReader(resumed.body(), StandardCharsets.UTF_8));
+            assertThat(nextEvent(reader, replay).get("event")).isEqualTo("updated");
+            Map<String, String> deletedEvent = nextEvent(reader, replay);
+            assertThat(deletedEvent.get("event")).isEqualTo("deleted");
+            assertThat(objectMapper.readTree(deletedEvent.get("data")).get("task").isNull()).isTrue();
+            resumed.body().close();
+        } finally {
+            reader.shutdownNow();
+        }
+    }
+
+    // Reads one SSE event (skipping heartbeat comments) without letting a silent stream hang the test
+    private static Map<String, String> nextEvent(ExecutorService reader, BufferedReader stream) throws Exception {
+        Future<Map<String, String>> event = reader.submit(() -> {
+            Map<String, String> fields = new HashMap<>();
+            for (String line = stream.readLine(); line != null; line = stream.readLine()) {
+                if (line.isEmpty()) {
+                    if (!fields.isEmpty()) {
+                        return fields;
+                    }
+                } else if (!line.startsWith(":")) {
+                    int colon = line.indexOf(':');
+                    fields.merge(line.substring(0, colon), line.substring(colon + 1).stripLeading(), (a, b) -> a + "\n" + b);
+                }
+            }
+            return fields;
+        });
+        return event.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testChangesFeedReturnsOnlyWhatChangedSinceTheToken() throws Exception {
+        TaskResponse first = create("{\"title\": \"Sync primeira\", \"status\": \"pendente\"}");
+        TaskResponse second = create("{\"title\": \"Sync segunda\", \"status\": \"pendente\"}");
+
+        // Initial download, one task per page
+        JsonNode page = changes(null, 1);
+        assertThat(page.get("changed").get(0).get("id").asLong()).isEqualTo(first.id());
+        assertThat(page.get("hasMore").asBoolean()).isTrue();
+        page = changes(page.get("token").asText(), 1);
+        assertThat(page.get("changed").get(0).get("id").asLong()).isEqualTo(second.id());
+        String synced = page.get("token").asText();
+        assertThat(changes(synced, 500).get("changed")).isEmpty();
+
+        mockMvc.perform(put("/tasks/" + first.id())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Sync editada\", \"status\": \"concluída\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/tasks/" + second.id()))
+                .andExpect(status().isNoContent());
+
+        JsonNode delta = changes(synced, 500);
+        assertThat(delta.get("changed")).hasSize(1);
+        assertThat(delta.get("changed").get(0).get("title").asText()).isEqualTo("Sync editada");
+        assertThat(delta.get("deleted")).hasSize(1);
+        assertThat(delta.get("deleted").get(0).asLong()).isEqualTo(second.id());
+        assertThat(changes(delta.get("token").asText(), 500).get("changed")).isEmpty();
+
+        // Tombstones past the retention are compacted; tokens that old must reload everything
+        jdbcTemplate.update("UPDATE task_tombstones SET deleted_at = DATEADD('DAY', -31, deleted_at) WHERE task_id = ?", second.id());
+        assertThat(compactTaskTombstonesUseCase.execute()).isPositive();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_tombstones WHERE task_id = ?", Long.class, second.id())).isZero();
+        String expired = TaskCursorCodec.encode(new TaskSyncToken(0L, Instant.now().minus(Duration.ofDays(31))));
+        mockMvc.perform(get("/tasks/changes").param("since", expired))
+                .andExpect(status().isGone());
+    }
+
+    @Test
+    void testUseCaseAndRepositoryLatencyIsScrapedWithHistogramBuckets() throws Exception {
+        create("{\"title\": \"Metrificada\", \"status\": \"pendente\"}");
+        mockMvc.perform(get("/tasks").param("status", "pendente").param("size", "5"))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("tasklist_usecase_seconds_bucket{component=\"ListTasksUseCase\"")
+                .contains("tasklist_repository_seconds_count{component=\"TaskRepositoryPort\"")
+                .contains("quantile=\"0.99\"")
+                .containsPattern("tasklist_usecase_seconds_count\\{[^}]*method=\"execute\"[^}]*outcome=\"success\"[^}]*page_size=\"<=20\"[^}]*status=\"pending\"");
+    }
+
+    @Test
+    void testStatementBudgetPerEndpoint() throws Exception {
+        // Sequence block fetch (once per 50 ids) + INSERT
+        MvcResult created = mockMvc.perform(post("/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Contada\", \"status\": \"pendente\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(sqlStatements().atMost(2))
+                .andReturn();
+        long id = objectMapper.readValue(created.getResponse().getContentAsString(), TaskResponse.class).id();
+
+        // UPDATE that returns the row; no SELECT before it
+        mockMvc.perform(put("/tasks/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"concluída\"}"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().count(1));
+        // Served by the read-through cache the write just filled
+        mockMvc.perform(get("/tasks/" + id))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().count(0));
+        // Change marker (sum of the list version slots) and the page itself; no COUNT(*)
+        mockMvc.perform(get("/tasks").param("slice", "true"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements().count(2));
+        // A single DELETE decides found/not found, no existence check first
+        mockMvc.perform(delete("/tasks/" + id))
+                .andExpect(status().isNoContent())
+                .andExpect(sqlStatements().count(1));
+        mockMvc.perform(delete("/tasks/" + id))
+                .andExpect(status().isNotFound())
+                .andExpect(sqlStatements().count(1));
+    }
+
+    @Test
+    void testOldCompletedTasksMoveToTheArchiveAndStayReadable() throws Exception {
+        // Inserted directly so the read-through cache has never seen them
+        jdbcTemplate.update("""
+                INSERT INTO tasks (title, description, status, created_at, updated_at)
+                VALUES ('Antiga', NULL, 'DONE', TIMESTAMP '2025-01-01 10:00:00', TIMESTAMP '2025-01-02 10:00:00'),
+                       ('Antiga pendente', NULL, 'PENDING', TIMESTAMP '2025-01-01 11:00:00', TIMESTAMP '2025-01-01 11:00:00')""");
+        TaskResponse recent = create("{\"title\": \"Recente\", \"status\": \"concluída\"}");
+        long oldId = jdbcTemplate.queryForObject("SELECT id FROM tasks WHERE title = 'Antiga'", Long.class);
+
+        // Only the DONE task past the configured age moves; the PENDING one is never archived
+        assertThat(archiveDoneTasksUseCase.execute()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks_archive WHERE id = ?", Long.class, oldId)).isEqualTo(1);
+
+        mockMvc.perform(get("/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2));
+        mockMvc.perform(get("/tasks").param("includeArchived", "true").param("status", "concluída"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(oldId))
+                .andExpect(jsonPath("$.content[1].id").value(recent.id()));
+        mockMvc.perform(get("/tasks/" + oldId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Antiga"))
+                .andExpect(jsonPath("$.status").value("concluída"));
+
+        // Archived tasks are read-only, and delta sync clients see them leave the live list
+        mockMvc.perform(delete("/tasks/" + oldId))
+                .andExpect(status().isNotFound());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_tombstones WHERE task_id = ?", Long.class, oldId)).isEqualTo(1);
+    }
+
+    @Test
+    void testArchivedTasksLeaveTheCacheAndTheSearchIndex() throws Exception {
+        TaskResponse done = create("{\"title\": \"Arquivar o tatu\", \"status\": \"concluída\"}");
+        jdbcTemplate.update("UPDATE tasks SET updated_at = TIMESTAMP '2025-01-02 10:00:00' WHERE id = ?", done.id());
+        mockMvc.perform(get("/tasks/" + done.id()))
+                .andExpect(status().isOk());
+        assertThat(taskCache.getIfPresent(done.id())).isNotNull();
+        assertThat(taskSearchIndex.search("tatu", null, 10)).hasSize(1);
+
+        assertThat(archiveDoneTasksUseCase.execute()).isPositive();
+
+        assertThat(taskCache.getIfPresent(done.id())).isNull();
+        assertThat(taskSearchIndex.search("tatu", null, 10)).isEmpty();
+        mockMvc.perform(get("/tasks/" + done.id()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Arquivar o tatu"));
+    }
+
+    @Test
+    void testRetriedCreateWithIdempotencyKeyInsertsOnce() throws Exception {
+        String body = "{\"title\": \"Idempotente\", \"status\": \"pendente\"}";
+        MvcResult first = mockMvc.perform(post("/tasks")
+                        .header("Idempotency-Key", "retry-storm-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long id = objectMapper.readValue(first.getResponse().getContentAsString(), TaskResponse.class).id();
+
+        // Replayed from the store: same id, no second row
+        mockMvc.perform(post("/tasks")
+                        .header("Idempotency-Key", "retry-storm-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(id));
+        mockMvc.perform(post("/tasks")
+                        .header("Idempotency-Key", "retry-storm-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Outra\"}"))
+                .andExpect(status().isUnprocessableEntity());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE title = 'Idempotente'", Long.class)).isEqualTo(1);
+    }
+
+    private TaskResponse create(String body) throws Exception {
+        String response = mockMvc.perform(post("/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, TaskResponse.class);
+    }
+
+    private JsonNode changes(String since, int limit) throws Exception {
+        MvcResult result = mockMvc.perform(since == null
+                        ? get("/tasks/changes").param("limit", String.valueOf(limit))
+                        : get("/tasks/changes").param("since", since).param("limit", String.valueOf(limit)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
 }
@@ -0,0 +1,46 @@
+package br.com.jtech.tasklist.support;
+
+import br.com.jtech.tasklist.config.infra.sql.SqlStatementStats;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc matchers over the statements counted by {@code SqlStatementFilter}, to pin how many SQL
+ * statements an endpoint may run:
+ * <pre>
+ * mockMvc.perform(delete("/tasks/1")).andExpect(sqlStatements().count(1));
+ * </pre>
+ */
+public final class SqlStatementMatchers {
+
+    private SqlStatementMatchers() {
+    }
+
+    public static SqlStatementMatchers sqlStatements() {
+        return new SqlStatementMatchers();
+    }
+
+    public ResultMatcher count(int expected) {
+        return result -> assertThat(statements(result))
+                .as("SQL statements run by %s", describe(result))
+                .isEqualTo(expected);
+    }
+
+    public ResultMatcher atMost(int maximum) {
+        return result -> assertThat(statements(result))
+                .as("SQL statements run by %s", describe(result))
+                .isLessThanOrEqualTo(maximum);
+    }
+
+    private static int statements(MvcResult result) {
+        Object stats = result.getRequest().getAttribute(SqlStatementStats.ATTRIBUTE);
+        assertThat(stats).as("statement stats (is tasklist.sql-stats.enabled on?)").isNotNull();
+        return ((SqlStatementStats) stats).statements();
+    }
+
+    private static String describe(MvcResult result) {
+        return result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+    }
+}